@@ -0,0 +1,16 @@
+package com.example.interview_scheduler.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Extension point for propagating booking cache invalidations between nodes.
+ * Implementations publish the id of a booking changed on this node and deliver ids
+ * changed on other nodes to the subscribed listener; they should not echo a node's
+ * own publications back to it.
+ */
+public interface BookingCacheInvalidationChannel {
+
+    void publish(Long bookingId);
+
+    void subscribe(Consumer<Long> listener);
+}
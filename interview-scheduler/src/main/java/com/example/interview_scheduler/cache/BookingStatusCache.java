@@ -0,0 +1,81 @@
+package com.example.interview_scheduler.cache;
+
+import com.example.interview_scheduler.model.dto.BookingResponseDTO;
+import com.example.interview_scheduler.service.TransactionHooks;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Bounded in-process cache of booking status responses keyed by booking id.
+ * Writers refresh entries only after their transaction commits, so readers never
+ * observe uncommitted state.
+ */
+@Component
+public class BookingStatusCache {
+
+    private final Cache<Long, BookingResponseDTO> cache;
+    private final BookingCacheInvalidationChannel invalidationChannel;
+
+    public BookingStatusCache(@Value("${booking.cache.max-size:10000}") long maxSize,
+                              @Value("${booking.cache.ttl-seconds:300}") long ttlSeconds,
+                              BookingCacheInvalidationChannel invalidationChannel,
+                              MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.invalidationChannel = invalidationChannel;
+        invalidationChannel.subscribe(this::evictLocal);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "bookingStatus");
+    }
+
+    public BookingResponseDTO get(Long bookingId) {
+        return cache.getIfPresent(bookingId);
+    }
+
+    /**
+     * Populates the cache from a read. Never replaces an entry, so a slow reader
+     * cannot overwrite a newer value stored by a committed write.
+     */
+    public void putIfAbsent(BookingResponseDTO response) {
+        cache.asMap().putIfAbsent(response.id(), response);
+    }
+
+    /**
+     * Stores the new state of a booking once the current transaction commits and
+     * tells other nodes to drop their copy.
+     */
+    public void putAfterCommit(BookingResponseDTO response) {
+        TransactionHooks.afterCommit(() -> {
+            cache.put(response.id(), response);
+            invalidationChannel.publish(response.id());
+        });
+    }
+
+    public void evictAfterCommit(Long bookingId) {
+        TransactionHooks.afterCommit(() -> {
+            cache.invalidate(bookingId);
+            invalidationChannel.publish(bookingId);
+        });
+    }
+
+    public void evictLocal(Long bookingId) {
+        cache.invalidate(bookingId);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+}
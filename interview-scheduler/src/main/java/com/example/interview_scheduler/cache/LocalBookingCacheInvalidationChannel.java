@@ -0,0 +1,17 @@
+package com.example.interview_scheduler.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Single-node channel: there are no other caches to notify.
+ */
+public class LocalBookingCacheInvalidationChannel implements BookingCacheInvalidationChannel {
+
+    @Override
+    public void publish(Long bookingId) {
+    }
+
+    @Override
+    public void subscribe(Consumer<Long> listener) {
+    }
+}
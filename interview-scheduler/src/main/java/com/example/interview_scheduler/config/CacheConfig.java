@@ -0,0 +1,17 @@
+package com.example.interview_scheduler.config;
+
+import com.example.interview_scheduler.cache.BookingCacheInvalidationChannel;
+import com.example.interview_scheduler.cache.LocalBookingCacheInvalidationChannel;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(BookingCacheInvalidationChannel.class)
+    public BookingCacheInvalidationChannel bookingCacheInvalidationChannel() {
+        return new LocalBookingCacheInvalidationChannel();
+    }
+}
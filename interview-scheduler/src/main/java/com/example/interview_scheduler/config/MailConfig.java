@@ -3,6 +3,7 @@ package com.example.interview_scheduler.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
 
@@ -23,9 +24,31 @@ public class MailConfig {
     @Value("${spring.mail.port}")
     private int port;
 
+    @Value("${mail.pool.enabled:true}")
+    private boolean poolEnabled;
+
+    @Value("${mail.pool.max-size:4}")
+    private int poolMaxSize;
+
+    @Value("${mail.pool.idle-timeout-ms:60000}")
+    private long poolIdleTimeoutMs;
+
+    @Value("${mail.pool.max-messages-per-connection:100}")
+    private int poolMaxMessagesPerConnection;
+
+    @Value("${mail.pool.borrow-timeout-ms:10000}")
+    private long poolBorrowTimeoutMs;
+
+    /**
+     * Created on the first send rather than at startup; callers receive a lazy
+     * proxy.
+     */
     @Bean
+    @Lazy
     public JavaMailSender javaMailSender() {
-        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        JavaMailSenderImpl mailSender = poolEnabled
+                ? new PooledJavaMailSender(poolMaxSize, poolIdleTimeoutMs, poolMaxMessagesPerConnection, poolBorrowTimeoutMs)
+                : new JavaMailSenderImpl();
 
         mailSender.setHost(host);
         mailSender.setPort(port);
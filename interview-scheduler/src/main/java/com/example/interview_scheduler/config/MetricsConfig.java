@@ -0,0 +1,79 @@
+package com.example.interview_scheduler.config;
+
+import com.example.interview_scheduler.event.BookingEventBus;
+import com.example.interview_scheduler.metrics.StatementCounter;
+import com.example.interview_scheduler.model.enums.OutboxStatus;
+import com.example.interview_scheduler.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.util.function.Supplier;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCounter());
+    }
+
+    /**
+     * Queries the outbox backlog only when the registry is scraped.
+     */
+    @Bean
+    public MeterBinder emailOutboxMetrics(EmailOutboxRepository emailOutboxRepository) {
+        return registry -> Gauge.builder("email.outbox.pending", emailOutboxRepository,
+                        repository -> repository.countByStatus(OutboxStatus.PENDING))
+                .description("Emails waiting in the outbox")
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder bookingEventMetrics(BookingEventBus bookingEventBus) {
+        return registry -> Gauge.builder("booking.events.subscribers", bookingEventBus, BookingEventBus::getSubscriberCount)
+                .description("Open booking event streams")
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder replicaMetrics(ObjectProvider<ReplicaDataSource> replicaDataSource) {
+        return registry -> replicaDataSource.ifAvailable(replicas -> {
+            Gauge.builder("datasource.replicas.healthy", replicas, ReplicaDataSource::getHealthyCount)
+                    .description("Read replicas that passed their last health check")
+                    .register(registry);
+            Gauge.builder("datasource.replicas.configured", replicas, ReplicaDataSource::getReplicaCount)
+                    .register(registry);
+        });
+    }
+
+    /**
+     * The mail sender is created lazily, so the pool is looked up when the gauges
+     * are read instead of when they are registered.
+     */
+    @Bean
+    public MeterBinder mailPoolMetrics(ObjectProvider<JavaMailSender> javaMailSender,
+                                       @Value("${mail.pool.enabled:true}") boolean poolEnabled) {
+        return registry -> {
+            if (!poolEnabled) {
+                return;
+            }
+            Supplier<PooledJavaMailSender> pool = () -> (PooledJavaMailSender) javaMailSender.getObject();
+            Gauge.builder("mail.pool.idle", pool, p -> p.get().getIdleCount())
+                    .description("Idle pooled SMTP connections")
+                    .register(registry);
+            Gauge.builder("mail.pool.max", pool, p -> p.get().getMaxSize())
+                    .register(registry);
+            FunctionCounter.builder("mail.pool.connections.opened", pool, p -> p.get().getConnectionsOpened())
+                    .description("SMTP connections opened by the pool")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.interview_scheduler.config;
+
+import jakarta.mail.Address;
+import jakarta.mail.AuthenticationFailedException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link JavaMailSenderImpl} that keeps a bounded pool of connected, authenticated
+ * SMTP transports instead of opening a new TCP + STARTTLS + AUTH session for every
+ * {@code send} call. A transport is retired once it has been idle longer than
+ * {@code idleTimeoutMs} or has carried {@code maxMessagesPerConnection} messages.
+ */
+@Slf4j
+public class PooledJavaMailSender extends JavaMailSenderImpl implements DisposableBean {
+
+    private static final String HEADER_MESSAGE_ID = "Message-ID";
+
+    private final ConcurrentLinkedDeque<PooledTransport> idle = new ConcurrentLinkedDeque<>();
+    private final Semaphore permits;
+    private final int maxSize;
+    private final long idleTimeoutMs;
+    private final int maxMessagesPerConnection;
+    private final long borrowTimeoutMs;
+    private final AtomicLong connectionsOpened = new AtomicLong();
+
+    public PooledJavaMailSender(int maxSize, long idleTimeoutMs, int maxMessagesPerConnection, long borrowTimeoutMs) {
+        this.maxSize = maxSize;
+        this.permits = new Semaphore(maxSize, true);
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+        this.borrowTimeoutMs = borrowTimeoutMs;
+    }
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, @Nullable Object[] originalMessages) throws MailException {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        acquirePermit();
+        PooledTransport transport = null;
+        try {
+            for (int i = 0; i < mimeMessages.length; i++) {
+                if (transport == null || transport.isExhausted(maxMessagesPerConnection)) {
+                    closeQuietly(transport);
+                    try {
+                        transport = borrow();
+                    } catch (AuthenticationFailedException ex) {
+                        throw new MailAuthenticationException(ex);
+                    } catch (Exception ex) {
+                        for (int j = i; j < mimeMessages.length; j++) {
+                            failedMessages.put(original(mimeMessages, originalMessages, j), ex);
+                        }
+                        transport = null;
+                        throw new MailSendException("Mail server connection failed", ex, failedMessages);
+                    }
+                }
+
+                MimeMessage mimeMessage = mimeMessages[i];
+                try {
+                    if (mimeMessage.getSentDate() == null) {
+                        mimeMessage.setSentDate(new Date());
+                    }
+                    String messageId = mimeMessage.getMessageID();
+                    mimeMessage.saveChanges();
+                    if (messageId != null) {
+                        mimeMessage.setHeader(HEADER_MESSAGE_ID, messageId);
+                    }
+                    Address[] addresses = mimeMessage.getAllRecipients();
+                    transport.send(mimeMessage, addresses != null ? addresses : new Address[0]);
+                } catch (Exception ex) {
+                    failedMessages.put(original(mimeMessages, originalMessages, i), ex);
+                    if (!transport.delegate.isConnected()) {
+                        closeQuietly(transport);
+                        transport = null;
+                    }
+                }
+            }
+        } finally {
+            if (transport != null) {
+                giveBack(transport);
+            }
+            permits.release();
+        }
+
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    /**
+     * Closes pooled connections that have been idle for longer than the idle timeout.
+     */
+    @Scheduled(fixedDelayString = "${mail.pool.eviction-interval-ms:30000}")
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+        Iterator<PooledTransport> it = idle.descendingIterator();
+        while (it.hasNext()) {
+            PooledTransport transport = it.next();
+            if (transport.isIdleSince(now, idleTimeoutMs) && idle.remove(transport)) {
+                closeQuietly(transport);
+            }
+        }
+    }
+
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getConnectionsOpened() {
+        return connectionsOpened.get();
+    }
+
+    @Override
+    public void destroy() {
+        PooledTransport transport;
+        while ((transport = idle.pollFirst()) != null) {
+            closeQuietly(transport);
+        }
+    }
+
+    private void acquirePermit() {
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new MailSendException("Timed out waiting for a pooled SMTP connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MailSendException("Interrupted while waiting for a pooled SMTP connection", e);
+        }
+    }
+
+    private PooledTransport borrow() throws MessagingException {
+        long now = System.currentTimeMillis();
+        PooledTransport transport;
+        while ((transport = idle.pollFirst()) != null) {
+            if (!transport.isIdleSince(now, idleTimeoutMs) && transport.delegate.isConnected()) {
+                return transport;
+            }
+            closeQuietly(transport);
+        }
+        connectionsOpened.incrementAndGet();
+        return new PooledTransport(connectTransport());
+    }
+
+    private void giveBack(PooledTransport transport) {
+        if (transport.isExhausted(maxMessagesPerConnection)) {
+            closeQuietly(transport);
+            return;
+        }
+        transport.lastUsedAt = System.currentTimeMillis();
+        idle.offerFirst(transport);
+    }
+
+    private static Object original(MimeMessage[] mimeMessages, @Nullable Object[] originalMessages, int index) {
+        return originalMessages != null ? originalMessages[index] : mimeMessages[index];
+    }
+
+    private static void closeQuietly(@Nullable PooledTransport transport) {
+        if (transport == null) {
+            return;
+        }
+        try {
+            transport.delegate.close();
+        } catch (Exception ex) {
+            log.debug("Failed to close SMTP transport", ex);
+        }
+    }
+
+    private static final class PooledTransport {
+
+        private final Transport delegate;
+        private int messagesSent;
+        private long lastUsedAt = System.currentTimeMillis();
+
+        private PooledTransport(Transport delegate) {
+            this.delegate = delegate;
+        }
+
+        private void send(MimeMessage message, Address[] addresses) throws MessagingException {
+            messagesSent++;
+            delegate.sendMessage(message, addresses);
+        }
+
+        private boolean isExhausted(int maxMessages) {
+            return maxMessages > 0 && messagesSent >= maxMessages;
+        }
+
+        private boolean isIdleSince(long now, long idleTimeoutMs) {
+            return now - lastUsedAt > idleTimeoutMs;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.interview_scheduler.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Hands out connections to the read replicas in turn, skipping any that failed
+ * their last health check, and falls back to the primary when none is healthy or
+ * the current request must read its own writes. Used as the read-only target of
+ * the routing proxy, so only read-only transactions ever reach it.
+ */
+@Slf4j
+public class ReplicaDataSource extends AbstractDataSource implements DisposableBean {
+
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<? extends DataSource> replicas;
+    private final AtomicIntegerArray healthy;
+    private final AtomicInteger next = new AtomicInteger();
+    private final int validationTimeoutSeconds;
+
+    public ReplicaDataSource(DataSource primary, List<? extends DataSource> replicas, int validationTimeoutSeconds) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.healthy = new AtomicIntegerArray(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            healthy.set(i, 1);
+        }
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+    }
+
+    /**
+     * Sends the current thread's reads to the primary until {@link #unpin()}.
+     */
+    public static void pinToPrimary() {
+        PRIMARY_ONLY.set(Boolean.TRUE);
+    }
+
+    public static void unpin() {
+        PRIMARY_ONLY.remove();
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return PRIMARY_ONLY.get() != null;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (PRIMARY_ONLY.get() == null) {
+            int count = replicas.size();
+            int start = Math.floorMod(next.getAndIncrement(), count);
+            for (int i = 0; i < count; i++) {
+                int index = (start + i) % count;
+                if (healthy.get(index) == 0) {
+                    continue;
+                }
+                try {
+                    return replicas.get(index).getConnection();
+                } catch (SQLException e) {
+                    markDown(index, e);
+                }
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) {
+        throw new UnsupportedOperationException("Replica connections use the configured credentials");
+    }
+
+    /**
+     * Validates one connection per replica. A replica that fails is skipped until a
+     * later check succeeds.
+     */
+    @Scheduled(fixedDelayString = "${datasource.replicas.health-check-interval-ms:5000}")
+    public void checkHealth() {
+        for (int i = 0; i < replicas.size(); i++) {
+            try (Connection connection = replicas.get(i).getConnection()) {
+                if (connection.isValid(validationTimeoutSeconds)) {
+                    if (healthy.getAndSet(i, 1) == 0) {
+                        log.info("Read replica {} is healthy again", i);
+                    }
+                } else {
+                    markDown(i, null);
+                }
+            } catch (SQLException e) {
+                markDown(i, e);
+            }
+        }
+    }
+
+    public int getHealthyCount() {
+        int count = 0;
+        for (int i = 0; i < healthy.length(); i++) {
+            count += healthy.get(i);
+        }
+        return count;
+    }
+
+    public int getReplicaCount() {
+        return replicas.size();
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        for (DataSource replica : replicas) {
+            if (replica instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private void markDown(int index, SQLException cause) {
+        if (healthy.getAndSet(index, 0) == 1) {
+            log.warn("Read replica {} is unavailable; routing its reads elsewhere", index, cause);
+        }
+    }
+}
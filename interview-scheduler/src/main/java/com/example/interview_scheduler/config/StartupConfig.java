@@ -0,0 +1,35 @@
+package com.example.interview_scheduler.config;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+public class StartupConfig {
+
+    private static final String API_DOCS_PACKAGE = "org.springdoc.";
+
+    /**
+     * The OpenAPI document and Swagger UI are only built when someone asks for
+     * them, so a new instance can take traffic before they are. Controllers are
+     * resolved by name when first called, which lets Spring MVC map the
+     * endpoints without creating the beans behind them.
+     */
+    @Bean
+    public static BeanFactoryPostProcessor lazyApiDocs() {
+        return beanFactory -> {
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                if (definition instanceof AbstractBeanDefinition bean && bean.getLazyInit() != null) {
+                    continue;
+                }
+                Class<?> type = beanFactory.getType(name, false);
+                if (type != null && type.getName().startsWith(API_DOCS_PACKAGE)) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+}
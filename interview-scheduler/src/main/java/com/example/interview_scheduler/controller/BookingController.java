@@ -1,18 +1,61 @@
 package com.example.interview_scheduler.controller;
 
+import com.example.interview_scheduler.event.BookingEventBus;
+import com.example.interview_scheduler.exception.AdmissionRejectedException;
 import com.example.interview_scheduler.exception.BookingException;
+import com.example.interview_scheduler.model.dto.AvailabilityDTO;
+import com.example.interview_scheduler.model.dto.BatchBookingResultDTO;
+import com.example.interview_scheduler.model.dto.BookingFilterDTO;
+import com.example.interview_scheduler.model.dto.BookingPageDTO;
 import com.example.interview_scheduler.model.dto.BookingRequestDTO;
 import com.example.interview_scheduler.model.dto.BookingResponseDTO;
 import com.example.interview_scheduler.model.dto.InviteResponseDTO;
+import com.example.interview_scheduler.model.enums.BookingStatus;
+import com.example.interview_scheduler.model.enums.ExportFormat;
+import com.example.interview_scheduler.model.enums.MeetingPlatform;
+import com.example.interview_scheduler.ratelimit.AdmissionControl;
 import com.example.interview_scheduler.response.BaseResponse;
+import com.example.interview_scheduler.service.AvailabilityService;
+import com.example.interview_scheduler.service.BookingExportService;
 import com.example.interview_scheduler.service.BookingService;
+import com.example.interview_scheduler.service.CalendarFeedService;
+import com.example.interview_scheduler.service.IdempotencyService;
+import com.example.interview_scheduler.service.OptimisticRetry;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
 
 @Slf4j
 @RestController
@@ -22,27 +65,217 @@ import org.springframework.web.bind.annotation.*;
 
 public class BookingController {
 
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final String CLIENT_ID_HEADER = "X-Client-Id";
+    private static final String SYNC_TOKEN_HEADER = "X-Sync-Token";
+    private static final MediaType TEXT_CALENDAR = MediaType.parseMediaType("text/calendar;charset=UTF-8");
+
     private final BookingService bookingService;
+    private final AvailabilityService availabilityService;
+    private final IdempotencyService idempotencyService;
+    private final BookingEventBus bookingEventBus;
+    private final BookingExportService bookingExportService;
+    private final ObjectMapper objectMapper;
+    private final AdmissionControl admissionControl;
+    private final CalendarFeedService calendarFeedService;
+    private final OptimisticRetry optimisticRetry;
 
 
     @PostMapping
     @Operation(
             summary = "Schedule a new interview booking",
-            description = "Creates a new interview booking and sends an invite to the recipient."
+            description = "Creates a new interview booking and sends an invite to the recipient. Retries that repeat "
+                    + "the same Idempotency-Key replay the original result instead of booking again."
     )
     public ResponseEntity<BaseResponse<BookingResponseDTO>> createBooking(
-            @Valid @RequestBody BookingRequestDTO dto) {
-        log.info("Request received to create booking for candidate={} interviewer={}", dto.candidateName(), dto.interviewerName());
+            @Valid @RequestBody BookingRequestDTO dto,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestHeader(value = CLIENT_ID_HEADER, required = false) String clientId,
+            HttpServletRequest request) {
+        log.debug("Request received to create booking for candidate={} interviewer={}", dto.candidateName(), dto.interviewerName());
+        String client = clientId(clientId, request);
+        try (AdmissionControl.Permit permit = admissionControl.admit("createBooking", request.getRemoteAddr(), dto.recipients())) {
+            IdempotencyService.Result<BookingResponseDTO> result = idempotent("createBooking", client, idempotencyKey, dto,
+                    () -> bookingService.createBooking(dto));
+            BookingResponseDTO response = result.value();
+            log.debug("Booking created successfully with id={}", response.id());
+            return ResponseEntity.ok()
+                    .eTag(etag(response.version()))
+                    .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.replayed()))
+                    .body(BaseResponse.success("Booking created successfully", response, 200));
+        } catch (AdmissionRejectedException e) {
+            return rejected(e);
+        } catch (BookingException e) {
+            log.debug("Failed to create booking: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(BaseResponse.failure(e.getMessage(), 400));
+        } catch (Exception e) {
+            log.error("Unexpected error while creating booking", e);
+            return ResponseEntity.status(500).body(BaseResponse.failure("Internal server error", 500));
+        }
+    }
+
+    @GetMapping
+    @Operation(
+            summary = "List interview bookings",
+            description = "Lists bookings ordered by proposed time, filtered by interviewer, candidate, status, platform "
+                    + "and a [from, to) time range. Pass the returned nextCursor to fetch the following page."
+    )
+    public ResponseEntity<BaseResponse<BookingPageDTO>> listBookings(
+            @RequestParam(required = false) String interviewer,
+            @RequestParam(required = false) String candidate,
+            @RequestParam(required = false) BookingStatus status,
+            @RequestParam(required = false) MeetingPlatform platform,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") @Min(1) @Max(MAX_PAGE_SIZE) int size) {
+        log.debug("Listing bookings interviewer={} candidate={} status={} platform={}", interviewer, candidate, status, platform);
         try {
-            BookingResponseDTO response = bookingService.createBooking(dto);
-            log.info("Booking created successfully with id={}", response.id());
+            BookingFilterDTO filter = new BookingFilterDTO(interviewer, candidate, status, platform, from, to);
+            BookingPageDTO page = bookingService.listBookings(filter, cursor, size);
             return ResponseEntity.ok(BaseResponse.success(
-                    "Booking created successfully", response, 200));
+                    "Bookings fetched successfully", page, 200));
         } catch (BookingException e) {
-            log.warn("Failed to create booking: {}", e.getMessage());
+            log.debug("Failed to list bookings: {}", e.getMessage());
             return ResponseEntity.badRequest().body(BaseResponse.failure(e.getMessage(), 400));
         } catch (Exception e) {
-            log.error("Unexpected error while creating booking", e);
+            log.error("Unexpected error while listing bookings", e);
+            return ResponseEntity.status(500).body(BaseResponse.failure("Internal server error", 500));
+        }
+    }
+
+    @GetMapping("/export")
+    @Operation(
+            summary = "Export bookings with their invite responses",
+            description = "Streams every booking matching the filters, one row per invite response, as CSV or "
+                    + "newline-delimited JSON (format=csv|ndjson), ordered by proposed time."
+    )
+    public ResponseEntity<StreamingResponseBody> exportBookings(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) String interviewer,
+            @RequestParam(required = false) String candidate,
+            @RequestParam(required = false) BookingStatus status,
+            @RequestParam(required = false) MeetingPlatform platform,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            HttpServletRequest request) {
+        log.debug("Exporting bookings as {} status={} from={} to={}", format, status, from, to);
+        try {
+            ExportFormat exportFormat = parseFormat(format);
+            BookingFilterDTO filter = new BookingFilterDTO(interviewer, candidate, status, platform, from, to);
+            BookingExportService.Export body = bookingExportService.export(filter, exportFormat);
+            releaseOnCompletion(request, body);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(exportFormat.getMediaType() + ";charset=UTF-8"))
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            "attachment; filename=\"bookings." + exportFormat.getExtension() + "\"")
+                    .body(body);
+        } catch (BookingException e) {
+            log.debug("Failed to export bookings: {}", e.getMessage());
+            int statusCode = e.getReason() == BookingException.Reason.UNAVAILABLE ? 503 : 400;
+            return errorBody(e.getMessage(), statusCode);
+        } catch (Exception e) {
+            log.error("Unexpected error while exporting bookings", e);
+            return errorBody("Internal server error", 500);
+        }
+    }
+
+    @GetMapping("/calendar")
+    @Operation(
+            summary = "iCalendar feed of an interviewer's bookings",
+            description = "Returns the interviewer's bookings as text/calendar. The X-Sync-Token response header "
+                    + "can be passed back as syncToken to receive only the bookings changed since. Once every change "
+                    + "has settled, polls that send the ETag as If-None-Match get 304 until there is a new one."
+    )
+    public ResponseEntity<StreamingResponseBody> getInterviewerCalendar(
+            @RequestParam String interviewer,
+            @RequestParam(defaultValue = "0") long syncToken,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.debug("Fetching calendar of interviewer={} since syncToken={}", interviewer, syncToken);
+        try {
+            if (ifNoneMatch != null) {
+                // Only a tag issued once every change up to the latest had settled can
+                // stand for the current feed; a younger one may hide a late commit.
+                long latestChange = calendarFeedService.getLatestChange(interviewer);
+                String settled = calendarEtag(latestChange, latestChange);
+                if (etagMatches(ifNoneMatch, settled)) {
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                            .eTag(settled)
+                            .cacheControl(CacheControl.noCache())
+                            .build();
+                }
+            }
+            CalendarFeedService.CalendarFeed feed = calendarFeedService.getChangesSince(interviewer, syncToken);
+            byte[] body = feed.calendar().getBytes(StandardCharsets.UTF_8);
+            return ResponseEntity.ok()
+                    .contentType(TEXT_CALENDAR)
+                    .eTag(calendarEtag(feed.syncToken(), feed.latestChange()))
+                    .cacheControl(CacheControl.noCache())
+                    .header(SYNC_TOKEN_HEADER, String.valueOf(feed.syncToken()))
+                    .body(out -> out.write(body));
+        } catch (BookingException e) {
+            log.debug("Failed to build calendar of interviewer={}: {}", interviewer, e.getMessage());
+            return errorBody(e.getMessage(), 400);
+        } catch (Exception e) {
+            log.error("Unexpected error while building calendar of interviewer={}", interviewer, e);
+            return errorBody("Internal server error", 500);
+        }
+    }
+
+    @GetMapping("/availability")
+    @Operation(
+            summary = "Find free interview slots",
+            description = "Returns the free time ranges of at least the given duration for each interviewer within the "
+                    + "[from, to) window, plus the ranges in which all of them are free."
+    )
+    public ResponseEntity<BaseResponse<AvailabilityDTO>> findAvailability(
+            @RequestParam List<String> interviewers,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "60") int durationMinutes) {
+        log.debug("Searching availability for interviewers={} from={} to={}", interviewers, from, to);
+        try {
+            AvailabilityDTO availability = availabilityService.findAvailability(interviewers, from, to, durationMinutes);
+            return ResponseEntity.ok(BaseResponse.success(
+                    "Availability fetched successfully", availability, 200));
+        } catch (BookingException e) {
+            log.debug("Failed to search availability: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(BaseResponse.failure(e.getMessage(), 400));
+        } catch (Exception e) {
+            log.error("Unexpected error while searching availability", e);
+            return ResponseEntity.status(500).body(BaseResponse.failure("Internal server error", 500));
+        }
+    }
+
+    @PostMapping("/batch")
+    @Operation(
+            summary = "Schedule many interview bookings at once",
+            description = "Creates up to " + MAX_BATCH_SIZE + " bookings in one transaction and reports success or failure per item."
+    )
+    public ResponseEntity<BaseResponse<List<BatchBookingResultDTO>>> createBookings(
+            @RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE) List<@Valid BookingRequestDTO> dtos,
+            HttpServletRequest request) {
+        log.debug("Request received to create {} bookings in batch", dtos.size());
+        Set<String> recipients = new LinkedHashSet<>();
+        for (BookingRequestDTO dto : dtos) {
+            dto.recipients().forEach(email -> recipients.add(email.toLowerCase(Locale.ROOT)));
+        }
+        try (AdmissionControl.Permit permit = admissionControl.admit("createBookings", request.getRemoteAddr(), recipients)) {
+            List<BatchBookingResultDTO> results = bookingService.createBookings(dtos);
+            long created = results.stream().filter(BatchBookingResultDTO::success).count();
+            log.debug("Batch booking finished: {} created, {} failed", created, results.size() - created);
+            return ResponseEntity.ok(BaseResponse.success(
+                    "Batch processed: " + created + " created, " + (results.size() - created) + " failed", results, 200));
+        } catch (AdmissionRejectedException e) {
+            return rejected(e);
+        } catch (BookingException e) {
+            log.debug("Failed to create booking batch: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(BaseResponse.failure(e.getMessage(), 400));
+        } catch (Exception e) {
+            log.error("Unexpected error while creating booking batch", e);
             return ResponseEntity.status(500).body(BaseResponse.failure("Internal server error", 500));
         }
     }
@@ -50,19 +283,37 @@ public class BookingController {
     @PostMapping("/{id}/respond")
     @Operation(
             summary = "Respond to a meeting invite",
-            description = "Allows the recipient to accept, reject, or propose a new time for the meeting invite."
+            description = "Allows the recipient to accept, reject, or propose a new time for the meeting invite. "
+                    + "Send the booking version as If-Match to reject stale updates; conflicting updates return 409. "
+                    + "Retries that repeat the same Idempotency-Key replay the original result."
     )
     public ResponseEntity<BaseResponse<BookingResponseDTO>> respondToInvite(
             @PathVariable Long id,
-            @Valid @RequestBody InviteResponseDTO dto) {
-        log.info("Request received to respond to booking id={} with status={}", id, dto.responseStatus());
-        try {
-            BookingResponseDTO response = bookingService.respondToInvite(id, dto);
-            log.info("Invite response recorded for booking id={}", id);
-            return ResponseEntity.ok(BaseResponse.success(
-                    "Invite response recorded successfully", response, 200));
+            @Valid @RequestBody InviteResponseDTO dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestHeader(value = CLIENT_ID_HEADER, required = false) String clientId,
+            HttpServletRequest request) {
+        log.debug("Request received to respond to booking id={} with status={}", id, dto.responseStatus());
+        String client = clientId(clientId, request);
+        try (AdmissionControl.Permit permit = admissionControl.admit("respondToInvite", request.getRemoteAddr(),
+                Collections.singletonList(dto.recipientEmail()))) {
+            Long expectedVersion = parseVersion(ifMatch);
+            IdempotencyService.Result<BookingResponseDTO> result = optimisticRetry.run(() -> idempotent("respondToInvite",
+                    client, idempotencyKey, Arrays.asList(id, expectedVersion, dto),
+                    () -> bookingService.respondToInvite(id, dto, expectedVersion)));
+            log.debug("Invite response recorded for booking id={}", id);
+            return ResponseEntity.ok()
+                    .eTag(etag(result.value().version()))
+                    .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.replayed()))
+                    .body(BaseResponse.success("Invite response recorded successfully", result.value(), 200));
+        } catch (AdmissionRejectedException e) {
+            return rejected(e);
         } catch (BookingException e) {
-            log.warn("Failed to respond to invite for booking id={}: {}", id, e.getMessage());
+            log.debug("Failed to respond to invite for booking id={}: {}", id, e.getMessage());
+            if (e.getReason() == BookingException.Reason.CONFLICT) {
+                return ResponseEntity.status(409).body(BaseResponse.failure(e.getMessage(), 409));
+            }
             return ResponseEntity.badRequest().body(BaseResponse.failure(e.getMessage(), 400));
         } catch (Exception e) {
             log.error("Unexpected error while responding to invite for booking id={}", id, e);
@@ -73,22 +324,191 @@ public class BookingController {
     @GetMapping("/status/{id}")
     @Operation(
             summary = "Get interview booking status",
-            description = "Fetches the current status of a booking by its ID."
+            description = "Fetches the current status of a booking by its ID. The response carries the booking "
+                    + "version as its ETag; polls that send it back as If-None-Match get 304 until the booking changes."
     )
     public ResponseEntity<BaseResponse<BookingResponseDTO>> getBookingStatus(
-            @PathVariable Long id) {
-        log.info("Fetching booking status for id={}", id);
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.debug("Fetching booking status for id={}", id);
         try {
+            if (ifNoneMatch != null) {
+                Long version = bookingService.getBookingVersion(id);
+                if (version != null && etagMatches(ifNoneMatch, version)) {
+                    log.debug("Booking id={} unchanged at version {}", id, version);
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                            .eTag(etag(version))
+                            .cacheControl(CacheControl.noCache())
+                            .varyBy(HttpHeaders.ACCEPT)
+                            .build();
+                }
+            }
             BookingResponseDTO response = bookingService.getBookingStatus(id);
-            log.info("Booking status fetched for id={} with status={}", id, response.status());
-            return ResponseEntity.ok(BaseResponse.success(
-                    "Booking status fetched successfully", response, 200));
+            log.debug("Booking status fetched for id={} with status={}", id, response.status());
+            // JSON and CBOR share the version as their ETag, so caches must key on Accept too.
+            return ResponseEntity.ok()
+                    .eTag(etag(response.version()))
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .body(BaseResponse.success("Booking status fetched successfully", response, 200));
         } catch (BookingException e) {
-            log.warn("Booking not found for id={}", id);
+            log.debug("Booking not found for id={}", id);
             return ResponseEntity.status(404).body(BaseResponse.failure(e.getMessage(), 404));
         } catch (Exception e) {
             log.error("Unexpected error while fetching booking status for id={}", id, e);
             return ResponseEntity.status(500).body(BaseResponse.failure("Internal server error", 500));
         }
     }
+
+    @GetMapping("/events")
+    @Operation(
+            summary = "Stream booking status changes",
+            description = "Opens a server-sent event stream for the given booking ids. The current state of each booking "
+                    + "is sent first, followed by a booking-status event, carrying the same payload as the status "
+                    + "endpoint, every time one of them changes. Reconnect when the stream ends."
+    )
+    public ResponseEntity<SseEmitter> streamBookingEvents(@RequestParam List<Long> ids) {
+        log.debug("Opening event stream for bookings {}", ids);
+        try {
+            SseEmitter emitter = bookingEventBus.subscribe(ids);
+            try {
+                for (Long id : ids) {
+                    bookingEventBus.offer(emitter, bookingService.getBookingStatus(id));
+                }
+            } catch (RuntimeException e) {
+                bookingEventBus.cancel(emitter);
+                throw e;
+            }
+            return ResponseEntity.ok().contentType(MediaType.TEXT_EVENT_STREAM).body(emitter);
+        } catch (BookingException e) {
+            log.debug("Failed to open event stream for bookings {}: {}", ids, e.getMessage());
+            int status = switch (e.getReason()) {
+                case NOT_FOUND -> 404;
+                case UNAVAILABLE -> 503;
+                case RATE_LIMITED -> 429;
+                default -> 400;
+            };
+            return errorStream(e.getMessage(), status);
+        } catch (Exception e) {
+            log.error("Unexpected error while opening event stream for bookings {}", ids, e);
+            return errorStream("Internal server error", 500);
+        }
+    }
+
+    private IdempotencyService.Result<BookingResponseDTO> idempotent(String operation, String clientId, String idempotencyKey,
+                                                                     Object request, Supplier<BookingResponseDTO> action) {
+        if (idempotencyKey == null) {
+            return new IdempotencyService.Result<>(action.get(), false);
+        }
+        return idempotencyService.execute(operation, clientId, idempotencyKey, request, BookingResponseDTO.class, action);
+    }
+
+    /**
+     * Frees the export slot when the async request ends, including the cases
+     * where the body never runs: a timeout while queued, a rejected task or a
+     * client that left before dispatch.
+     */
+    private static void releaseOnCompletion(HttpServletRequest request, BookingExportService.Export export) {
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(export, new CallableProcessingInterceptor() {
+            @Override
+            public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                export.release();
+            }
+        });
+    }
+
+    /**
+     * Idempotency keys apply per X-Client-Id; callers that do not send one are
+     * told apart by address. The header is advisory, since any caller can send
+     * any value, so rate limits use the address alone.
+     */
+    private static String clientId(String header, HttpServletRequest request) {
+        return header != null && !header.isBlank() ? header.trim() : request.getRemoteAddr();
+    }
+
+    private static <T> ResponseEntity<BaseResponse<T>> rejected(AdmissionRejectedException e) {
+        int status = e.getReason() == BookingException.Reason.RATE_LIMITED ? 429 : 503;
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(BaseResponse.failure(e.getMessage(), status));
+    }
+
+    /**
+     * EventSource clients only understand event streams, so failures are reported as
+     * a single error event carrying the usual response envelope.
+     */
+    private static ResponseEntity<SseEmitter> errorStream(String message, int status) {
+        SseEmitter emitter = new SseEmitter();
+        try {
+            emitter.send(SseEmitter.event().name("error").data(BaseResponse.failure(message, status), MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            log.debug("Could not write error event: {}", e.getMessage());
+        }
+        emitter.complete();
+        return ResponseEntity.status(status).contentType(MediaType.TEXT_EVENT_STREAM).body(emitter);
+    }
+
+    private ResponseEntity<StreamingResponseBody> errorBody(String message, int status) {
+        BaseResponse<Object> body = BaseResponse.failure(message, status);
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> objectMapper.writeValue(out, body));
+    }
+
+    private static ExportFormat parseFormat(String format) {
+        try {
+            return ExportFormat.valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BookingException("Unsupported export format: " + format);
+        }
+    }
+
+    private static String etag(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * The calendar's settled sync token and latest change; the two are equal only
+     * when nothing in the feed was still within the settle time.
+     */
+    private static String calendarEtag(long syncToken, long latestChange) {
+        return "\"" + Math.min(syncToken, latestChange) + "-" + latestChange + "\"";
+    }
+
+    private static boolean etagMatches(String ifNoneMatch, long version) {
+        return etagMatches(ifNoneMatch, etag(version));
+    }
+
+    /**
+     * Whether any of the comma-separated entity tags is the current one; weak
+     * tags compare by value, as If-None-Match requires.
+     */
+    private static boolean etagMatches(String ifNoneMatch, String current) {
+        for (String tag : ifNoneMatch.split(",")) {
+            String value = tag.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        value = value.replace("\"", "");
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new BookingException("If-Match must carry the booking version.");
+        }
+    }
 }
@@ -0,0 +1,333 @@
+package com.example.interview_scheduler.event;
+
+import com.example.interview_scheduler.exception.BookingException;
+import com.example.interview_scheduler.model.dto.BookingResponseDTO;
+import com.example.interview_scheduler.service.TransactionHooks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process fan-out of committed booking changes to server-sent event streams.
+ * <p>
+ * Publishers never block: each subscriber keeps at most one pending event per
+ * booking it watches, newer versions replacing older ones, and a small pool of
+ * dispatch threads drains subscribers that have something to send. The writes
+ * themselves run on a separate pool, and a dispatch thread waits for them only
+ * up to the send timeout, so a client that stops reading cannot hold one for
+ * long. A subscriber whose connection fails or stalls is dropped; clients
+ * reconnect and receive the current state of every booking again. Idle streams
+ * hold no thread.
+ */
+@Component
+@Slf4j
+public class BookingEventBus implements DisposableBean {
+
+    static final String STATUS_EVENT = "booking-status";
+
+    private final Map<Long, Set<Subscriber>> subscribersByBooking = new ConcurrentHashMap<>();
+    private final Map<SseEmitter, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService dispatcher;
+    private final ExecutorService writer;
+    private final int maxSubscribers;
+    private final int maxIdsPerSubscription;
+    private final long timeoutMs;
+    private final long sendTimeoutMs;
+
+    @Autowired
+    public BookingEventBus(@Value("${events.max-subscribers:20000}") int maxSubscribers,
+                           @Value("${events.max-ids-per-subscription:100}") int maxIdsPerSubscription,
+                           @Value("${events.timeout-ms:1800000}") long timeoutMs,
+                           @Value("${events.send-timeout-ms:5000}") long sendTimeoutMs,
+                           @Value("${events.dispatch-threads:4}") int dispatchThreads,
+                           @Value("${events.max-stalled-writes:64}") int maxStalledWrites) {
+        this(maxSubscribers, maxIdsPerSubscription, timeoutMs, sendTimeoutMs,
+                newDispatcher(dispatchThreads, maxSubscribers), newWriter(dispatchThreads + maxStalledWrites));
+    }
+
+    BookingEventBus(int maxSubscribers, int maxIdsPerSubscription, long timeoutMs, long sendTimeoutMs,
+                    ExecutorService dispatcher, ExecutorService writer) {
+        this.maxSubscribers = maxSubscribers;
+        this.maxIdsPerSubscription = maxIdsPerSubscription;
+        this.timeoutMs = timeoutMs;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.dispatcher = dispatcher;
+        this.writer = writer;
+    }
+
+    /**
+     * Opens a stream for the given bookings. Subscribe before reading the current
+     * state, then {@link #offer} it, so no change committed in between is lost.
+     */
+    public SseEmitter subscribe(Collection<Long> bookingIds) {
+        return subscribe(bookingIds, new SseEmitter(timeoutMs));
+    }
+
+    SseEmitter subscribe(Collection<Long> bookingIds, SseEmitter emitter) {
+        if (bookingIds.isEmpty() || bookingIds.size() > maxIdsPerSubscription
+                || bookingIds.stream().anyMatch(Objects::isNull)) {
+            throw new BookingException("Subscribe to between 1 and " + maxIdsPerSubscription + " bookings.");
+        }
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new BookingException(BookingException.Reason.UNAVAILABLE, "Too many open event streams. Please retry later.");
+        }
+
+        Subscriber subscriber = new Subscriber(emitter, Set.copyOf(bookingIds));
+        subscribers.put(emitter, subscriber);
+        for (Long id : subscriber.bookingIds) {
+            subscribersByBooking.compute(id, (k, set) -> {
+                Set<Subscriber> watching = set != null ? set : ConcurrentHashMap.newKeySet();
+                watching.add(subscriber);
+                return watching;
+            });
+        }
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        return emitter;
+    }
+
+    /**
+     * Queues the current state of a booking for one stream, typically right after
+     * it subscribed.
+     */
+    public void offer(SseEmitter emitter, BookingResponseDTO booking) {
+        Subscriber subscriber = subscribers.get(emitter);
+        if (subscriber != null && subscriber.bookingIds.contains(booking.id())) {
+            subscriber.enqueue(booking);
+        }
+    }
+
+    /**
+     * Releases a stream that was never handed to the client, e.g. because reading
+     * the initial state failed.
+     */
+    public void cancel(SseEmitter emitter) {
+        Subscriber subscriber = subscribers.get(emitter);
+        if (subscriber != null) {
+            remove(subscriber);
+        }
+    }
+
+    public void publishAfterCommit(BookingResponseDTO booking) {
+        TransactionHooks.afterCommit(() -> publish(booking));
+    }
+
+    public void publish(BookingResponseDTO booking) {
+        Set<Subscriber> watching = subscribersByBooking.get(booking.id());
+        if (watching == null) {
+            return;
+        }
+        for (Subscriber subscriber : watching) {
+            subscriber.enqueue(booking);
+        }
+    }
+
+    /**
+     * Keeps idle connections open through proxies and finds clients that went away
+     * without closing the stream.
+     */
+    @Scheduled(fixedDelayString = "${events.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers.values()) {
+            subscriber.requestHeartbeat();
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @Override
+    public void destroy() {
+        for (Subscriber subscriber : subscribers.values()) {
+            subscriber.emitter.complete();
+        }
+        dispatcher.shutdownNow();
+        writer.shutdownNow();
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscribers.remove(subscriber.emitter, subscriber)) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        for (Long id : subscriber.bookingIds) {
+            subscribersByBooking.computeIfPresent(id, (k, set) -> {
+                set.remove(subscriber);
+                return set.isEmpty() ? null : set;
+            });
+        }
+    }
+
+    private static ExecutorService newDispatcher(int threads, int maxSubscribers) {
+        AtomicInteger sequence = new AtomicInteger();
+        // Each subscriber is queued at most once at a time, so this bound is never hit
+        // while the subscriber limit holds.
+        return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(maxSubscribers),
+                task -> {
+                    Thread thread = new Thread(task, "booking-events-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * At most one write per dispatch thread is being waited for; the rest of the
+     * threads belong to writes given up on, which stay blocked until the container's
+     * write timeout fails the connection.
+     */
+    private static ExecutorService newWriter(int maxThreads) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(0, maxThreads, 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                task -> {
+                    Thread thread = new Thread(task, "booking-events-writer-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Set<Long> bookingIds;
+        private final Map<Long, BookingResponseDTO> pending = new LinkedHashMap<>();
+        private boolean heartbeatPending;
+        private boolean scheduled;
+
+        private Subscriber(SseEmitter emitter, Set<Long> bookingIds) {
+            this.emitter = emitter;
+            this.bookingIds = bookingIds;
+        }
+
+        void enqueue(BookingResponseDTO booking) {
+            synchronized (this) {
+                pending.merge(booking.id(), booking, BookingEventBus::newer);
+            }
+            schedule();
+        }
+
+        void requestHeartbeat() {
+            synchronized (this) {
+                heartbeatPending = true;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            synchronized (this) {
+                if (scheduled) {
+                    return;
+                }
+                scheduled = true;
+            }
+            try {
+                dispatcher.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                log.debug("Event dispatch queue full, closing stream");
+                emitter.complete();
+                remove(this);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                List<BookingResponseDTO> batch;
+                boolean heartbeat;
+                synchronized (this) {
+                    if (pending.isEmpty() && !heartbeatPending) {
+                        scheduled = false;
+                        return;
+                    }
+                    batch = List.copyOf(pending.values());
+                    pending.clear();
+                    heartbeat = heartbeatPending;
+                    heartbeatPending = false;
+                }
+                Future<?> write;
+                try {
+                    write = writer.submit(() -> {
+                        send(batch, heartbeat);
+                        return null;
+                    });
+                } catch (RejectedExecutionException e) {
+                    drop("too many stalled event streams");
+                    return;
+                }
+                try {
+                    write.get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+                } catch (TimeoutException e) {
+                    write.cancel(true);
+                    drop("client stopped reading for " + sendTimeoutMs + " ms");
+                    return;
+                } catch (ExecutionException e) {
+                    // The container completes the emitter itself once the connection has failed.
+                    drop(e.getCause().getMessage());
+                    return;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        private void send(List<BookingResponseDTO> batch, boolean heartbeat) throws IOException {
+            for (BookingResponseDTO booking : batch) {
+                emitter.send(SseEmitter.event()
+                        .name(STATUS_EVENT)
+                        .id(booking.id() + ":" + booking.version())
+                        .data(booking, MediaType.APPLICATION_JSON));
+            }
+            if (heartbeat && batch.isEmpty()) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            }
+        }
+
+        /**
+         * Stops sending to this stream for good. It stays marked as scheduled, so a
+         * change published concurrently cannot queue another write behind a stalled one.
+         */
+        private void drop(String reason) {
+            log.debug("Dropping event stream: {}", reason);
+            synchronized (this) {
+                pending.clear();
+            }
+            remove(this);
+        }
+
+    }
+
+    private static BookingResponseDTO newer(BookingResponseDTO current, BookingResponseDTO candidate) {
+        if (current.version() == null || candidate.version() == null) {
+            return candidate;
+        }
+        return candidate.version() >= current.version() ? candidate : current;
+    }
+}
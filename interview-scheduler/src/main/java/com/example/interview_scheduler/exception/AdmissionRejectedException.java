@@ -0,0 +1,20 @@
+package com.example.interview_scheduler.exception;
+
+/**
+ * A request turned away by admission control, either because its client or a
+ * recipient ran out of permits ({@link Reason#RATE_LIMITED}) or because the
+ * database or email queue is saturated ({@link Reason#UNAVAILABLE}).
+ */
+public class AdmissionRejectedException extends BookingException {
+
+    private final long retryAfterSeconds;
+
+    public AdmissionRejectedException(Reason reason, String message, long retryAfterSeconds) {
+        super(reason, message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -1,7 +1,23 @@
 package com.example.interview_scheduler.exception;
 
 public class BookingException extends RuntimeException {
+
+    public enum Reason {
+        INVALID, CONFLICT, NOT_FOUND, UNAVAILABLE, RATE_LIMITED
+    }
+
+    private final Reason reason;
+
     public BookingException(String message) {
+        this(Reason.INVALID, message);
+    }
+
+    public BookingException(Reason reason, String message) {
         super(message);
+        this.reason = reason;
+    }
+
+    public Reason getReason() {
+        return reason;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,142 @@
+package com.example.interview_scheduler.mail;
+
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * A template parsed into alternating literal text and placeholders, so rendering
+ * is a walk over two arrays appending into the caller's buffer. Includes
+ * ({@code {{> name}}}) are inlined at compile time and may not nest.
+ */
+final class CompiledTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    /** One more literal than variables: {@code literals[i]} precedes {@code variables[i]}. */
+    private final String[] literals;
+    private final EmailVariable[] variables;
+
+    private CompiledTemplate(String[] literals, EmailVariable[] variables) {
+        this.literals = literals;
+        this.variables = variables;
+    }
+
+    /**
+     * Parses {@code source}, resolving includes through {@code includes}, which
+     * returns the included source or {@code null} when there is none by that name.
+     */
+    static CompiledTemplate compile(String name, String source, UnaryOperator<String> includes) {
+        List<String> literals = new ArrayList<>();
+        List<EmailVariable> variables = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        parse(name, source, includes, literal, literals, variables);
+        literals.add(literal.toString());
+        return new CompiledTemplate(literals.toArray(new String[0]), variables.toArray(new EmailVariable[0]));
+    }
+
+    void renderTo(StringBuilder out, EmailModel model, DateTimeFormatter dateTimeFormatter, boolean html) {
+        for (int i = 0; i < variables.length; i++) {
+            out.append(literals[i]);
+            appendValue(out, model.get(variables[i]), dateTimeFormatter, html);
+        }
+        out.append(literals[variables.length]);
+    }
+
+    private static void parse(String name, String source, UnaryOperator<String> includes,
+                              StringBuilder literal, List<String> literals, List<EmailVariable> variables) {
+        int position = 0;
+        while (true) {
+            int open = source.indexOf(OPEN, position);
+            if (open < 0) {
+                literal.append(source, position, source.length());
+                return;
+            }
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException(name + ": unclosed placeholder at offset " + open);
+            }
+            literal.append(source, position, open);
+            String token = source.substring(open + OPEN.length(), close).trim();
+            position = close + CLOSE.length();
+
+            if (token.startsWith(">")) {
+                if (includes == null) {
+                    throw new IllegalArgumentException(name + ": includes cannot be nested");
+                }
+                String include = token.substring(1).trim();
+                String included = includes.apply(include);
+                if (included == null) {
+                    throw new IllegalArgumentException(name + ": unknown include '" + include + "'");
+                }
+                parse(name + " > " + include, included, null, literal, literals, variables);
+                continue;
+            }
+
+            EmailVariable variable = EmailVariable.forPlaceholder(token);
+            if (variable == null) {
+                throw new IllegalArgumentException(name + ": unknown placeholder '" + token + "'");
+            }
+            literals.add(literal.toString());
+            literal.setLength(0);
+            variables.add(variable);
+        }
+    }
+
+    private static void appendValue(StringBuilder out, Object value, DateTimeFormatter dateTimeFormatter, boolean html) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof Integer number) {
+            out.append(number.intValue());
+        } else if (value instanceof Long number) {
+            out.append(number.longValue());
+        } else if (value instanceof TemporalAccessor temporal) {
+            int start = out.length();
+            dateTimeFormatter.formatTo(temporal, out);
+            if (html) {
+                escapeFrom(out, start);
+            }
+        } else if (html) {
+            appendEscaped(out, value.toString());
+        } else {
+            out.append(value);
+        }
+    }
+
+    private static void appendEscaped(StringBuilder out, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String entity = entity(c);
+            if (entity != null) {
+                out.append(entity);
+            } else {
+                out.append(c);
+            }
+        }
+    }
+
+    private static void escapeFrom(StringBuilder out, int start) {
+        for (int i = start; i < out.length(); i++) {
+            String entity = entity(out.charAt(i));
+            if (entity != null) {
+                out.replace(i, i + 1, entity);
+                i += entity.length() - 1;
+            }
+        }
+    }
+
+    private static String entity(char c) {
+        return switch (c) {
+            case '&' -> "&amp;";
+            case '<' -> "&lt;";
+            case '>' -> "&gt;";
+            case '"' -> "&quot;";
+            case '\'' -> "&#39;";
+            default -> null;
+        };
+    }
+}
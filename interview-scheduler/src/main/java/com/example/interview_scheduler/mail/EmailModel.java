@@ -0,0 +1,42 @@
+package com.example.interview_scheduler.mail;
+
+import com.example.interview_scheduler.model.entity.Booking;
+import com.example.interview_scheduler.model.enums.MeetingPlatform;
+
+/**
+ * Values for one booking's emails. A model is filled once per booking and reused
+ * for each recipient by overwriting {@link EmailVariable#RECIPIENT_EMAIL}.
+ */
+public final class EmailModel {
+
+    private final Object[] values = new Object[EmailVariable.values().length];
+    private final MeetingPlatform platform;
+
+    public EmailModel(MeetingPlatform platform) {
+        this.platform = platform;
+        values[EmailVariable.PLATFORM.ordinal()] = platform.getDisplayName();
+    }
+
+    public static EmailModel of(Booking booking) {
+        return new EmailModel(booking.getPlatform())
+                .set(EmailVariable.BOOKING_ID, booking.getId())
+                .set(EmailVariable.CANDIDATE_NAME, booking.getCandidateName())
+                .set(EmailVariable.INTERVIEWER_NAME, booking.getInterviewerName())
+                .set(EmailVariable.START, booking.getProposedDateTime())
+                .set(EmailVariable.END, booking.getEndDateTime())
+                .set(EmailVariable.DURATION_MINUTES, booking.getDurationMinutes());
+    }
+
+    public EmailModel set(EmailVariable variable, Object value) {
+        values[variable.ordinal()] = value;
+        return this;
+    }
+
+    public MeetingPlatform getPlatform() {
+        return platform;
+    }
+
+    Object get(EmailVariable variable) {
+        return values[variable.ordinal()];
+    }
+}
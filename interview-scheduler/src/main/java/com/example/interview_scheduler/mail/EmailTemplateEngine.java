@@ -0,0 +1,195 @@
+package com.example.interview_scheduler.mail;
+
+import com.example.interview_scheduler.model.enums.MeetingPlatform;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Renders booking emails from the templates under {@code email.templates.location}.
+ * Every template is compiled once per meeting platform at startup, with the
+ * platform's {@code meeting/<platform>} section inlined where the template says
+ * {@code {{> meeting}}}. Templates that live on the file system are checked for
+ * changes and recompiled; a template that fails to compile leaves the previous
+ * set in place.
+ */
+@Component
+@Slf4j
+public class EmailTemplateEngine {
+
+    private static final String SUBJECT_PREFIX = "Subject:";
+    private static final String MEETING_INCLUDE = "meeting";
+    private static final int INITIAL_BUFFER_SIZE = 2048;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    private final ResourceLoader resourceLoader;
+    private final String location;
+    private final DateTimeFormatter dateTimeFormatter;
+    private final ThreadLocal<StringBuilder> buffers = ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_BUFFER_SIZE));
+    private volatile Templates templates;
+
+    public EmailTemplateEngine(ResourceLoader resourceLoader,
+                               @Value("${email.templates.location:classpath:templates/email/}") String location,
+                               @Value("${email.templates.date-time-pattern:EEEE d MMMM yyyy, HH:mm}") String dateTimePattern,
+                               @Value("${email.templates.locale:en}") String locale) {
+        this.resourceLoader = resourceLoader;
+        this.location = location.endsWith("/") ? location : location + "/";
+        this.dateTimeFormatter = DateTimeFormatter.ofPattern(dateTimePattern, Locale.forLanguageTag(locale));
+        try {
+            this.templates = load();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load email templates from " + this.location, e);
+        }
+    }
+
+    /**
+     * Renders all three parts into this thread's buffer; the only allocations are
+     * the resulting strings.
+     */
+    public RenderedEmail render(EmailType type, EmailModel model) {
+        CompiledEmail email = templates.emails()[type.ordinal()][model.getPlatform().ordinal()];
+        StringBuilder buffer = buffers.get();
+        try {
+            return new RenderedEmail(
+                    render(email.subject(), model, buffer, false),
+                    render(email.text(), model, buffer, false),
+                    render(email.html(), model, buffer, true));
+        } finally {
+            if (buffer.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+                buffers.remove();
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${email.templates.reload-interval-ms:5000}")
+    public void reloadIfChanged() {
+        Templates current = templates;
+        if (lastModified(current.sources()) <= current.lastModified()) {
+            return;
+        }
+        try {
+            templates = load();
+            log.info("Reloaded email templates from {}", location);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Keeping previous email templates; reloading {} failed: {}", location, e.getMessage());
+        }
+    }
+
+    private String render(CompiledTemplate template, EmailModel model, StringBuilder buffer, boolean html) {
+        buffer.setLength(0);
+        template.renderTo(buffer, model, dateTimeFormatter, html);
+        return buffer.toString();
+    }
+
+    private Templates load() throws IOException {
+        Map<String, Resource> sources = new HashMap<>();
+        Map<String, String> contents = new HashMap<>();
+        MeetingPlatform[] platforms = MeetingPlatform.values();
+        CompiledEmail[][] emails = new CompiledEmail[EmailType.values().length][platforms.length];
+
+        for (EmailType type : EmailType.values()) {
+            String textName = type.getFileName() + ".txt";
+            String htmlName = type.getFileName() + ".html";
+            String text = read(textName, sources, contents);
+            String html = read(htmlName, sources, contents);
+
+            int lineEnd = text.indexOf('\n');
+            String firstLine = lineEnd < 0 ? text : text.substring(0, lineEnd);
+            if (!firstLine.startsWith(SUBJECT_PREFIX)) {
+                throw new IllegalArgumentException(textName + ": first line must start with '" + SUBJECT_PREFIX + "'");
+            }
+            String subject = firstLine.substring(SUBJECT_PREFIX.length()).trim();
+            String body = lineEnd < 0 ? "" : stripLeadingNewlines(text.substring(lineEnd + 1));
+
+            for (MeetingPlatform platform : platforms) {
+                String meeting = MEETING_INCLUDE + "/" + platform.name().toLowerCase(Locale.ROOT);
+                emails[type.ordinal()][platform.ordinal()] = new CompiledEmail(
+                        CompiledTemplate.compile(textName, subject, name -> null),
+                        CompiledTemplate.compile(textName, body, include(meeting, ".txt", sources, contents)),
+                        CompiledTemplate.compile(htmlName, html, include(meeting, ".html", sources, contents)));
+            }
+        }
+
+        List<Resource> watched = new ArrayList<>(sources.values());
+        return new Templates(emails, watched, lastModified(watched));
+    }
+
+    private UnaryOperator<String> include(String meeting, String extension,
+                                         Map<String, Resource> sources, Map<String, String> contents) {
+        return name -> {
+            if (!MEETING_INCLUDE.equals(name)) {
+                return null;
+            }
+            try {
+                return read(meeting + extension, sources, contents);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    private String read(String name, Map<String, Resource> sources, Map<String, String> contents) throws IOException {
+        String cached = contents.get(name);
+        if (cached != null) {
+            return cached;
+        }
+        Resource resource = resourceLoader.getResource(location + name);
+        if (!resource.exists()) {
+            throw new IllegalArgumentException("Missing email template " + location + name);
+        }
+        String content;
+        try (InputStream in = resource.getInputStream()) {
+            content = new String(in.readAllBytes(), StandardCharsets.UTF_8).replace("\r\n", "\n");
+        }
+        sources.put(name, resource);
+        contents.put(name, content);
+        return content;
+    }
+
+    private static String stripLeadingNewlines(String value) {
+        int start = 0;
+        while (start < value.length() && value.charAt(start) == '\n') {
+            start++;
+        }
+        return value.substring(start);
+    }
+
+    /**
+     * Latest modification time of the templates that are plain files; templates
+     * packaged inside the jar report zero and are never reloaded.
+     */
+    private static long lastModified(List<Resource> resources) {
+        long latest = 0;
+        for (Resource resource : resources) {
+            try {
+                if (resource.isFile()) {
+                    latest = Math.max(latest, resource.lastModified());
+                }
+            } catch (IOException e) {
+                log.debug("Could not stat email template {}", resource, e);
+            }
+        }
+        return latest;
+    }
+
+    private record CompiledEmail(CompiledTemplate subject, CompiledTemplate text, CompiledTemplate html) {
+    }
+
+    private record Templates(CompiledEmail[][] emails, List<Resource> sources, long lastModified) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.interview_scheduler.mail;
+
+/**
+ * The emails sent about a booking. Each one is a {@code <fileName>.txt} template,
+ * whose first line is the subject, and a {@code <fileName>.html} template.
+ */
+public enum EmailType {
+    INVITE("invite"),
+    PANEL_INVITE("panel-invite"),
+    RESCHEDULE("reschedule"),
+    REMINDER("reminder"),
+    CANCELLATION("cancellation");
+
+    private final String fileName;
+
+    EmailType(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+}
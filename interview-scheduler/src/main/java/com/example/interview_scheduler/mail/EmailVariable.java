@@ -0,0 +1,44 @@
+package com.example.interview_scheduler.mail;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Placeholders available to email templates, written as {@code {{name}}}.
+ * Templates are compiled against this fixed set, so a misspelt placeholder fails
+ * at load time and values are looked up by ordinal while rendering.
+ */
+public enum EmailVariable {
+    BOOKING_ID("bookingId"),
+    CANDIDATE_NAME("candidateName"),
+    INTERVIEWER_NAME("interviewerName"),
+    RECIPIENT_EMAIL("recipientEmail"),
+    START("start"),
+    END("end"),
+    DURATION_MINUTES("durationMinutes"),
+    PLATFORM("platform"),
+    PROPOSED_BY("proposedBy"),
+    PROPOSED_START("proposedStart");
+
+    private static final Map<String, EmailVariable> BY_NAME = new HashMap<>();
+
+    static {
+        for (EmailVariable variable : values()) {
+            BY_NAME.put(variable.placeholder, variable);
+        }
+    }
+
+    private final String placeholder;
+
+    EmailVariable(String placeholder) {
+        this.placeholder = placeholder;
+    }
+
+    public String getPlaceholder() {
+        return placeholder;
+    }
+
+    static EmailVariable forPlaceholder(String placeholder) {
+        return BY_NAME.get(placeholder);
+    }
+}
@@ -0,0 +1,4 @@
+package com.example.interview_scheduler.mail;
+
+public record RenderedEmail(String subject, String text, String html) {
+}
@@ -0,0 +1,108 @@
+package com.example.interview_scheduler.metrics;
+
+import com.example.interview_scheduler.exception.BookingException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single place that names and tags the application's meters.
+ */
+@Component
+public class BookingMetrics {
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_CONFLICT = "conflict";
+    public static final String OUTCOME_NOT_FOUND = "not_found";
+    public static final String OUTCOME_INVALID = "invalid";
+    public static final String OUTCOME_UNAVAILABLE = "unavailable";
+    public static final String OUTCOME_RATE_LIMITED = "rate_limited";
+    public static final String OUTCOME_ERROR = "error";
+
+    private final MeterRegistry registry;
+
+    public BookingMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    /**
+     * Records one service call, tagged by method and by an outcome derived from the
+     * exception it threw, if any.
+     */
+    public void recordOperation(Timer.Sample sample, String operation, Throwable error) {
+        sample.stop(Timer.builder("booking.service")
+                .description("Booking service calls")
+                .tag("operation", operation)
+                .tag("outcome", outcomeOf(error))
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+
+    public void recordConflictCheck(Timer.Sample sample, String mode, boolean conflict) {
+        sample.stop(Timer.builder("booking.conflict.check")
+                .description("Time spent checking a new booking against existing ones")
+                .tag("mode", mode)
+                .tag("outcome", conflict ? OUTCOME_CONFLICT : OUTCOME_SUCCESS)
+                .register(registry));
+    }
+
+    public void recordEmailSend(Timer.Sample sample, int messages, int failed) {
+        sample.stop(Timer.builder("email.send")
+                .description("SMTP send calls, one per batch")
+                .tag("outcome", failed == 0 ? OUTCOME_SUCCESS : OUTCOME_ERROR)
+                .register(registry));
+        if (messages > failed) {
+            emailMessages(OUTCOME_SUCCESS).increment(messages - failed);
+        }
+        if (failed > 0) {
+            emailMessages(OUTCOME_ERROR).increment(failed);
+        }
+    }
+
+    public void recordAdmissionRejected(String operation, String cause) {
+        Counter.builder("booking.admission.rejected")
+                .description("Booking writes turned away before reaching the service")
+                .tag("operation", operation)
+                .tag("cause", cause)
+                .register(registry)
+                .increment();
+    }
+
+    public void recordDbStatements(String method, String uri, int statements) {
+        DistributionSummary.builder("http.server.requests.db.statements")
+                .description("JDBC statements prepared while handling one request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(registry)
+                .record(statements);
+    }
+
+    public static String outcomeOf(Throwable error) {
+        if (error == null) {
+            return OUTCOME_SUCCESS;
+        }
+        if (error instanceof BookingException bookingException) {
+            return switch (bookingException.getReason()) {
+                case CONFLICT -> OUTCOME_CONFLICT;
+                case NOT_FOUND -> OUTCOME_NOT_FOUND;
+                case INVALID -> OUTCOME_INVALID;
+                case UNAVAILABLE -> OUTCOME_UNAVAILABLE;
+                case RATE_LIMITED -> OUTCOME_RATE_LIMITED;
+            };
+        }
+        return OUTCOME_ERROR;
+    }
+
+    private Counter emailMessages(String outcome) {
+        return Counter.builder("email.messages")
+                .description("Email messages handed to SMTP")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
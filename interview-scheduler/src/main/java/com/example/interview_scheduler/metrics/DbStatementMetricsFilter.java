@@ -0,0 +1,35 @@
+package com.example.interview_scheduler.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records how many JDBC statements each request prepared, tagged by route.
+ */
+@Component
+@RequiredArgsConstructor
+public class DbStatementMetricsFilter extends OncePerRequestFilter {
+
+    private final BookingMetrics bookingMetrics;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        StatementCounter.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            int statements = StatementCounter.stop();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            bookingMetrics.recordDbStatements(request.getMethod(), pattern != null ? pattern.toString() : "UNKNOWN", statements);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.interview_scheduler.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every public booking service call. Runs outside the transaction advice so
+ * the recorded latency includes the commit.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ServiceTimingAspect {
+
+    private final BookingMetrics bookingMetrics;
+
+    @Around("execution(public * com.example.interview_scheduler.service.BookingService.*(..))"
+            + " || execution(public * com.example.interview_scheduler.service.AvailabilityService.findAvailability(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = bookingMetrics.start();
+        Throwable error = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            error = e;
+            throw e;
+        } finally {
+            bookingMetrics.recordOperation(sample, joinPoint.getSignature().getName(), error);
+        }
+    }
+}
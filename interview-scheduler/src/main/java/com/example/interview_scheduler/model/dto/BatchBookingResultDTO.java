@@ -0,0 +1,17 @@
+package com.example.interview_scheduler.model.dto;
+
+public record BatchBookingResultDTO(
+        int index,
+        boolean success,
+        BookingResponseDTO booking,
+        String error
+) {
+
+    public static BatchBookingResultDTO created(int index, BookingResponseDTO booking) {
+        return new BatchBookingResultDTO(index, true, booking, null);
+    }
+
+    public static BatchBookingResultDTO failed(int index, String error) {
+        return new BatchBookingResultDTO(index, false, null, error);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.interview_scheduler.model.dto;
+
+import com.example.interview_scheduler.model.enums.BookingStatus;
+import com.example.interview_scheduler.model.enums.MeetingPlatform;
+import com.example.interview_scheduler.model.enums.ResponseStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * One exported row: a booking joined with one of its invite responses. Bookings
+ * without a response are exported once with the response columns empty.
+ */
+public record BookingExportRowDTO(
+        Long bookingId,
+        String candidateName,
+        String interviewerName,
+        LocalDateTime proposedDateTime,
+        LocalDateTime endDateTime,
+        MeetingPlatform platform,
+        BookingStatus status,
+        LocalDateTime updatedAt,
+        String recipientEmail,
+        ResponseStatus responseStatus,
+        LocalDateTime responseProposedDateTime
+) { }
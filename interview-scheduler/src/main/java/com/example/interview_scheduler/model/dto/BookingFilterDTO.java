@@ -0,0 +1,15 @@
+package com.example.interview_scheduler.model.dto;
+
+import com.example.interview_scheduler.model.enums.BookingStatus;
+import com.example.interview_scheduler.model.enums.MeetingPlatform;
+
+import java.time.LocalDateTime;
+
+public record BookingFilterDTO(
+        String interviewerName,
+        String candidateName,
+        BookingStatus status,
+        MeetingPlatform platform,
+        LocalDateTime from,
+        LocalDateTime to
+) { }
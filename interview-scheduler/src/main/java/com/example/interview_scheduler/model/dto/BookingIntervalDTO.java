@@ -0,0 +1,10 @@
+package com.example.interview_scheduler.model.dto;
+
+import java.time.LocalDateTime;
+
+public record BookingIntervalDTO(
+        Long id,
+        String interviewerName,
+        LocalDateTime start,
+        LocalDateTime end
+) { }
@@ -1,11 +1,21 @@
 package com.example.interview_scheduler.model.dto;
 
 import com.example.interview_scheduler.model.enums.MeetingPlatform;
+import com.example.interview_scheduler.model.entity.Booking;
+import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 public record BookingRequestDTO(
         @NotBlank
@@ -14,8 +24,34 @@ public record BookingRequestDTO(
         String interviewerName,
         @NotNull @Future
         LocalDateTime proposedDateTime,
+        @Positive @Max(Booking.MAX_DURATION_MINUTES)
+        Integer durationMinutes,
         @NotNull
         MeetingPlatform platform,
         @NotBlank
-        String recipientEmail
-){}
\ No newline at end of file
+        String recipientEmail,
+        @Size(max = Booking.MAX_INVITEES - 1)
+        List<@NotBlank @Email String> additionalRecipients
+){
+
+    public BookingRequestDTO(String candidateName, String interviewerName, LocalDateTime proposedDateTime,
+                             Integer durationMinutes, MeetingPlatform platform, String recipientEmail) {
+        this(candidateName, interviewerName, proposedDateTime, durationMinutes, platform, recipientEmail, null);
+    }
+
+    /**
+     * The primary recipient followed by the panel, without duplicates (compared
+     * case-insensitively).
+     */
+    public List<String> recipients() {
+        if (additionalRecipients == null || additionalRecipients.isEmpty()) {
+            return List.of(recipientEmail);
+        }
+        Map<String, String> unique = new LinkedHashMap<>();
+        unique.put(recipientEmail.toLowerCase(Locale.ROOT), recipientEmail);
+        for (String email : additionalRecipients) {
+            unique.putIfAbsent(email.toLowerCase(Locale.ROOT), email);
+        }
+        return new ArrayList<>(unique.values());
+    }
+}
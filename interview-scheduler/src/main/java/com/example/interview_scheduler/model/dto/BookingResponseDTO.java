@@ -11,7 +11,9 @@ public record BookingResponseDTO(
         String candidateName,
         String interviewerName,
         LocalDateTime proposedDateTime,
+        LocalDateTime endDateTime,
         MeetingPlatform platform,
         BookingStatus status,
+        Long version,
         List<InviteResponseDTO> responses
 ) { }
\ No newline at end of file
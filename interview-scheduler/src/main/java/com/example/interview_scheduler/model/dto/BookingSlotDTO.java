@@ -0,0 +1,10 @@
+package com.example.interview_scheduler.model.dto;
+
+import java.time.LocalDateTime;
+
+public record BookingSlotDTO(
+        String interviewerName,
+        String candidateName,
+        LocalDateTime start,
+        LocalDateTime end
+) { }
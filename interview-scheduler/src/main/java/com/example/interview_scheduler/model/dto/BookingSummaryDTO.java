@@ -0,0 +1,16 @@
+package com.example.interview_scheduler.model.dto;
+
+import com.example.interview_scheduler.model.enums.BookingStatus;
+import com.example.interview_scheduler.model.enums.MeetingPlatform;
+
+import java.time.LocalDateTime;
+
+public record BookingSummaryDTO(
+        Long id,
+        String candidateName,
+        String interviewerName,
+        LocalDateTime proposedDateTime,
+        LocalDateTime endDateTime,
+        MeetingPlatform platform,
+        BookingStatus status
+) { }
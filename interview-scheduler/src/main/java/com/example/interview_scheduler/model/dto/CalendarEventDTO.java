@@ -0,0 +1,19 @@
+package com.example.interview_scheduler.model.dto;
+
+import com.example.interview_scheduler.model.enums.BookingStatus;
+import com.example.interview_scheduler.model.enums.MeetingPlatform;
+
+import java.time.LocalDateTime;
+
+public record CalendarEventDTO(
+        Long id,
+        String candidateName,
+        String interviewerName,
+        LocalDateTime proposedDateTime,
+        LocalDateTime endDateTime,
+        MeetingPlatform platform,
+        BookingStatus status,
+        Long version,
+        LocalDateTime updatedAt,
+        Long changeSeq
+) { }
@@ -0,0 +1,8 @@
+package com.example.interview_scheduler.model.dto;
+
+import java.util.List;
+
+public record InterviewerAvailabilityDTO(
+        String interviewerName,
+        List<TimeSlotDTO> freeSlots
+) { }
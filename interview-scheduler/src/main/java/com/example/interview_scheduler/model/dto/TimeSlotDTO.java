@@ -0,0 +1,8 @@
+package com.example.interview_scheduler.model.dto;
+
+import java.time.LocalDateTime;
+
+public record TimeSlotDTO(
+        LocalDateTime start,
+        LocalDateTime end
+) { }
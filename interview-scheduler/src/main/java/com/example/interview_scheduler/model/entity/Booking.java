@@ -8,13 +8,18 @@ import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+// Indexes are created by schema-postgresql.sql: Hibernate cannot see indexes on the
+// partitioned table and would try to create them again on every start.
 @Table(name = "bookings")
 @Data
 @NoArgsConstructor
@@ -22,8 +27,12 @@ import java.util.List;
 @Builder
 public class Booking {
 
+    public static final int MAX_DURATION_MINUTES = 480;
+    public static final int MAX_INVITEES = 20;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bookings_seq")
+    @SequenceGenerator(name = "bookings_seq", sequenceName = "bookings_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Candidate name is required")
@@ -35,6 +44,10 @@ public class Booking {
     @NotNull(message = "Proposed date and time is required")
     private LocalDateTime proposedDateTime;
 
+    private Integer durationMinutes;
+
+    private LocalDateTime endDateTime;
+
     @NotNull(message = "Meeting platform is required")
     @Enumerated(EnumType.STRING)
     private MeetingPlatform platform;
@@ -42,6 +55,37 @@ public class Booking {
     @Enumerated(EnumType.STRING)
     private BookingStatus status;
 
+    private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
+
+    /**
+     * Position of the booking's latest change in the order in which the store
+     * wrote changes, assigned on every insert and update. Calendar feeds resume
+     * from it.
+     */
+    private Long changeSeq;
+
+    /**
+     * Running tallies of the invite responses, kept in step by every response so
+     * the booking status can be derived without loading the invites.
+     */
+    @ColumnDefault("0")
+    private int inviteCount;
+
+    @ColumnDefault("0")
+    private int acceptedCount;
+
+    @ColumnDefault("0")
+    private int rejectedCount;
+
+    @ColumnDefault("0")
+    private int proposedCount;
+
     @OneToMany(mappedBy = "booking", cascade = CascadeType.ALL)
+    @Builder.Default
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<InviteResponse> responses = new ArrayList<>();
 }
\ No newline at end of file
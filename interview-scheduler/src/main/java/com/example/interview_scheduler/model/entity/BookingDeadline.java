@@ -0,0 +1,46 @@
+package com.example.interview_scheduler.model.entity;
+
+import com.example.interview_scheduler.model.enums.DeadlineType;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A point in time at which something must happen to a booking. Open deadlines are
+ * found through idx_booking_deadlines_due, so the scheduler only ever reads the
+ * rows that are due rather than scanning upcoming bookings.
+ */
+@Entity
+@Table(name = "booking_deadlines",
+        uniqueConstraints = @UniqueConstraint(name = "uk_booking_deadlines_booking_type", columnNames = {"booking_id", "type"}),
+        indexes = @Index(name = "idx_booking_deadlines_due", columnList = "processed_at, due_at"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingDeadline {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "booking_deadlines_seq")
+    @SequenceGenerator(name = "booking_deadlines_seq", sequenceName = "booking_deadlines_seq", allocationSize = 50)
+    private Long id;
+
+    @NotNull
+    @Column(name = "booking_id")
+    private Long bookingId;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private DeadlineType type;
+
+    @NotNull
+    private LocalDateTime dueAt;
+
+    private LocalDateTime processedAt;
+}
@@ -0,0 +1,63 @@
+package com.example.interview_scheduler.model.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "idempotency_records",
+        uniqueConstraints = @UniqueConstraint(name = "uk_idempotency_records_client_key",
+                columnNames = {"client_id", "operation", "idempotency_key"}),
+        indexes = @Index(name = "idx_idempotency_records_expires", columnList = "expires_at"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdempotencyRecord {
+
+    public static final int MAX_KEY_LENGTH = 255;
+    public static final int MAX_CLIENT_ID_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "idempotency_records_seq")
+    @SequenceGenerator(name = "idempotency_records_seq", sequenceName = "idempotency_records_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * The caller the key belongs to, as identified for rate limiting; two clients
+     * may use the same key without seeing each other's results.
+     */
+    @NotBlank
+    @Column(length = MAX_CLIENT_ID_LENGTH)
+    @ColumnDefault("''")
+    private String clientId;
+
+    @NotBlank
+    @Column(length = 50)
+    private String operation;
+
+    @NotBlank
+    @Column(length = MAX_KEY_LENGTH)
+    private String idempotencyKey;
+
+    @NotBlank
+    @Column(length = 64)
+    private String requestHash;
+
+    @NotNull
+    @Column(columnDefinition = "text")
+    private String responseBody;
+
+    @NotNull
+    private LocalDateTime createdAt;
+
+    @NotNull
+    private LocalDateTime expiresAt;
+}
@@ -8,11 +8,14 @@ import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 
 @Entity
+// Indexed by schema-postgresql.sql, as for bookings.
 @Table(name = "invite_responses")
 @Data
 @NoArgsConstructor
@@ -21,7 +24,8 @@ import java.time.LocalDateTime;
 public class InviteResponse {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "invite_responses_seq")
+    @SequenceGenerator(name = "invite_responses_seq", sequenceName = "invite_responses_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Recipient email is required")
@@ -34,7 +38,18 @@ public class InviteResponse {
 
     private LocalDateTime proposedDateTime;
 
-    @ManyToOne
-    @JoinColumn(name = "booking_id")
+    /**
+     * The booking's start time, copied here because it is the partition key both
+     * tables share on PostgreSQL.
+     */
+    private LocalDateTime bookingStart;
+
+    @Version
+    private Long version;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "booking_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Booking booking;
 }
@@ -1,5 +1,5 @@
 package com.example.interview_scheduler.model.enums;
 
 public enum BookingStatus {
-    PENDING, ACCEPTED, REJECTED, PROPOSED , RESCHEDULED
+    PENDING, ACCEPTED, REJECTED, PROPOSED , RESCHEDULED, EXPIRED
 }
@@ -0,0 +1,5 @@
+package com.example.interview_scheduler.model.enums;
+
+public enum DeadlineType {
+    REMINDER, EXPIRY
+}
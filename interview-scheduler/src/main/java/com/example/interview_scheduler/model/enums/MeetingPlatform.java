@@ -1,6 +1,15 @@
 package com.example.interview_scheduler.model.enums;
 
 public enum MeetingPlatform {
-    GOOGLE, TEAMS
-}
+    GOOGLE("Google Meet"), TEAMS("Microsoft Teams");
+
+    private final String displayName;
 
+    MeetingPlatform(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
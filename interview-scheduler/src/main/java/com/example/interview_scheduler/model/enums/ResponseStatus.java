@@ -2,5 +2,5 @@ package com.example.interview_scheduler.model.enums;
 
 public enum ResponseStatus {
 
-    PENDING, ACCEPTED, REJECTED, PROPOSED
+    PENDING, ACCEPTED, REJECTED, PROPOSED, EXPIRED
 }
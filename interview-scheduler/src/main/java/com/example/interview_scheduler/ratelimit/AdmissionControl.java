@@ -0,0 +1,163 @@
+package com.example.interview_scheduler.ratelimit;
+
+import com.example.interview_scheduler.exception.AdmissionRejectedException;
+import com.example.interview_scheduler.exception.BookingException;
+import com.example.interview_scheduler.metrics.BookingMetrics;
+import com.example.interview_scheduler.model.enums.OutboxStatus;
+import com.example.interview_scheduler.repository.EmailOutboxRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Decides whether a booking write may go ahead before it reaches the booking
+ * service. Writes are shed with 503 while the primary's connection pool has a
+ * queue, the email outbox is backed up or too many writes are already running,
+ * and with 429 once the calling client or one of the recipients runs out of
+ * permits. Saturation is checked first, so a request that is shed for load does
+ * not use up its client's permits.
+ */
+@Component
+@Slf4j
+public class AdmissionControl {
+
+    private static final Permit ADMITTED = () -> { };
+
+    private final RateLimitStore rateLimitStore;
+    private final ObjectProvider<HikariDataSource> dataSources;
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final BookingMetrics bookingMetrics;
+    private final boolean enabled;
+    private final RateLimit clientLimit;
+    private final RateLimit recipientLimit;
+    private final Semaphore writes;
+    private final int maxPendingConnections;
+    private final long maxOutboxPending;
+    private final long retryAfterSeconds;
+    private volatile long outboxPending;
+    private volatile HikariDataSource primaryPool;
+
+    public AdmissionControl(RateLimitStore rateLimitStore,
+                            ObjectProvider<HikariDataSource> dataSources,
+                            EmailOutboxRepository emailOutboxRepository,
+                            BookingMetrics bookingMetrics,
+                            @Value("${admission.enabled:true}") boolean enabled,
+                            @Value("${rate-limit.client.per-second:20}") double clientPerSecond,
+                            @Value("${rate-limit.client.burst:40}") int clientBurst,
+                            @Value("${rate-limit.recipient.per-minute:10}") double recipientPerMinute,
+                            @Value("${rate-limit.recipient.burst:5}") int recipientBurst,
+                            @Value("${admission.max-concurrent-writes:64}") int maxConcurrentWrites,
+                            @Value("${admission.max-pending-connections:10}") int maxPendingConnections,
+                            @Value("${admission.max-outbox-pending:5000}") long maxOutboxPending,
+                            @Value("${admission.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.rateLimitStore = rateLimitStore;
+        this.dataSources = dataSources;
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.bookingMetrics = bookingMetrics;
+        this.enabled = enabled;
+        this.clientLimit = RateLimit.perSecond(clientPerSecond, clientBurst);
+        this.recipientLimit = RateLimit.perMinute(recipientPerMinute, recipientBurst);
+        this.writes = new Semaphore(maxConcurrentWrites);
+        this.maxPendingConnections = maxPendingConnections;
+        this.maxOutboxPending = maxOutboxPending;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Admits one write from {@code clientAddress} that emails the given
+     * recipients, or throws {@link AdmissionRejectedException}. The returned
+     * permit must be closed when the write finishes. The address must come from
+     * the connection or a trusted proxy, never from a header the caller picks,
+     * or a caller could take a fresh bucket for every request.
+     */
+    public Permit admit(String operation, String clientAddress, Collection<String> recipientEmails) {
+        if (!enabled) {
+            return ADMITTED;
+        }
+        checkSaturation(operation);
+        if (!writes.tryAcquire()) {
+            throw reject(operation, "concurrency", BookingException.Reason.UNAVAILABLE,
+                    "Too many booking requests in progress, try again shortly.", retryAfterSeconds);
+        }
+        try {
+            if (!rateLimitStore.tryAcquire("client:" + clientAddress, clientLimit, 1)) {
+                throw reject(operation, "client", BookingException.Reason.RATE_LIMITED,
+                        "Too many requests from this client.", clientLimit.retryAfterSeconds(1));
+            }
+            for (String email : recipientEmails) {
+                if (email != null && !rateLimitStore.tryAcquire(
+                        "recipient:" + email.toLowerCase(Locale.ROOT), recipientLimit, 1)) {
+                    throw reject(operation, "recipient", BookingException.Reason.RATE_LIMITED,
+                            "Too many invites for " + email + ".", recipientLimit.retryAfterSeconds(1));
+                }
+            }
+        } catch (RuntimeException e) {
+            writes.release();
+            throw e;
+        }
+        return writes::release;
+    }
+
+    /**
+     * Counting the backlog takes a query, so it is sampled here rather than per request.
+     */
+    @Scheduled(fixedDelayString = "${admission.outbox-check-interval-ms:5000}")
+    public void refreshOutboxBacklog() {
+        if (enabled) {
+            outboxPending = emailOutboxRepository.countByStatus(OutboxStatus.PENDING);
+        }
+    }
+
+    private void checkSaturation(String operation) {
+        HikariPoolMXBean pool = primaryPool();
+        if (pool != null && pool.getThreadsAwaitingConnection() > maxPendingConnections) {
+            throw reject(operation, "database", BookingException.Reason.UNAVAILABLE,
+                    "The booking database is busy, try again shortly.", retryAfterSeconds);
+        }
+        if (outboxPending > maxOutboxPending) {
+            throw reject(operation, "email", BookingException.Reason.UNAVAILABLE,
+                    "Too many emails are waiting to be sent, try again later.", retryAfterSeconds);
+        }
+    }
+
+    /**
+     * The pool that takes writes: the only Hikari bean, or the primary's when
+     * read replicas are configured. Its pool is started on first use.
+     */
+    private HikariPoolMXBean primaryPool() {
+        HikariDataSource dataSource = primaryPool;
+        if (dataSource == null) {
+            dataSource = dataSources.orderedStream().findFirst().orElse(null);
+            if (dataSource == null) {
+                return null;
+            }
+            primaryPool = dataSource;
+        }
+        return dataSource.getHikariPoolMXBean();
+    }
+
+    private AdmissionRejectedException reject(String operation, String cause, BookingException.Reason reason,
+                                              String message, long retryAfter) {
+        bookingMetrics.recordAdmissionRejected(operation, cause);
+        log.debug("Rejected {} ({}): {}", operation, cause, message);
+        return new AdmissionRejectedException(reason, message, retryAfter);
+    }
+
+    /**
+     * A slot among the concurrently running writes, released on close.
+     */
+    @FunctionalInterface
+    public interface Permit extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
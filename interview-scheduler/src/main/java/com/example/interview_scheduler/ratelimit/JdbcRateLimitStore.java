@@ -0,0 +1,67 @@
+package com.example.interview_scheduler.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Buckets shared by every node through the {@code rate_limit_buckets} table on
+ * PostgreSQL. Each acquisition is one upsert whose update only applies while the
+ * bucket has room, timed by the database clock so nodes need not agree on time.
+ * It costs a round trip per bucket, so use it only when limits must hold across
+ * nodes.
+ */
+@Component
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "jdbc")
+@Slf4j
+public class JdbcRateLimitStore implements RateLimitStore {
+
+    private static final String ACQUIRE = """
+            insert into rate_limit_buckets (bucket_key, arrival_micros)
+            select :key, (extract(epoch from clock_timestamp()) * 1000000)::bigint + :increment
+            on conflict (bucket_key) do update
+            set arrival_micros = greatest(rate_limit_buckets.arrival_micros, excluded.arrival_micros - :increment) + :increment
+            where greatest(rate_limit_buckets.arrival_micros, excluded.arrival_micros - :increment)
+                  - (excluded.arrival_micros - :increment) + :increment <= :tolerance
+            """;
+
+    private static final String PURGE = """
+            delete from rate_limit_buckets
+            where arrival_micros < (extract(epoch from clock_timestamp()) * 1000000)::bigint
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcRateLimitStore(DataSource dataSource) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    @Override
+    public boolean tryAcquire(String key, RateLimit limit, int permits) {
+        if (permits > limit.burst()) {
+            return false;
+        }
+        long intervalMicros = Math.max(1, limit.intervalNanos() / 1000);
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("key", key)
+                .addValue("increment", intervalMicros * permits)
+                .addValue("tolerance", intervalMicros * limit.burst());
+        return jdbcTemplate.update(ACQUIRE, parameters) > 0;
+    }
+
+    /**
+     * Buckets that have filled up again hold nothing a new row would not.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.jdbc.purge-interval-ms:600000}")
+    public void purgeFull() {
+        int deleted = jdbcTemplate.getJdbcTemplate().update(PURGE);
+        if (deleted > 0) {
+            log.debug("Purged {} full rate limit buckets", deleted);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.interview_scheduler.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * The default store: one {@link AtomicLong} per key holding the bucket's
+ * theoretical arrival time in {@link System#nanoTime()} units, updated with
+ * compare-and-set. Buckets nobody used for a while are dropped; one that comes
+ * back starts full, which at worst lets a client through early.
+ */
+@Component
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "local", matchIfMissing = true)
+public class LocalRateLimitStore implements RateLimitStore {
+
+    private final Cache<String, AtomicLong> buckets;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public LocalRateLimitStore(@Value("${rate-limit.local.max-keys:100000}") long maxKeys,
+                               @Value("${rate-limit.local.idle-expiry-seconds:600}") long idleExpirySeconds) {
+        this(maxKeys, idleExpirySeconds, System::nanoTime);
+    }
+
+    LocalRateLimitStore(long maxKeys, long idleExpirySeconds, LongSupplier nanoClock) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofSeconds(idleExpirySeconds))
+                .build();
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public boolean tryAcquire(String key, RateLimit limit, int permits) {
+        if (permits > limit.burst()) {
+            return false;
+        }
+        AtomicLong bucket = buckets.get(key, k -> new AtomicLong(Long.MIN_VALUE));
+        long increment = limit.intervalNanos() * permits;
+        long tolerance = limit.intervalNanos() * limit.burst();
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long arrival = bucket.get();
+            long next = Math.max(arrival, now) + increment;
+            if (next - now > tolerance) {
+                return false;
+            }
+            if (bucket.compareAndSet(arrival, next)) {
+                return true;
+            }
+        }
+    }
+}
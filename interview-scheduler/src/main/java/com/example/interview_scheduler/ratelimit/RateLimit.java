@@ -0,0 +1,32 @@
+package com.example.interview_scheduler.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A token bucket, described by the time it takes to earn one permit back and the
+ * number of permits that can be spent at once.
+ */
+public record RateLimit(long intervalNanos, int burst) {
+
+    public RateLimit {
+        if (intervalNanos <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("Rate limits need a positive rate and burst");
+        }
+    }
+
+    public static RateLimit perSecond(double permits, int burst) {
+        return new RateLimit(Math.round(TimeUnit.SECONDS.toNanos(1) / permits), burst);
+    }
+
+    public static RateLimit perMinute(double permits, int burst) {
+        return new RateLimit(Math.round(TimeUnit.MINUTES.toNanos(1) / permits), burst);
+    }
+
+    /**
+     * Whole seconds until {@code permits} more have been earned back.
+     */
+    public long retryAfterSeconds(int permits) {
+        long nanos = intervalNanos * permits;
+        return Math.max(1, (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.interview_scheduler.ratelimit;
+
+/**
+ * Holds the token buckets behind {@link AdmissionControl}, selected with
+ * {@code rate-limit.store}: {@code local} keeps them on this node, {@code jdbc}
+ * shares them between nodes through the database.
+ * <p>
+ * Buckets are kept as the time at which they will be full again (the generic
+ * cell rate algorithm), so taking permits is a single compare-and-set or
+ * conditional update and no refill task is needed.
+ */
+public interface RateLimitStore {
+
+    /**
+     * Takes {@code permits} from the bucket under {@code key}, creating it full
+     * if it does not exist. Takes nothing and returns false when the bucket does
+     * not hold that many.
+     */
+    boolean tryAcquire(String key, RateLimit limit, int permits);
+}
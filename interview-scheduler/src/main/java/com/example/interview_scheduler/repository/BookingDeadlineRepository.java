@@ -0,0 +1,32 @@
+package com.example.interview_scheduler.repository;
+
+import com.example.interview_scheduler.model.entity.BookingDeadline;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface BookingDeadlineRepository extends JpaRepository<BookingDeadline, Long> {
+
+    /**
+     * Locks the next due deadlines with SKIP LOCKED (lock timeout -2) so several
+     * nodes can work through them without firing the same deadline twice.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<BookingDeadline> findByProcessedAtIsNullAndDueAtLessThanEqualOrderByDueAt(LocalDateTime now, Limit limit);
+
+    @Modifying
+    @Query("delete from BookingDeadline d where d.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,13 +1,153 @@
 package com.example.interview_scheduler.repository;
 
+import com.example.interview_scheduler.model.dto.BookingIntervalDTO;
+import com.example.interview_scheduler.model.dto.BookingSlotDTO;
+import com.example.interview_scheduler.model.dto.CalendarEventDTO;
 import com.example.interview_scheduler.model.entity.Booking;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface BookingRepository extends JpaRepository<Booking, Long> {
+public interface BookingRepository extends JpaRepository<Booking, Long>, BookingRepositoryCustom {
 
-    boolean existsByProposedDateTime(LocalDateTime proposedDateTime);
+    /**
+     * Loads a booking together with all of its invite responses in a single query.
+     */
+    @EntityGraph(attributePaths = "responses")
+    @Transactional(readOnly = true)
+    Optional<Booking> findWithResponsesById(Long id);
+
+    @Query("select b.version from Booking b where b.id = :id")
+    @Transactional(readOnly = true)
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query(value = "select nextval('booking_change_seq')", nativeQuery = true)
+    long nextChangeSeq();
+
+    @Query("""
+            select coalesce(max(b.changeSeq), 0) from Booking b
+            where b.interviewerName = :interviewerName
+              and b.proposedDateTime >= :startingFrom
+            """)
+    long findLatestChangeSeq(@Param("interviewerName") String interviewerName,
+                             @Param("startingFrom") LocalDateTime startingFrom);
+
+    @Query("""
+            select new com.example.interview_scheduler.model.dto.CalendarEventDTO(
+                b.id, b.candidateName, b.interviewerName, b.proposedDateTime, b.endDateTime,
+                b.platform, b.status, b.version, b.updatedAt, b.changeSeq)
+            from Booking b
+            where b.interviewerName = :interviewerName
+              and b.changeSeq > :afterChangeSeq
+              and b.proposedDateTime >= :startingFrom
+            order by b.changeSeq, b.id
+            """)
+    List<CalendarEventDTO> findChangedSince(@Param("interviewerName") String interviewerName,
+                                            @Param("afterChangeSeq") long afterChangeSeq,
+                                            @Param("startingFrom") LocalDateTime startingFrom);
+
+    @EntityGraph(attributePaths = "responses")
+    List<Booking> findWithResponsesByIdInAndProposedDateTimeGreaterThanEqual(Collection<Long> ids, LocalDateTime startingFrom);
+
+    /**
+     * The lower bound on proposedDateTime turns the overlap test into a bounded range
+     * scan of idx_bookings_interviewer_slot instead of every earlier booking.
+     */
+    default boolean existsOverlappingForInterviewer(String interviewerName, LocalDateTime start, LocalDateTime end) {
+        return existsInterviewerOverlap(interviewerName, start, end, start.minusMinutes(Booking.MAX_DURATION_MINUTES));
+    }
+
+    default boolean existsOverlappingForCandidate(String candidateName, LocalDateTime start, LocalDateTime end) {
+        return existsCandidateOverlap(candidateName, start, end, start.minusMinutes(Booking.MAX_DURATION_MINUTES));
+    }
+
+    /**
+     * Set-based variant of the overlap checks used by batch creation: every
+     * non-rejected slot held by any of the given interviewers or candidates that
+     * could intersect [start, end).
+     */
+    default List<BookingSlotDTO> findActiveSlots(Collection<String> interviewerNames, Collection<String> candidateNames,
+                                                 LocalDateTime start, LocalDateTime end) {
+        return findActiveSlots(interviewerNames, candidateNames, start, end, start.minusMinutes(Booking.MAX_DURATION_MINUTES));
+    }
+
+    @Query("""
+            select new com.example.interview_scheduler.model.dto.BookingSlotDTO(
+                b.interviewerName, b.candidateName, b.proposedDateTime, b.endDateTime)
+            from Booking b
+            where (b.interviewerName in :interviewerNames or b.candidateName in :candidateNames)
+              and b.proposedDateTime > :earliestStart
+              and b.proposedDateTime < :end
+              and b.endDateTime > :start
+              and b.status not in (com.example.interview_scheduler.model.enums.BookingStatus.REJECTED,
+                                   com.example.interview_scheduler.model.enums.BookingStatus.EXPIRED)
+            """)
+    List<BookingSlotDTO> findActiveSlots(@Param("interviewerNames") Collection<String> interviewerNames,
+                                         @Param("candidateNames") Collection<String> candidateNames,
+                                         @Param("start") LocalDateTime start,
+                                         @Param("end") LocalDateTime end,
+                                         @Param("earliestStart") LocalDateTime earliestStart);
+
+    /**
+     * Streams every active (neither rejected nor expired) booking that has not finished yet; callers must hold
+     * a transaction open while consuming the stream. Bounding the start as well lets a partitioned table skip
+     * every month that ended before {@code after}.
+     */
+    default Stream<BookingIntervalDTO> streamActiveIntervalsEndingAfter(LocalDateTime after) {
+        return streamActiveIntervalsEndingAfter(after, after.minusMinutes(Booking.MAX_DURATION_MINUTES));
+    }
+
+    @Query("""
+            select new com.example.interview_scheduler.model.dto.BookingIntervalDTO(
+                b.id, b.interviewerName, b.proposedDateTime, b.endDateTime)
+            from Booking b
+            where b.endDateTime > :after
+              and b.proposedDateTime > :earliestStart
+              and b.status not in (com.example.interview_scheduler.model.enums.BookingStatus.REJECTED,
+                                   com.example.interview_scheduler.model.enums.BookingStatus.EXPIRED)
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<BookingIntervalDTO> streamActiveIntervalsEndingAfter(@Param("after") LocalDateTime after,
+                                                                @Param("earliestStart") LocalDateTime earliestStart);
+
+    @Query("""
+            select count(b) > 0 from Booking b
+            where b.interviewerName = :interviewerName
+              and b.proposedDateTime > :earliestStart
+              and b.proposedDateTime < :end
+              and b.endDateTime > :start
+              and b.status not in (com.example.interview_scheduler.model.enums.BookingStatus.REJECTED,
+                                   com.example.interview_scheduler.model.enums.BookingStatus.EXPIRED)
+            """)
+    boolean existsInterviewerOverlap(@Param("interviewerName") String interviewerName,
+                                     @Param("start") LocalDateTime start,
+                                     @Param("end") LocalDateTime end,
+                                     @Param("earliestStart") LocalDateTime earliestStart);
+
+    @Query("""
+            select count(b) > 0 from Booking b
+            where b.candidateName = :candidateName
+              and b.proposedDateTime > :earliestStart
+              and b.proposedDateTime < :end
+              and b.endDateTime > :start
+              and b.status not in (com.example.interview_scheduler.model.enums.BookingStatus.REJECTED,
+                                   com.example.interview_scheduler.model.enums.BookingStatus.EXPIRED)
+            """)
+    boolean existsCandidateOverlap(@Param("candidateName") String candidateName,
+                                   @Param("start") LocalDateTime start,
+                                   @Param("end") LocalDateTime end,
+                                   @Param("earliestStart") LocalDateTime earliestStart);
 }
@@ -0,0 +1,16 @@
+package com.example.interview_scheduler.repository;
+
+import com.example.interview_scheduler.model.dto.BookingFilterDTO;
+import com.example.interview_scheduler.model.dto.BookingSummaryDTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BookingRepositoryCustom {
+
+    /**
+     * Seek-paginated listing ordered by (proposedDateTime, id). Rows strictly after
+     * (afterDateTime, afterId) are returned; pass nulls for the first page.
+     */
+    List<BookingSummaryDTO> findSummaries(BookingFilterDTO filter, LocalDateTime afterDateTime, Long afterId, int limit);
+}
@@ -0,0 +1,74 @@
+package com.example.interview_scheduler.repository;
+
+import com.example.interview_scheduler.model.dto.BookingFilterDTO;
+import com.example.interview_scheduler.model.dto.BookingSummaryDTO;
+import com.example.interview_scheduler.model.entity.Booking;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+class BookingRepositoryImpl implements BookingRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<BookingSummaryDTO> findSummaries(BookingFilterDTO filter, LocalDateTime afterDateTime, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<BookingSummaryDTO> query = cb.createQuery(BookingSummaryDTO.class);
+        Root<Booking> booking = query.from(Booking.class);
+        Path<LocalDateTime> proposed = booking.get("proposedDateTime");
+        Path<Long> id = booking.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.interviewerName() != null) {
+            predicates.add(cb.equal(booking.get("interviewerName"), filter.interviewerName()));
+        }
+        if (filter.candidateName() != null) {
+            predicates.add(cb.equal(booking.get("candidateName"), filter.candidateName()));
+        }
+        if (filter.status() != null) {
+            predicates.add(cb.equal(booking.get("status"), filter.status()));
+        }
+        if (filter.platform() != null) {
+            predicates.add(cb.equal(booking.get("platform"), filter.platform()));
+        }
+        if (filter.from() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(proposed, filter.from()));
+        }
+        if (filter.to() != null) {
+            predicates.add(cb.lessThan(proposed, filter.to()));
+        }
+        if (afterDateTime != null && afterId != null) {
+            // The plain lower bound is what lets the (proposed_date_time, id) index
+            // seek to the page; the OR only settles ties on the boundary time.
+            predicates.add(cb.greaterThanOrEqualTo(proposed, afterDateTime));
+            predicates.add(cb.or(
+                    cb.greaterThan(proposed, afterDateTime),
+                    cb.and(cb.equal(proposed, afterDateTime), cb.greaterThan(id, afterId))));
+        }
+
+        query.select(cb.construct(BookingSummaryDTO.class,
+                        id,
+                        booking.get("candidateName"),
+                        booking.get("interviewerName"),
+                        proposed,
+                        booking.get("endDateTime"),
+                        booking.get("platform"),
+                        booking.get("status")))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.asc(proposed), cb.asc(id));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
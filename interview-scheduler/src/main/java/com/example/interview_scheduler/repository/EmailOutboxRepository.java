@@ -0,0 +1,29 @@
+package com.example.interview_scheduler.repository;
+
+import com.example.interview_scheduler.model.entity.EmailOutbox;
+import com.example.interview_scheduler.model.enums.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    /**
+     * Locks the next due rows with SKIP LOCKED (lock timeout -2) so several
+     * dispatchers can drain the outbox without picking up the same message.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<EmailOutbox> findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+            OutboxStatus status, LocalDateTime now, Limit limit);
+
+    long countByStatus(OutboxStatus status);
+}
@@ -4,11 +4,12 @@ import com.example.interview_scheduler.model.entity.InviteResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface InviteResponseRepository extends JpaRepository<InviteResponse, Long> {
 
-    InviteResponse findByBookingId(Long bookingId);
+    Optional<InviteResponse> findByBookingIdAndRecipientEmailIgnoreCase(Long bookingId, String recipientEmail);
 
+    Optional<InviteResponse> findFirstByBookingIdOrderById(Long bookingId);
 }
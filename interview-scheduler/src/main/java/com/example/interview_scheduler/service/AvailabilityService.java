@@ -0,0 +1,206 @@
+package com.example.interview_scheduler.service;
+
+import com.example.interview_scheduler.exception.BookingException;
+import com.example.interview_scheduler.model.dto.AvailabilityDTO;
+import com.example.interview_scheduler.model.dto.BookingIntervalDTO;
+import com.example.interview_scheduler.model.dto.InterviewerAvailabilityDTO;
+import com.example.interview_scheduler.model.dto.TimeSlotDTO;
+import com.example.interview_scheduler.model.entity.Booking;
+import com.example.interview_scheduler.store.BookingStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Answers free-slot queries from an in-memory index of every interviewer's
+ * upcoming busy intervals. The index is loaded at startup, updated after each
+ * committed booking change and rebuilt periodically to drop finished intervals.
+ */
+@Service
+@Slf4j
+public class AvailabilityService implements SmartInitializingSingleton {
+
+    private final BookingStore bookingStore;
+    private final TransactionTemplate rebuildTransaction;
+
+    @Value("${availability.max-window-days:31}")
+    private int maxWindowDays;
+
+    @Value("${availability.max-interviewers:20}")
+    private int maxInterviewers;
+
+    private volatile Map<String, BusyIntervals> index = new ConcurrentHashMap<>();
+
+    /**
+     * Updates take the read lock so they run concurrently; a rebuild takes the
+     * write lock only to replay the updates it missed and swap in the new index.
+     */
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private volatile Queue<Consumer<Map<String, BusyIntervals>>> pendingDuringRebuild;
+
+    public AvailabilityService(BookingStore bookingStore, PlatformTransactionManager transactionManager) {
+        this.bookingStore = bookingStore;
+        // Not read-only: with read replicas configured, a rebuild from a lagging
+        // replica could drop a booking whose update was applied to the old index.
+        this.rebuildTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${availability.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${availability.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        long startNanos = System.nanoTime();
+        pendingDuringRebuild = new ConcurrentLinkedQueue<>();
+        Map<String, BusyIntervals> rebuilt = new ConcurrentHashMap<>();
+        try {
+            // Rows arrive in no particular order; each schedule is sorted once at the end
+            // rather than copied on every row as single updates are.
+            Map<String, BusyIntervals.Builder> builders = new HashMap<>();
+            rebuildTransaction.executeWithoutResult(status -> {
+                try (Stream<BookingIntervalDTO> intervals =
+                             bookingStore.streamActiveIntervalsEndingAfter(LocalDateTime.now())) {
+                    intervals.forEach(interval -> builders
+                            .computeIfAbsent(interval.interviewerName(), name -> BusyIntervals.builder())
+                            .add(interval.id(), toEpochSeconds(interval.start()), toEpochSeconds(interval.end())));
+                }
+            });
+            builders.forEach((name, builder) -> rebuilt.put(name, builder.build()));
+        } catch (RuntimeException e) {
+            pendingDuringRebuild = null;
+            log.error("Failed to rebuild availability index", e);
+            return;
+        }
+
+        swapLock.writeLock().lock();
+        try {
+            pendingDuringRebuild.forEach(update -> update.accept(rebuilt));
+            index = rebuilt;
+            pendingDuringRebuild = null;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        log.info("Availability index rebuilt for {} interviewers in {} ms",
+                rebuilt.size(), Duration.ofNanos(System.nanoTime() - startNanos).toMillis());
+    }
+
+    /**
+     * Marks the booking's slot as busy once the current transaction commits.
+     */
+    public void recordBooked(Booking booking) {
+        Long id = booking.getId();
+        String interviewer = booking.getInterviewerName();
+        LocalDateTime start = booking.getProposedDateTime();
+        LocalDateTime end = booking.getEndDateTime();
+        TransactionHooks.afterCommit(() -> apply(target -> add(target, id, interviewer, start, end)));
+    }
+
+    /**
+     * Frees the booking's slot once the current transaction commits.
+     */
+    public void recordReleased(Booking booking) {
+        Long id = booking.getId();
+        String interviewer = booking.getInterviewerName();
+        TransactionHooks.afterCommit(() -> apply(target -> target.computeIfPresent(interviewer,
+                (name, intervals) -> intervals.without(id))));
+    }
+
+    public AvailabilityDTO findAvailability(List<String> interviewers, LocalDateTime from, LocalDateTime to,
+                                            int durationMinutes) {
+        List<String> names = new ArrayList<>(new LinkedHashSet<>(interviewers));
+        if (names.isEmpty() || names.size() > maxInterviewers) {
+            throw new BookingException("Between 1 and " + maxInterviewers + " interviewers must be given.");
+        }
+        if (!from.isBefore(to)) {
+            throw new BookingException("The availability window must end after it starts.");
+        }
+        if (Duration.between(from, to).toDays() >= maxWindowDays) {
+            throw new BookingException("The availability window cannot exceed " + maxWindowDays + " days.");
+        }
+        if (durationMinutes <= 0 || durationMinutes > Booking.MAX_DURATION_MINUTES) {
+            throw new BookingException("Duration must be between 1 and " + Booking.MAX_DURATION_MINUTES + " minutes.");
+        }
+
+        // Finished intervals are not indexed, so the past is never reported as free.
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime effectiveFrom = from.isBefore(now) ? now : from;
+        long fromSeconds = toEpochSeconds(effectiveFrom);
+        long toSeconds = toEpochSeconds(to);
+        long minLength = durationMinutes * 60L;
+
+        Map<String, BusyIntervals> snapshot = index;
+        List<BusyIntervals> schedules = new ArrayList<>(names.size());
+        List<InterviewerAvailabilityDTO> perInterviewer = new ArrayList<>(names.size());
+        for (String name : names) {
+            BusyIntervals intervals = snapshot.getOrDefault(name, BusyIntervals.EMPTY);
+            schedules.add(intervals);
+            perInterviewer.add(new InterviewerAvailabilityDTO(name,
+                    toSlots(intervals.freeSlots(fromSeconds, toSeconds, minLength))));
+        }
+
+        List<TimeSlotDTO> common = names.size() == 1
+                ? perInterviewer.get(0).freeSlots()
+                : toSlots(BusyIntervals.commonFreeSlots(schedules, fromSeconds, toSeconds, minLength));
+        return new AvailabilityDTO(perInterviewer, common);
+    }
+
+    private void apply(Consumer<Map<String, BusyIntervals>> update) {
+        swapLock.readLock().lock();
+        try {
+            update.accept(index);
+            Queue<Consumer<Map<String, BusyIntervals>>> pending = pendingDuringRebuild;
+            if (pending != null) {
+                pending.add(update);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private static void add(Map<String, BusyIntervals> target, Long id, String interviewer,
+                            LocalDateTime start, LocalDateTime end) {
+        long startSeconds = toEpochSeconds(start);
+        long endSeconds = toEpochSeconds(end);
+        target.compute(interviewer, (name, intervals) ->
+                (intervals == null ? BusyIntervals.EMPTY : intervals).with(id, startSeconds, endSeconds));
+    }
+
+    private static List<TimeSlotDTO> toSlots(long[] pairs) {
+        List<TimeSlotDTO> slots = new ArrayList<>(pairs.length / 2);
+        for (int i = 0; i < pairs.length; i += 2) {
+            slots.add(new TimeSlotDTO(fromEpochSeconds(pairs[i]), fromEpochSeconds(pairs[i + 1])));
+        }
+        return slots;
+    }
+
+    private static long toEpochSeconds(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime fromEpochSeconds(long seconds) {
+        return LocalDateTime.ofEpochSecond(seconds, 0, ZoneOffset.UTC);
+    }
+}
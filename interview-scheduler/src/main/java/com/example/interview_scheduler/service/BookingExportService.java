@@ -0,0 +1,297 @@
+package com.example.interview_scheduler.service;
+
+import com.example.interview_scheduler.exception.BookingException;
+import com.example.interview_scheduler.model.dto.BookingExportRowDTO;
+import com.example.interview_scheduler.model.dto.BookingFilterDTO;
+import com.example.interview_scheduler.model.enums.BookingStatus;
+import com.example.interview_scheduler.model.enums.ExportFormat;
+import com.example.interview_scheduler.model.enums.MeetingPlatform;
+import com.example.interview_scheduler.model.enums.ResponseStatus;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Streams bookings joined with their invite responses straight from a forward-only
+ * JDBC cursor to the client. Rows are written as they are fetched and never enter
+ * a persistence context, so memory stays flat however large the export is. Each
+ * export holds a database connection until it finishes, so only a few may run at
+ * once. Bookings held by the in-memory store are not in the database, so exports
+ * are refused while it is in use.
+ */
+@Service
+@Slf4j
+public class BookingExportService {
+
+    private static final String CSV_HEADER = "booking_id,candidate_name,interviewer_name,proposed_date_time,end_date_time,"
+            + "platform,status,updated_at,recipient_email,response_status,response_proposed_date_time";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Semaphore permits;
+    private final boolean databaseStore;
+
+    public BookingExportService(DataSource dataSource,
+                                PlatformTransactionManager transactionManager,
+                                ObjectMapper objectMapper,
+                                @Value("${export.fetch-size:1000}") int fetchSize,
+                                @Value("${export.max-concurrent:2}") int maxConcurrent,
+                                @Value("${booking.store.type:jpa}") String storeType) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        // A repeatable-read snapshot keeps a long export consistent while writes continue.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.objectMapper = objectMapper;
+        this.permits = new Semaphore(maxConcurrent);
+        this.databaseStore = "jpa".equals(storeType);
+    }
+
+    /**
+     * Reserves an export slot and returns the body that writes the export. The
+     * query runs only when the body is written, on the MVC async executor rather
+     * than a request thread. The slot is freed when the body finishes, or by
+     * {@link Export#release()} when the request ends without it running.
+     */
+    public Export export(BookingFilterDTO filter, ExportFormat format) {
+        if (filter.from() != null && filter.to() != null && !filter.from().isBefore(filter.to())) {
+            throw new BookingException("'from' must be before 'to'.");
+        }
+        if (!databaseStore) {
+            throw new BookingException(BookingException.Reason.UNAVAILABLE, "Export is not available with the in-memory booking store.");
+        }
+        if (!permits.tryAcquire()) {
+            throw new BookingException(BookingException.Reason.UNAVAILABLE, "Too many exports are running. Please retry later.");
+        }
+        return new Export(filter, format);
+    }
+
+    /**
+     * An export holding one of the slots. The async task may time out, be
+     * rejected or lose its client before it starts, so the slot is released at
+     * most once by whichever of the body and the request completion comes first.
+     */
+    public final class Export implements StreamingResponseBody {
+
+        private final BookingFilterDTO filter;
+        private final ExportFormat format;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Export(BookingFilterDTO filter, ExportFormat format) {
+            this.filter = filter;
+            this.format = format;
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            if (released.get()) {
+                throw new IOException("Export request already completed");
+            }
+            try {
+                write(filter, format, out);
+            } finally {
+                release();
+            }
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+
+    void write(BookingFilterDTO filter, ExportFormat format, OutputStream out) throws IOException {
+        long startedAt = System.nanoTime();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        JsonGenerator json = null;
+        if (format == ExportFormat.NDJSON) {
+            json = objectMapper.getFactory().createGenerator(writer).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            json.setRootValueSeparator(null);
+        }
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        List<Object> params = new ArrayList<>();
+        String sql = buildQuery(filter, params);
+        long[] rows = new long[1];
+        JsonGenerator ndjson = json;
+        RowCallbackHandler handler = rs -> {
+            BookingExportRowDTO row = mapRow(rs);
+            try {
+                if (ndjson != null) {
+                    ndjson.writeObject(row);
+                    ndjson.writeRaw('\n');
+                } else {
+                    writeCsv(writer, row);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            rows[0]++;
+        };
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(sql, handler, params.toArray()));
+        } catch (UncheckedIOException e) {
+            // The client went away; the cursor and connection were released on the way out.
+            log.debug("Export aborted after {} rows: {}", rows[0], e.getMessage());
+            throw e.getCause();
+        }
+
+        if (json != null) {
+            json.flush();
+        }
+        writer.flush();
+        log.info("Exported {} rows as {} in {} ms", rows[0], format, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private static String buildQuery(BookingFilterDTO filter, List<Object> params) {
+        StringBuilder sql = new StringBuilder("""
+                select b.id, b.candidate_name, b.interviewer_name, b.proposed_date_time, b.end_date_time,
+                       b.platform, b.status, b.updated_at,
+                       r.recipient_email, r.response_status, r.proposed_date_time as response_proposed_date_time
+                from bookings b
+                left join invite_responses r on r.booking_id = b.id
+                """);
+        // Repeating the time bounds on the invites' copy of the start time lets
+        // PostgreSQL prune their partitions as well as the bookings'.
+        if (filter.from() != null) {
+            sql.append(" and r.booking_start >= ?");
+            params.add(Timestamp.valueOf(filter.from()));
+        }
+        if (filter.to() != null) {
+            sql.append(" and r.booking_start < ?");
+            params.add(Timestamp.valueOf(filter.to()));
+        }
+        sql.append(" where 1 = 1");
+        if (filter.interviewerName() != null) {
+            sql.append(" and b.interviewer_name = ?");
+            params.add(filter.interviewerName());
+        }
+        if (filter.candidateName() != null) {
+            sql.append(" and b.candidate_name = ?");
+            params.add(filter.candidateName());
+        }
+        if (filter.status() != null) {
+            sql.append(" and b.status = ?");
+            params.add(filter.status().name());
+        }
+        if (filter.platform() != null) {
+            sql.append(" and b.platform = ?");
+            params.add(filter.platform().name());
+        }
+        if (filter.from() != null) {
+            sql.append(" and b.proposed_date_time >= ?");
+            params.add(Timestamp.valueOf(filter.from()));
+        }
+        if (filter.to() != null) {
+            sql.append(" and b.proposed_date_time < ?");
+            params.add(Timestamp.valueOf(filter.to()));
+        }
+        sql.append(" order by b.proposed_date_time, b.id, r.id");
+        return sql.toString();
+    }
+
+    private static BookingExportRowDTO mapRow(ResultSet rs) throws SQLException {
+        String responseStatus = rs.getString("response_status");
+        return new BookingExportRowDTO(
+                rs.getLong("id"),
+                rs.getString("candidate_name"),
+                rs.getString("interviewer_name"),
+                toLocalDateTime(rs.getTimestamp("proposed_date_time")),
+                toLocalDateTime(rs.getTimestamp("end_date_time")),
+                MeetingPlatform.valueOf(rs.getString("platform")),
+                BookingStatus.valueOf(rs.getString("status")),
+                toLocalDateTime(rs.getTimestamp("updated_at")),
+                rs.getString("recipient_email"),
+                responseStatus != null ? ResponseStatus.valueOf(responseStatus) : null,
+                toLocalDateTime(rs.getTimestamp("response_proposed_date_time"))
+        );
+    }
+
+    private static void writeCsv(Writer writer, BookingExportRowDTO row) throws IOException {
+        writer.write(String.valueOf(row.bookingId()));
+        writer.write(',');
+        writeCsvField(writer, row.candidateName());
+        writer.write(',');
+        writeCsvField(writer, row.interviewerName());
+        writer.write(',');
+        writeCsvField(writer, format(row.proposedDateTime()));
+        writer.write(',');
+        writeCsvField(writer, format(row.endDateTime()));
+        writer.write(',');
+        writeCsvField(writer, row.platform().name());
+        writer.write(',');
+        writeCsvField(writer, row.status().name());
+        writer.write(',');
+        writeCsvField(writer, format(row.updatedAt()));
+        writer.write(',');
+        writeCsvField(writer, row.recipientEmail());
+        writer.write(',');
+        writeCsvField(writer, row.responseStatus() != null ? row.responseStatus().name() : null);
+        writer.write(',');
+        writeCsvField(writer, format(row.responseProposedDateTime()));
+        writer.write('\n');
+    }
+
+    /**
+     * RFC 4180 quoting: fields containing a separator, quote or line break are
+     * wrapped in quotes with embedded quotes doubled.
+     */
+    static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static String format(LocalDateTime value) {
+        return value != null ? DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value) : null;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.interview_scheduler.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "booking.partitions.maintenance.enabled", havingValue = "true", matchIfMissing = true)
+public class BookingPartitionDispatcher {
+
+    private final BookingPartitionService bookingPartitionService;
+
+    @Scheduled(fixedDelayString = "${booking.partitions.maintenance.interval-ms:3600000}")
+    public void maintain() {
+        try {
+            if (!bookingPartitionService.isPartitioned()) {
+                return;
+            }
+            YearMonth current = YearMonth.now();
+            bookingPartitionService.createUpcomingPartitions(current);
+            bookingPartitionService.archiveExpiredPartitions(current);
+        } catch (Exception e) {
+            log.error("Booking partition maintenance failed", e);
+        }
+    }
+}
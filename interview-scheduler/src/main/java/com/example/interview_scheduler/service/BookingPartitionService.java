@@ -0,0 +1,248 @@
+package com.example.interview_scheduler.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSetMetaData;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Maintains the monthly partitions of {@code bookings} and {@code invite_responses}
+ * on PostgreSQL. Partitions are created a few months ahead so new bookings never
+ * land in the default partition, and months older than the retention are detached,
+ * written to {@code <table>.csv.gz} under {@code booking.partitions.archive.path}
+ * and dropped. Does nothing on databases where the tables are not partitioned.
+ */
+@Service
+@Slf4j
+public class BookingPartitionService {
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("(bookings|invite_responses)_p(\\d{4})_(\\d{2})");
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final Path archivePath;
+    private final long lockTimeoutMs;
+    private volatile Boolean partitioned;
+
+    public BookingPartitionService(DataSource dataSource,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${booking.partitions.months-ahead:3}") int monthsAhead,
+                                   @Value("${booking.partitions.retention-months:12}") int retentionMonths,
+                                   @Value("${booking.partitions.archive.path:archive}") String archivePath,
+                                   @Value("${booking.partitions.archive.fetch-size:1000}") int fetchSize,
+                                   @Value("${booking.partitions.lock-timeout-ms:5000}") long lockTimeoutMs) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.archivePath = Path.of(archivePath);
+        this.lockTimeoutMs = lockTimeoutMs;
+    }
+
+    /**
+     * Whether the tables were converted by {@code schema-postgresql.sql}; checked
+     * once, since conversion only happens at startup.
+     */
+    public boolean isPartitioned() {
+        Boolean result = partitioned;
+        if (result == null) {
+            result = isPostgres() && Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                    "select coalesce((select relkind = 'p' from pg_class where oid = to_regclass('bookings')), false)",
+                    Boolean.class));
+            partitioned = result;
+        }
+        return result;
+    }
+
+    /**
+     * Makes sure {@code current} and the next {@code months-ahead} months have
+     * partitions, along with any month that has rows sitting in the default
+     * partition. Returns how many months were created.
+     */
+    public int createUpcomingPartitions(YearMonth current) {
+        Set<YearMonth> months = new TreeSet<>();
+        for (int i = 0; i <= monthsAhead; i++) {
+            months.add(current.plusMonths(i));
+        }
+        jdbcTemplate.queryForList("select distinct date_trunc('month', proposed_date_time) from bookings_default",
+                        Timestamp.class)
+                .forEach(month -> months.add(YearMonth.from(month.toLocalDateTime())));
+
+        int created = 0;
+        for (YearMonth month : months) {
+            Boolean added = jdbcTemplate.queryForObject("select ensure_booking_partition(?)", Boolean.class,
+                    Timestamp.valueOf(month.atDay(1).atStartOfDay()));
+            if (Boolean.TRUE.equals(added)) {
+                log.info("Created bookings partition for {}", month);
+                created++;
+            }
+        }
+        return created;
+    }
+
+    /**
+     * Archives every month that ended more than {@code retention-months} before
+     * {@code current}. Both tables' partitions for a month are detached together,
+     * so queries never see bookings without their invites. A partition is only
+     * dropped once its archive file is on disk; a run that fails part way picks up
+     * the detached tables again next time.
+     */
+    public int archiveExpiredPartitions(YearMonth current) {
+        YearMonth cutoff = current.minusMonths(retentionMonths);
+        Map<YearMonth, List<Partition>> expired = new TreeMap<>();
+        for (Partition partition : listPartitions()) {
+            if (partition.month().isBefore(cutoff)) {
+                expired.computeIfAbsent(partition.month(), month -> new ArrayList<>()).add(partition);
+            }
+        }
+
+        for (Map.Entry<YearMonth, List<Partition>> entry : expired.entrySet()) {
+            List<Partition> partitions = entry.getValue();
+            detach(partitions);
+            long rows = 0;
+            for (Partition partition : partitions) {
+                rows += archive(partition.table());
+            }
+            for (Partition partition : partitions) {
+                jdbcTemplate.execute("drop table if exists " + partition.table());
+            }
+            log.info("Archived {} rows of bookings for {} to {}", rows, entry.getKey(), archivePath.toAbsolutePath());
+        }
+        return expired.size();
+    }
+
+    /**
+     * Writes {@code table} to {@code <table>.csv.gz}, replacing the file only once
+     * the whole table has been written and synced. Returns the number of rows.
+     */
+    long archive(String table) {
+        Path target = archivePath.resolve(table + ".csv.gz");
+        Path temp = archivePath.resolve(table + ".csv.gz.tmp");
+        try {
+            Files.createDirectories(archivePath);
+            long rows;
+            try (FileOutputStream file = new FileOutputStream(temp.toFile());
+                 GZIPOutputStream gzip = new GZIPOutputStream(file, BUFFER_SIZE);
+                 Writer writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+                // PostgreSQL only streams with a cursor inside a transaction.
+                rows = transactionTemplate.execute(status -> jdbcTemplate.query(connection -> {
+                    PreparedStatement statement = connection.prepareStatement("select * from " + table);
+                    statement.setFetchSize(jdbcTemplate.getFetchSize());
+                    return statement;
+                }, resultSet -> {
+                    try {
+                        ResultSetMetaData metaData = resultSet.getMetaData();
+                        int columns = metaData.getColumnCount();
+                        for (int i = 1; i <= columns; i++) {
+                            writer.write(i > 1 ? "," : "");
+                            BookingExportService.writeCsvField(writer, metaData.getColumnName(i));
+                        }
+                        writer.write('\n');
+                        long count = 0;
+                        while (resultSet.next()) {
+                            for (int i = 1; i <= columns; i++) {
+                                writer.write(i > 1 ? "," : "");
+                                BookingExportService.writeCsvField(writer, resultSet.getString(i));
+                            }
+                            writer.write('\n');
+                            count++;
+                        }
+                        return count;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }));
+                writer.flush();
+                gzip.finish();
+                file.getFD().sync();
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return rows;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not archive " + table + " to " + target, e);
+        }
+    }
+
+    private void detach(List<Partition> partitions) {
+        transactionTemplate.executeWithoutResult(status -> {
+            // Detaching waits for an exclusive lock on the parent; give up rather
+            // than queue every booking query behind a long-running one.
+            jdbcTemplate.execute("set local lock_timeout = " + lockTimeoutMs);
+            jdbcTemplate.queryForList("select pg_advisory_xact_lock(hashtext('booking_partitions'))");
+            for (Partition partition : partitions) {
+                if (partition.attached()) {
+                    jdbcTemplate.execute("alter table " + partition.parent() + " detach partition " + partition.table());
+                }
+            }
+        });
+    }
+
+    private List<Partition> listPartitions() {
+        return jdbcTemplate.query("""
+                select c.relname, exists (select 1 from pg_inherits i where i.inhrelid = c.oid) as attached
+                from pg_class c
+                where c.relkind = 'r'
+                  and c.relname ~ '^(bookings|invite_responses)_p[0-9]{4}_[0-9]{2}$'
+                  and pg_table_is_visible(c.oid)
+                order by c.relname
+                """, (rs, rowNum) -> Partition.of(rs.getString(1), rs.getBoolean(2)));
+    }
+
+    private boolean isPostgres() {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "PostgreSQL".equals(product);
+        } catch (MetaDataAccessException e) {
+            log.warn("Could not determine the database product; skipping partition maintenance", e);
+            return false;
+        }
+    }
+
+    record Partition(String table, String parent, YearMonth month, boolean attached) {
+
+        static Partition of(String table, boolean attached) {
+            Matcher matcher = PARTITION_NAME.matcher(table);
+            if (!matcher.matches()) {
+                throw new IllegalArgumentException("Not a bookings partition: " + table);
+            }
+            YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(2)), Integer.parseInt(matcher.group(3)));
+            return new Partition(table, matcher.group(1), month, attached);
+        }
+    }
+}
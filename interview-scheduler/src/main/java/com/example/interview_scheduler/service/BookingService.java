@@ -1,133 +1,503 @@
 package com.example.interview_scheduler.service;
 
+import com.example.interview_scheduler.cache.BookingStatusCache;
+import com.example.interview_scheduler.config.ReplicaDataSource;
+import com.example.interview_scheduler.event.BookingEventBus;
 import com.example.interview_scheduler.exception.BookingException;
+import com.example.interview_scheduler.mail.EmailModel;
+import com.example.interview_scheduler.mail.EmailTemplateEngine;
+import com.example.interview_scheduler.mail.EmailType;
+import com.example.interview_scheduler.mail.EmailVariable;
+import com.example.interview_scheduler.metrics.BookingMetrics;
+import com.example.interview_scheduler.model.dto.BatchBookingResultDTO;
+import com.example.interview_scheduler.model.dto.BookingFilterDTO;
+import com.example.interview_scheduler.model.dto.BookingPageDTO;
 import com.example.interview_scheduler.model.dto.BookingRequestDTO;
 import com.example.interview_scheduler.model.dto.BookingResponseDTO;
+import com.example.interview_scheduler.model.dto.BookingSlotDTO;
+import com.example.interview_scheduler.model.dto.BookingSummaryDTO;
 import com.example.interview_scheduler.model.dto.InviteResponseDTO;
 import com.example.interview_scheduler.model.entity.Booking;
 import com.example.interview_scheduler.model.entity.InviteResponse;
 import com.example.interview_scheduler.model.enums.BookingStatus;
 import com.example.interview_scheduler.model.enums.ResponseStatus;
-import com.example.interview_scheduler.repository.BookingRepository;
-import com.example.interview_scheduler.repository.InviteResponseRepository;
+import com.example.interview_scheduler.store.BookingStore;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class BookingService {
 
-    private final BookingRepository bookingRepository;
-    private final InviteResponseRepository inviteResponseRepository;
-    private final EmailService emailService;
+    private static final String VERSION_CONFLICT_MESSAGE = "Booking was modified by another request. Please reload and retry.";
+
+    private final BookingStore bookingStore;
+    private final EmailOutboxService emailOutboxService;
+    private final EmailTemplateEngine emailTemplates;
+    private final SlotLockStripes slotLockStripes;
+    private final BookingStatusCache bookingStatusCache;
+    private final AvailabilityService availabilityService;
+    private final DeadlineService deadlineService;
+    private final BookingEventBus bookingEventBus;
+    private final BookingMetrics bookingMetrics;
+    private final ObjectProvider<ReplicaDataSource> replicaDataSource;
+
+    @Value("${booking.default-duration-minutes:60}")
+    private int defaultDurationMinutes;
 
     @Transactional
     public BookingResponseDTO createBooking(BookingRequestDTO dto) {
+        int duration = dto.durationMinutes() != null ? dto.durationMinutes() : defaultDurationMinutes;
+        LocalDateTime start = dto.proposedDateTime();
+        LocalDateTime end = start.plusMinutes(duration);
+
+        slotLockStripes.lockForTransaction(dto.interviewerName(), dto.candidateName(), start, end);
 
+        Timer.Sample conflictCheck = bookingMetrics.start();
+        boolean interviewerBusy = bookingStore.existsOverlappingForInterviewer(dto.interviewerName(), start, end);
+        boolean candidateBusy = !interviewerBusy
+                && bookingStore.existsOverlappingForCandidate(dto.candidateName(), start, end);
+        bookingMetrics.recordConflictCheck(conflictCheck, "single", interviewerBusy || candidateBusy);
 
-        boolean conflict = bookingRepository.existsByProposedDateTime(dto.proposedDateTime());
-        if (conflict) {
-            log.warn("Time slot already booked at {}", dto.proposedDateTime());
-            throw new BookingException("Time slot is already booked. Please choose a different time.");
+        if (interviewerBusy) {
+            log.debug("Interviewer {} already booked between {} and {}", dto.interviewerName(), start, end);
+            throw new BookingException(BookingException.Reason.CONFLICT, "Interviewer is already booked for an overlapping time slot. Please choose a different time.");
+        }
+        if (candidateBusy) {
+            log.debug("Candidate {} already booked between {} and {}", dto.candidateName(), start, end);
+            throw new BookingException(BookingException.Reason.CONFLICT, "Candidate already has an interview in an overlapping time slot. Please choose a different time.");
         }
 
-        Booking booking = Booking.builder()
-                .candidateName(dto.candidateName())
-                .interviewerName(dto.interviewerName())
-                .proposedDateTime(dto.proposedDateTime())
-                .platform(dto.platform())
-                .status(BookingStatus.PENDING)
-                .build();
+        Booking booking = newBooking(dto, start, duration);
+        List<InviteResponse> invites = newInvites(booking, dto);
 
-        booking = bookingRepository.save(booking);
-        log.info("Booking saved with id={}", booking.getId());
+        try {
+            bookingStore.insert(List.of(booking));
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Overlap constraint rejected booking for interviewer {} at {}", dto.interviewerName(), start);
+            throw new BookingException(BookingException.Reason.CONFLICT, "Time slot is already booked. Please choose a different time.");
+        }
+        log.debug("Booking saved with id={} and {} invites", booking.getId(), invites.size());
 
-        InviteResponse invite = InviteResponse.builder()
-                .recipientEmail(dto.recipientEmail())
-                .responseStatus(ResponseStatus.PENDING)
-                .booking(booking)
-                .build();
-        inviteResponseRepository.save(invite);
-        log.info("Invite created for bookingId={} email={}", booking.getId(), dto.recipientEmail());
-
-        emailService.sendInvite(
-                dto.recipientEmail(),
-                "Interview Invitation",
-                String.format("Dear %s,\nYour interview with %s is scheduled at %s on %s.",
-                        dto.candidateName(),
-                        dto.interviewerName(),
-                        dto.proposedDateTime(),
-                        dto.platform())
-        );
-        log.info("Email invite sent to {}", dto.recipientEmail());
+        queueInvites(booking);
+        log.debug("Email invites queued for bookingId={}", booking.getId());
 
-        return mapToResponseDTO(booking, invite);
+        deadlineService.schedule(booking);
+
+        availabilityService.recordBooked(booking);
+        BookingResponseDTO response = mapToResponseDTO(booking);
+        bookingStatusCache.putAfterCommit(response);
+        return response;
     }
 
+    /**
+     * Creates many bookings in one transaction. Conflicts are resolved in memory
+     * against the batch itself and against a single set-based query of existing
+     * slots; all accepted rows are then inserted with JDBC batching. Items are
+     * accepted first-come in request order.
+     */
+    @Transactional
+    public List<BatchBookingResultDTO> createBookings(List<BookingRequestDTO> requests) {
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+        int size = requests.size();
+        int[] durations = new int[size];
+        List<SlotLockStripes.Slot> slots = new ArrayList<>(size);
+        Set<String> interviewers = new HashSet<>();
+        Set<String> candidates = new HashSet<>();
+        LocalDateTime windowStart = null;
+        LocalDateTime windowEnd = null;
+
+        for (int i = 0; i < size; i++) {
+            BookingRequestDTO dto = requests.get(i);
+            durations[i] = dto.durationMinutes() != null ? dto.durationMinutes() : defaultDurationMinutes;
+            LocalDateTime start = dto.proposedDateTime();
+            LocalDateTime end = start.plusMinutes(durations[i]);
+            slots.add(new SlotLockStripes.Slot(dto.interviewerName(), dto.candidateName(), start, end));
+            interviewers.add(dto.interviewerName());
+            candidates.add(dto.candidateName());
+            windowStart = windowStart == null || start.isBefore(windowStart) ? start : windowStart;
+            windowEnd = windowEnd == null || end.isAfter(windowEnd) ? end : windowEnd;
+        }
+
+        slotLockStripes.lockForTransaction(slots);
+
+        Timer.Sample conflictCheck = bookingMetrics.start();
+        Map<String, List<BookingSlotDTO>> busyInterviewers = new HashMap<>();
+        Map<String, List<BookingSlotDTO>> busyCandidates = new HashMap<>();
+        for (BookingSlotDTO taken : bookingStore.findActiveSlots(interviewers, candidates, windowStart, windowEnd)) {
+            busyInterviewers.computeIfAbsent(taken.interviewerName(), k -> new ArrayList<>()).add(taken);
+            busyCandidates.computeIfAbsent(taken.candidateName(), k -> new ArrayList<>()).add(taken);
+        }
+
+        BatchBookingResultDTO[] results = new BatchBookingResultDTO[size];
+        List<Booking> bookings = new ArrayList<>(size);
+        List<Integer> bookingIndexes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            SlotLockStripes.Slot slot = slots.get(i);
+            if (overlapsAny(busyInterviewers.get(slot.interviewerName()), slot)) {
+                results[i] = BatchBookingResultDTO.failed(i, "Interviewer is already booked for an overlapping time slot.");
+                continue;
+            }
+            if (overlapsAny(busyCandidates.get(slot.candidateName()), slot)) {
+                results[i] = BatchBookingResultDTO.failed(i, "Candidate already has an interview in an overlapping time slot.");
+                continue;
+            }
+
+            BookingSlotDTO accepted = new BookingSlotDTO(slot.interviewerName(), slot.candidateName(), slot.start(), slot.end());
+            busyInterviewers.computeIfAbsent(slot.interviewerName(), k -> new ArrayList<>()).add(accepted);
+            busyCandidates.computeIfAbsent(slot.candidateName(), k -> new ArrayList<>()).add(accepted);
+            bookings.add(newBooking(requests.get(i), slot.start(), durations[i]));
+            bookingIndexes.add(i);
+        }
+
+        bookingMetrics.recordConflictCheck(conflictCheck, "batch", bookings.size() < size);
 
+        for (int j = 0; j < bookings.size(); j++) {
+            BookingRequestDTO dto = requests.get(bookingIndexes.get(j));
+            newInvites(bookings.get(j), dto);
+        }
+
+        try {
+            bookingStore.insert(bookings);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Overlap constraint rejected batch of {} bookings", bookings.size());
+            throw new BookingException(BookingException.Reason.CONFLICT, "Batch conflicts with bookings created concurrently. Please retry.");
+        }
+        for (Booking booking : bookings) {
+            queueInvites(booking);
+        }
+        deadlineService.schedule(bookings);
+
+        for (int j = 0; j < bookings.size(); j++) {
+            availabilityService.recordBooked(bookings.get(j));
+            BookingResponseDTO response = mapToResponseDTO(bookings.get(j));
+            bookingStatusCache.putAfterCommit(response);
+            results[bookingIndexes.get(j)] = BatchBookingResultDTO.created(bookingIndexes.get(j), response);
+        }
+        log.debug("Batch booking created {} of {} bookings", bookings.size(), size);
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Applies one recipient's response. The booking's response counters are
+     * adjusted, so the status is derived from the tallies rather than by reloading
+     * every invite. Nothing is locked: when another response commits first, the
+     * version check fails with {@link OptimisticLockingFailureException} and the
+     * caller runs the whole transaction again through {@link OptimisticRetry}. When
+     * {@code expectedVersion} is given it must match the booking's current version.
+     */
     @Transactional
-    public BookingResponseDTO respondToInvite(Long bookingId, InviteResponseDTO dto) {
-        log.info("Fetching booking for id={}", bookingId);
-        Booking booking = bookingRepository.findById(bookingId)
-                .orElseThrow(() -> new BookingException("Booking not found"));
+    public BookingResponseDTO respondToInvite(Long bookingId, InviteResponseDTO dto, Long expectedVersion) {
+        log.debug("Fetching booking for id={}", bookingId);
+        Booking booking = bookingStore.find(bookingId)
+                .orElseThrow(() -> new BookingException(BookingException.Reason.NOT_FOUND, "Booking not found"));
 
-        InviteResponse response = inviteResponseRepository.findByBookingId(bookingId);
-        if (response == null) {
-            log.warn("Invite not found for bookingId={}", bookingId);
-            throw new BookingException("Invite not found");
+        if (expectedVersion != null && !expectedVersion.equals(booking.getVersion())) {
+            throw new BookingException(BookingException.Reason.CONFLICT, VERSION_CONFLICT_MESSAGE);
         }
+        if (booking.getStatus() == BookingStatus.EXPIRED) {
+            throw new BookingException(BookingException.Reason.CONFLICT, "Invite has expired");
+        }
+        if (dto.responseStatus() == ResponseStatus.EXPIRED) {
+            throw new BookingException("Invites cannot be expired by a response");
+        }
+
+        InviteResponse response = findInvite(booking, dto.recipientEmail());
+        Long previousVersion = booking.getVersion();
+        BookingStatus previousStatus = booking.getStatus();
 
+        countResponse(booking, response.getResponseStatus(), -1);
+        countResponse(booking, dto.responseStatus(), 1);
         response.setResponseStatus(dto.responseStatus());
         response.setProposedDateTime(dto.proposedDateTime());
-        inviteResponseRepository.save(response);
-        log.info("Invite updated for bookingId={} with response={}", bookingId, dto.responseStatus());
+        log.debug("Invite updated for bookingId={} email={} with response={}", bookingId, response.getRecipientEmail(), dto.responseStatus());
 
-        switch (dto.responseStatus()) {
-            case ACCEPTED -> booking.setStatus(BookingStatus.ACCEPTED);
-            case REJECTED -> booking.setStatus(BookingStatus.REJECTED);
-            case PROPOSED -> booking.setStatus(BookingStatus.RESCHEDULED);
-            default -> booking.setStatus(BookingStatus.PENDING);
+        booking.setStatus(aggregateStatus(booking));
+        booking.setUpdatedAt(LocalDateTime.now());
+        log.debug("Booking status updated for id={} newStatus={}", bookingId, booking.getStatus());
+
+        bookingStore.update(booking);
+
+        if (booking.getStatus() == BookingStatus.REJECTED) {
+            availabilityService.recordReleased(booking);
+        } else {
+            availabilityService.recordBooked(booking);
+        }
+
+        if (dto.responseStatus() == ResponseStatus.PROPOSED && dto.proposedDateTime() != null) {
+            queueToInvitees(booking, EmailType.RESCHEDULE, EmailModel.of(booking)
+                    .set(EmailVariable.PROPOSED_BY, response.getRecipientEmail())
+                    .set(EmailVariable.PROPOSED_START, dto.proposedDateTime()));
+        } else if (booking.getStatus() == BookingStatus.REJECTED && previousStatus != BookingStatus.REJECTED) {
+            queueToInvitees(booking, EmailType.CANCELLATION, EmailModel.of(booking));
         }
-        bookingRepository.save(booking);
-        log.info("Booking status updated for id={} newStatus={}", bookingId, booking.getStatus());
 
-        return mapToResponseDTO(booking, response);
+        BookingResponseDTO updated = toUpdatedResponse(booking, response, previousVersion);
+        bookingStatusCache.putAfterCommit(updated);
+        bookingEventBus.publishAfterCommit(updated);
+        return updated;
     }
 
+    /**
+     * Served from {@link BookingStatusCache} when possible; deliberately not
+     * transactional so a cache hit never borrows a database connection. Only reads
+     * from the primary fill the cache, as a replica may still be behind. Requests
+     * pinned to the primary after their own write skip it, because another node's
+     * copy is only dropped once the invalidation reaches it.
+     */
     public BookingResponseDTO getBookingStatus(Long bookingId) {
-        log.info("Fetching booking status for id={}", bookingId);
-        Booking booking = bookingRepository.findById(bookingId)
-                .orElseThrow(() -> new BookingException("Booking not found"));
+        log.debug("Fetching booking status for id={}", bookingId);
+        boolean pinned = ReplicaDataSource.isPinnedToPrimary();
+        BookingResponseDTO cached = pinned ? null : bookingStatusCache.get(bookingId);
+        if (cached != null) {
+            return cached;
+        }
+
+        Booking booking = bookingStore.findWithResponses(bookingId)
+                .orElseThrow(() -> new BookingException(BookingException.Reason.NOT_FOUND, "Booking not found"));
 
-        InviteResponse response = inviteResponseRepository.findByBookingId(bookingId);
-        if (response == null) {
+        if (booking.getResponses().isEmpty()) {
             log.warn("Invite not found for bookingId={}", bookingId);
-            throw new BookingException("Invite not found");
+            throw new BookingException(BookingException.Reason.NOT_FOUND, "Invite not found");
         }
 
-        log.info("Booking status for id={} is {}", bookingId, booking.getStatus());
-        return mapToResponseDTO(booking, response);
+        log.debug("Booking status for id={} is {}", bookingId, booking.getStatus());
+        BookingResponseDTO response = mapToResponseDTO(booking);
+        if (pinned || replicaDataSource.getIfAvailable() == null) {
+            bookingStatusCache.putIfAbsent(response);
+        }
+        return response;
+    }
+
+    /**
+     * The booking's current version, for answering conditional requests without
+     * building the response; {@code null} when there is no such booking.
+     */
+    public Long getBookingVersion(Long bookingId) {
+        BookingResponseDTO cached = ReplicaDataSource.isPinnedToPrimary() ? null : bookingStatusCache.get(bookingId);
+        if (cached != null) {
+            return cached.version();
+        }
+        return bookingStore.findVersion(bookingId).orElse(null);
     }
 
-    private BookingResponseDTO mapToResponseDTO(Booking booking, InviteResponse invite) {
-        InviteResponseDTO responseDTO = new InviteResponseDTO(
+    @Transactional(readOnly = true)
+    public BookingPageDTO listBookings(BookingFilterDTO filter, String cursor, int size) {
+        LocalDateTime afterDateTime = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = decodeCursor(cursor);
+            afterDateTime = LocalDateTime.parse(parts[0]);
+            afterId = Long.parseLong(parts[1]);
+        }
+
+        List<BookingSummaryDTO> rows = bookingStore.findSummaries(filter, afterDateTime, afterId, size + 1);
+        if (rows.size() <= size) {
+            return new BookingPageDTO(rows, null);
+        }
+
+        List<BookingSummaryDTO> page = rows.subList(0, size);
+        BookingSummaryDTO last = page.get(size - 1);
+        return new BookingPageDTO(page, encodeCursor(last.proposedDateTime(), last.id()));
+    }
+
+    private static String encodeCursor(LocalDateTime proposedDateTime, Long id) {
+        String raw = proposedDateTime + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            if (parts.length != 2) {
+                throw new BookingException("Invalid cursor");
+            }
+            LocalDateTime.parse(parts[0]);
+            Long.parseLong(parts[1]);
+            return parts;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BookingException("Invalid cursor");
+        }
+    }
+
+    private Booking newBooking(BookingRequestDTO dto, LocalDateTime start, int duration) {
+        return Booking.builder()
+                .candidateName(dto.candidateName())
+                .interviewerName(dto.interviewerName())
+                .proposedDateTime(start)
+                .durationMinutes(duration)
+                .endDateTime(start.plusMinutes(duration))
+                .platform(dto.platform())
+                .status(BookingStatus.PENDING)
+                .updatedAt(LocalDateTime.now())
+                .inviteCount(dto.recipients().size())
+                .build();
+    }
+
+    private static List<InviteResponse> newInvites(Booking booking, BookingRequestDTO dto) {
+        List<String> recipients = dto.recipients();
+        List<InviteResponse> invites = new ArrayList<>(recipients.size());
+        for (String recipientEmail : recipients) {
+            InviteResponse invite = InviteResponse.builder()
+                    .recipientEmail(recipientEmail)
+                    .responseStatus(ResponseStatus.PENDING)
+                    .bookingStart(booking.getProposedDateTime())
+                    .booking(booking)
+                    .build();
+            booking.getResponses().add(invite);
+            invites.add(invite);
+        }
+        return invites;
+    }
+
+    /**
+     * Queues one invitation per recipient in the caller's transaction; the outbox
+     * dispatcher later sends them together over a single SMTP session. The first
+     * invite is the candidate's, the rest go to the panel.
+     */
+    private void queueInvites(Booking booking) {
+        EmailModel model = EmailModel.of(booking);
+        List<InviteResponse> invites = booking.getResponses();
+        for (int i = 0; i < invites.size(); i++) {
+            String recipient = invites.get(i).getRecipientEmail();
+            model.set(EmailVariable.RECIPIENT_EMAIL, recipient);
+            emailOutboxService.enqueue(recipient, emailTemplates.render(i == 0 ? EmailType.INVITE : EmailType.PANEL_INVITE, model));
+        }
+    }
+
+    private void queueToInvitees(Booking booking, EmailType type, EmailModel model) {
+        for (InviteResponse invite : booking.getResponses()) {
+            model.set(EmailVariable.RECIPIENT_EMAIL, invite.getRecipientEmail());
+            emailOutboxService.enqueue(invite.getRecipientEmail(), emailTemplates.render(type, model));
+        }
+    }
+
+    /**
+     * Finds the responding recipient's invite. The email may be omitted only when
+     * the booking has a single invitee.
+     */
+    private InviteResponse findInvite(Booking booking, String recipientEmail) {
+        if (recipientEmail == null || recipientEmail.isBlank()) {
+            if (booking.getInviteCount() > 1) {
+                throw new BookingException("recipientEmail is required for bookings with several invitees");
+            }
+            return bookingStore.findInvite(booking, null)
+                    .orElseThrow(() -> new BookingException(BookingException.Reason.NOT_FOUND, "Invite not found"));
+        }
+        return bookingStore.findInvite(booking, recipientEmail)
+                .orElseThrow(() -> {
+                    log.warn("Invite not found for bookingId={} email={}", booking.getId(), recipientEmail);
+                    return new BookingException(BookingException.Reason.NOT_FOUND, "Invite not found");
+                });
+    }
+
+    private static void countResponse(Booking booking, ResponseStatus status, int delta) {
+        switch (status) {
+            case ACCEPTED -> booking.setAcceptedCount(booking.getAcceptedCount() + delta);
+            case REJECTED -> booking.setRejectedCount(booking.getRejectedCount() + delta);
+            case PROPOSED -> booking.setProposedCount(booking.getProposedCount() + delta);
+            default -> { }
+        }
+    }
+
+    /**
+     * A single rejection cancels the booking and a single counter-proposal puts it
+     * up for rescheduling; it is accepted once every invitee has accepted.
+     */
+    static BookingStatus aggregateStatus(Booking booking) {
+        if (booking.getRejectedCount() > 0) {
+            return BookingStatus.REJECTED;
+        }
+        if (booking.getProposedCount() > 0) {
+            return BookingStatus.RESCHEDULED;
+        }
+        if (booking.getAcceptedCount() >= Math.max(booking.getInviteCount(), 1)) {
+            return BookingStatus.ACCEPTED;
+        }
+        return BookingStatus.PENDING;
+    }
+
+    /**
+     * Builds the response after an update. When the cache holds the state just
+     * before this update, only the changed invite is replaced; otherwise the invites
+     * are loaded.
+     */
+    private BookingResponseDTO toUpdatedResponse(Booking booking, InviteResponse changed, Long previousVersion) {
+        BookingResponseDTO cached = bookingStatusCache.get(booking.getId());
+        if (cached == null || previousVersion == null || !previousVersion.equals(cached.version())) {
+            return mapToResponseDTO(booking);
+        }
+        List<InviteResponseDTO> responses = new ArrayList<>(cached.responses().size());
+        for (InviteResponseDTO invite : cached.responses()) {
+            responses.add(invite.recipientEmail().equalsIgnoreCase(changed.getRecipientEmail())
+                    ? toInviteResponseDTO(changed)
+                    : invite);
+        }
+        return toResponseDTO(booking, responses);
+    }
+
+    private static boolean overlapsAny(List<BookingSlotDTO> taken, SlotLockStripes.Slot slot) {
+        if (taken == null) {
+            return false;
+        }
+        for (BookingSlotDTO other : taken) {
+            if (other.start().isBefore(slot.end()) && other.end().isAfter(slot.start())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static BookingResponseDTO mapToResponseDTO(Booking booking) {
+        List<InviteResponseDTO> responses = new ArrayList<>(booking.getResponses().size());
+        for (InviteResponse invite : booking.getResponses()) {
+            responses.add(toInviteResponseDTO(invite));
+        }
+        return toResponseDTO(booking, responses);
+    }
+
+    private static InviteResponseDTO toInviteResponseDTO(InviteResponse invite) {
+        return new InviteResponseDTO(
                 invite.getRecipientEmail(),
                 invite.getResponseStatus(),
                 invite.getProposedDateTime()
         );
+    }
 
+    private static BookingResponseDTO toResponseDTO(Booking booking, List<InviteResponseDTO> responses) {
         return new BookingResponseDTO(
                 booking.getId(),
                 booking.getCandidateName(),
                 booking.getInterviewerName(),
                 booking.getProposedDateTime(),
+                booking.getEndDateTime(),
                 booking.getPlatform(),
                 booking.getStatus(),
-                List.of(responseDTO)
+                booking.getVersion(),
+                responses
         );
     }
 }
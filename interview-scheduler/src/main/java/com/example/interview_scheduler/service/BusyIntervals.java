@@ -0,0 +1,253 @@
+package com.example.interview_scheduler.service;
+
+import com.example.interview_scheduler.model.entity.Booking;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable, start-ordered set of one interviewer's busy intervals, stored as
+ * parallel primitive arrays of epoch seconds. Updates return a new instance, so
+ * readers can scan a snapshot without locking. Each update copies the arrays,
+ * so whole schedules are built with {@link #of} or a {@link Builder} instead.
+ */
+public final class BusyIntervals {
+
+    public static final BusyIntervals EMPTY = new BusyIntervals(new long[0], new long[0], new long[0]);
+
+    private static final long MAX_SPAN_SECONDS = Booking.MAX_DURATION_MINUTES * 60L;
+
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] ids;
+
+    private BusyIntervals(long[] starts, long[] ends, long[] ids) {
+        this.starts = starts;
+        this.ends = ends;
+        this.ids = ids;
+    }
+
+    /**
+     * The intervals given as parallel arrays, in any order, sorted once by start.
+     * Ids must be distinct. The arrays are copied.
+     */
+    public static BusyIntervals of(long[] ids, long[] starts, long[] ends) {
+        int n = ids.length;
+        if (starts.length != n || ends.length != n) {
+            throw new IllegalArgumentException("ids, starts and ends must have the same length");
+        }
+        if (n == 0) {
+            return EMPTY;
+        }
+        if (isSorted(starts)) {
+            return new BusyIntervals(starts.clone(), ends.clone(), ids.clone());
+        }
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(starts[a], starts[b]));
+        long[] sortedStarts = new long[n];
+        long[] sortedEnds = new long[n];
+        long[] sortedIds = new long[n];
+        for (int i = 0; i < n; i++) {
+            sortedStarts[i] = starts[order[i]];
+            sortedEnds[i] = ends[order[i]];
+            sortedIds[i] = ids[order[i]];
+        }
+        return new BusyIntervals(sortedStarts, sortedEnds, sortedIds);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return starts.length;
+    }
+
+    /**
+     * Returns a copy containing the interval for the given booking, replacing any
+     * interval previously stored under the same id.
+     */
+    public BusyIntervals with(long id, long start, long end) {
+        BusyIntervals base = indexOfId(id) >= 0 ? without(id) : this;
+        int n = base.starts.length;
+        int pos = base.lowerBound(start);
+
+        long[] newStarts = new long[n + 1];
+        long[] newEnds = new long[n + 1];
+        long[] newIds = new long[n + 1];
+        System.arraycopy(base.starts, 0, newStarts, 0, pos);
+        System.arraycopy(base.ends, 0, newEnds, 0, pos);
+        System.arraycopy(base.ids, 0, newIds, 0, pos);
+        newStarts[pos] = start;
+        newEnds[pos] = end;
+        newIds[pos] = id;
+        System.arraycopy(base.starts, pos, newStarts, pos + 1, n - pos);
+        System.arraycopy(base.ends, pos, newEnds, pos + 1, n - pos);
+        System.arraycopy(base.ids, pos, newIds, pos + 1, n - pos);
+        return new BusyIntervals(newStarts, newEnds, newIds);
+    }
+
+    public BusyIntervals without(long id) {
+        int index = indexOfId(id);
+        if (index < 0) {
+            return this;
+        }
+        return new BusyIntervals(remove(starts, index), remove(ends, index), remove(ids, index));
+    }
+
+    /**
+     * Gaps of at least {@code minLength} seconds inside [from, to), returned as
+     * consecutive start/end pairs.
+     */
+    public long[] freeSlots(long from, long to, long minLength) {
+        SlotBuffer out = new SlotBuffer();
+        long cursor = from;
+        for (int i = lowerBound(from - MAX_SPAN_SECONDS); i < starts.length && starts[i] < to; i++) {
+            if (ends[i] <= cursor) {
+                continue;
+            }
+            if (starts[i] - cursor >= minLength) {
+                out.add(cursor, starts[i]);
+            }
+            cursor = Math.max(cursor, ends[i]);
+        }
+        if (to - cursor >= minLength) {
+            out.add(cursor, to);
+        }
+        return out.toArray();
+    }
+
+    /**
+     * Gaps of at least {@code minLength} seconds inside [from, to) during which every
+     * schedule is free, found by a k-way merge over the start-ordered arrays.
+     */
+    public static long[] commonFreeSlots(List<BusyIntervals> schedules, long from, long to, long minLength) {
+        int k = schedules.size();
+        int[] positions = new int[k];
+        for (int s = 0; s < k; s++) {
+            positions[s] = schedules.get(s).lowerBound(from - MAX_SPAN_SECONDS);
+        }
+
+        SlotBuffer out = new SlotBuffer();
+        long cursor = from;
+        while (true) {
+            int next = -1;
+            long nextStart = Long.MAX_VALUE;
+            for (int s = 0; s < k; s++) {
+                BusyIntervals schedule = schedules.get(s);
+                int p = positions[s];
+                if (p < schedule.starts.length && schedule.starts[p] < nextStart) {
+                    next = s;
+                    nextStart = schedule.starts[p];
+                }
+            }
+            if (next < 0 || nextStart >= to) {
+                break;
+            }
+
+            long end = schedules.get(next).ends[positions[next]++];
+            if (end <= cursor) {
+                continue;
+            }
+            if (nextStart - cursor >= minLength) {
+                out.add(cursor, nextStart);
+            }
+            cursor = Math.max(cursor, end);
+        }
+        if (to - cursor >= minLength) {
+            out.add(cursor, to);
+        }
+        return out.toArray();
+    }
+
+    private int lowerBound(long value) {
+        int low = 0;
+        int high = starts.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static boolean isSorted(long[] values) {
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] < values[i - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int indexOfId(long id) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static long[] remove(long[] values, int index) {
+        long[] result = new long[values.length - 1];
+        System.arraycopy(values, 0, result, 0, index);
+        System.arraycopy(values, index + 1, result, index, values.length - index - 1);
+        return result;
+    }
+
+    /**
+     * Collects intervals in any order for a single {@link #of} at the end.
+     */
+    public static final class Builder {
+
+        private long[] ids = new long[8];
+        private long[] starts = new long[8];
+        private long[] ends = new long[8];
+        private int size;
+
+        private Builder() {
+        }
+
+        public Builder add(long id, long start, long end) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                starts = Arrays.copyOf(starts, size * 2);
+                ends = Arrays.copyOf(ends, size * 2);
+            }
+            ids[size] = id;
+            starts[size] = start;
+            ends[size] = end;
+            size++;
+            return this;
+        }
+
+        public BusyIntervals build() {
+            return of(Arrays.copyOf(ids, size), Arrays.copyOf(starts, size), Arrays.copyOf(ends, size));
+        }
+    }
+
+    private static final class SlotBuffer {
+
+        private long[] values = new long[16];
+        private int size;
+
+        private void add(long start, long end) {
+            if (size + 2 > values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+            values[size++] = start;
+            values[size++] = end;
+        }
+
+        private long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
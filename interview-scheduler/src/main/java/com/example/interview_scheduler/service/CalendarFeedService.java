@@ -0,0 +1,171 @@
+package com.example.interview_scheduler.service;
+
+import com.example.interview_scheduler.exception.BookingException;
+import com.example.interview_scheduler.model.dto.CalendarEventDTO;
+import com.example.interview_scheduler.model.enums.BookingStatus;
+import com.example.interview_scheduler.store.BookingStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Builds an iCalendar feed of one interviewer's bookings. A client that passes
+ * the sync token of its previous response only receives the bookings changed
+ * since, found through the {@code change_seq} column rather than by reading the
+ * whole feed again.
+ * <p>
+ * Change numbers are handed out when a booking is written, so a slow transaction
+ * can commit a lower number after a higher one has been served. The token
+ * therefore only moves past changes older than {@code calendar.feed.settle-seconds};
+ * younger ones are sent again on the next poll, which calendar clients absorb
+ * because each event keeps its UID and sequence.
+ */
+@Service
+public class CalendarFeedService {
+
+    private static final DateTimeFormatter UTC = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private final BookingStore bookingStore;
+    private final long historyDays;
+    private final long settleSeconds;
+    private final ZoneId zone;
+
+    public CalendarFeedService(BookingStore bookingStore,
+                               @Value("${calendar.feed.history-days:30}") long historyDays,
+                               @Value("${calendar.feed.settle-seconds:30}") long settleSeconds,
+                               @Value("${calendar.feed.zone:}") String zone) {
+        this.bookingStore = bookingStore;
+        this.historyDays = historyDays;
+        this.settleSeconds = settleSeconds;
+        this.zone = zone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(zone);
+    }
+
+    public record CalendarFeed(String calendar, long syncToken, long latestChange) { }
+
+    /**
+     * The interviewer's latest change number, answered from the index on
+     * {@code (interviewer_name, change_seq)}, for conditional requests.
+     */
+    @Transactional(readOnly = true)
+    public long getLatestChange(String interviewerName) {
+        return bookingStore.findLatestChangeSeq(requireName(interviewerName), windowStart(LocalDateTime.now()));
+    }
+
+    /**
+     * The bookings changed after {@code syncToken}, or every booking in the window
+     * when it is 0, with the token to send next time.
+     */
+    @Transactional(readOnly = true)
+    public CalendarFeed getChangesSince(String interviewerName, long syncToken) {
+        if (syncToken < 0) {
+            throw new BookingException("Invalid sync token");
+        }
+        String name = requireName(interviewerName);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime windowStart = windowStart(now);
+        long latestChange = bookingStore.findLatestChangeSeq(name, windowStart);
+        List<CalendarEventDTO> events = latestChange > syncToken
+                ? bookingStore.findChangedSince(name, syncToken, windowStart)
+                : List.of();
+
+        LocalDateTime settled = now.minusSeconds(settleSeconds);
+        long nextToken = syncToken;
+        for (CalendarEventDTO event : events) {
+            if (event.updatedAt() == null || !event.updatedAt().isAfter(settled)) {
+                nextToken = Math.max(nextToken, event.changeSeq());
+            }
+        }
+        return new CalendarFeed(render(name, events), nextToken, latestChange);
+    }
+
+    String render(String interviewerName, List<CalendarEventDTO> events) {
+        StringBuilder calendar = new StringBuilder(256 + events.size() * 320);
+        line(calendar, "BEGIN:VCALENDAR");
+        line(calendar, "VERSION:2.0");
+        line(calendar, "PRODID:-//Interview Scheduler//Bookings//EN");
+        line(calendar, "CALSCALE:GREGORIAN");
+        line(calendar, "METHOD:PUBLISH");
+        line(calendar, "X-WR-CALNAME:" + escape("Interviews - " + interviewerName));
+        for (CalendarEventDTO event : events) {
+            line(calendar, "BEGIN:VEVENT");
+            line(calendar, "UID:booking-" + event.id() + "@interview-scheduler");
+            line(calendar, "SEQUENCE:" + (event.version() != null ? event.version() : 0));
+            line(calendar, "DTSTAMP:" + utc(event.updatedAt() != null ? event.updatedAt() : event.proposedDateTime()));
+            line(calendar, "DTSTART:" + utc(event.proposedDateTime()));
+            line(calendar, "DTEND:" + utc(event.endDateTime()));
+            line(calendar, "SUMMARY:" + escape("Interview with " + event.candidateName()));
+            line(calendar, "DESCRIPTION:" + escape(event.platform().getDisplayName() + " interview of "
+                    + event.candidateName() + " with " + event.interviewerName() + " (booking " + event.id() + ")"));
+            line(calendar, "LOCATION:" + escape(event.platform().getDisplayName()));
+            line(calendar, "STATUS:" + status(event.status()));
+            line(calendar, "END:VEVENT");
+        }
+        line(calendar, "END:VCALENDAR");
+        return calendar.toString();
+    }
+
+    private LocalDateTime windowStart(LocalDateTime now) {
+        return now.minusDays(historyDays);
+    }
+
+    private String utc(LocalDateTime time) {
+        return time.atZone(zone).withZoneSameInstant(ZoneOffset.UTC).format(UTC);
+    }
+
+    private static String requireName(String interviewerName) {
+        if (interviewerName == null || interviewerName.isBlank()) {
+            throw new BookingException("Interviewer name is required");
+        }
+        return interviewerName.trim();
+    }
+
+    private static String status(BookingStatus status) {
+        return switch (status) {
+            case ACCEPTED -> "CONFIRMED";
+            case REJECTED, EXPIRED -> "CANCELLED";
+            default -> "TENTATIVE";
+        };
+    }
+
+    private static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length() + 8);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\', ';', ',' -> escaped.append('\\').append(c);
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> { }
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Appends a content line, folded so that no physical line exceeds 75 octets
+     * and no character is split across lines.
+     */
+    private static void line(StringBuilder calendar, String content) {
+        int octets = 0;
+        for (int i = 0; i < content.length(); ) {
+            int codePoint = content.codePointAt(i);
+            int length = Character.charCount(codePoint);
+            int size = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+            if (octets + size > MAX_LINE_OCTETS) {
+                calendar.append("\r\n ");
+                octets = 1;
+            }
+            calendar.append(content, i, i + length);
+            octets += size;
+            i += length;
+        }
+        calendar.append("\r\n");
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.interview_scheduler.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "deadlines.dispatcher.enabled", havingValue = "true", matchIfMissing = true)
+public class DeadlineDispatcher {
+
+    private final DeadlineService deadlineService;
+
+    @Scheduled(fixedDelayString = "${deadlines.dispatcher.interval-ms:10000}")
+    public void dispatch() {
+        try {
+            int processed;
+            do {
+                processed = deadlineService.processDueBatch();
+            } while (processed >= deadlineService.getBatchSize());
+        } catch (Exception e) {
+            log.error("Booking deadline dispatch failed", e);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.interview_scheduler.service;
+
+import com.example.interview_scheduler.cache.BookingStatusCache;
+import com.example.interview_scheduler.event.BookingEventBus;
+import com.example.interview_scheduler.mail.EmailModel;
+import com.example.interview_scheduler.mail.EmailTemplateEngine;
+import com.example.interview_scheduler.mail.EmailType;
+import com.example.interview_scheduler.mail.EmailVariable;
+import com.example.interview_scheduler.model.dto.BookingResponseDTO;
+import com.example.interview_scheduler.model.entity.Booking;
+import com.example.interview_scheduler.model.entity.BookingDeadline;
+import com.example.interview_scheduler.model.entity.InviteResponse;
+import com.example.interview_scheduler.model.enums.BookingStatus;
+import com.example.interview_scheduler.model.enums.DeadlineType;
+import com.example.interview_scheduler.model.enums.ResponseStatus;
+import com.example.interview_scheduler.repository.BookingDeadlineRepository;
+import com.example.interview_scheduler.store.BookingStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Fires reminders before an interview and expires invites nobody answered. Each
+ * booking gets its deadlines written alongside it; the dispatcher then claims due
+ * rows in small batches, so the cost of a run depends on how much is due, not on
+ * how many bookings are upcoming.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DeadlineService {
+
+    private final BookingDeadlineRepository bookingDeadlineRepository;
+    private final BookingStore bookingStore;
+    private final EmailOutboxService emailOutboxService;
+    private final EmailTemplateEngine emailTemplates;
+    private final AvailabilityService availabilityService;
+    private final BookingStatusCache bookingStatusCache;
+    private final BookingEventBus bookingEventBus;
+
+    @Value("${deadlines.dispatcher.batch-size:100}")
+    private int batchSize;
+
+    @Value("${deadlines.reminder-lead-hours:24}")
+    private long reminderLeadHours;
+
+    @Value("${deadlines.expiry-lead-hours:2}")
+    private long expiryLeadHours;
+
+    @Value("${deadlines.retention-days:7}")
+    private long retentionDays;
+
+    /**
+     * Writes the deadlines of newly created bookings as part of the caller's
+     * transaction. A reminder is only scheduled while there is still time to send
+     * it; an invite that is created inside the expiry window expires at the start.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void schedule(List<Booking> bookings) {
+        LocalDateTime now = LocalDateTime.now();
+        List<BookingDeadline> deadlines = new ArrayList<>(bookings.size() * 2);
+        for (Booking booking : bookings) {
+            LocalDateTime start = booking.getProposedDateTime();
+            LocalDateTime remindAt = start.minusHours(reminderLeadHours);
+            if (remindAt.isAfter(now)) {
+                deadlines.add(newDeadline(booking, DeadlineType.REMINDER, remindAt));
+            }
+            LocalDateTime expireAt = start.minusHours(expiryLeadHours);
+            deadlines.add(newDeadline(booking, DeadlineType.EXPIRY, expireAt.isAfter(now) ? expireAt : start));
+        }
+        bookingDeadlineRepository.saveAll(deadlines);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void schedule(Booking booking) {
+        schedule(List.of(booking));
+    }
+
+    /**
+     * Processes one batch of due deadlines and returns how many rows were claimed.
+     * Reminders are queued through the email outbox, so they go out exactly when
+     * this transaction commits.
+     */
+    @Transactional
+    public int processDueBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<BookingDeadline> due = bookingDeadlineRepository
+                .findByProcessedAtIsNullAndDueAtLessThanEqualOrderByDueAt(now, Limit.of(batchSize));
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        // Deadlines never fall after the interview starts, so the earliest one due
+        // bounds the bookings' start times.
+        Set<Long> bookingIds = new HashSet<>(due.size());
+        for (BookingDeadline deadline : due) {
+            bookingIds.add(deadline.getBookingId());
+        }
+        Map<Long, Booking> bookings = new HashMap<>(bookingIds.size());
+        for (Booking booking : bookingStore.findWithResponses(bookingIds, due.get(0).getDueAt())) {
+            bookings.put(booking.getId(), booking);
+        }
+
+        int reminded = 0;
+        int expired = 0;
+        for (BookingDeadline deadline : due) {
+            Booking booking = bookings.get(deadline.getBookingId());
+            if (booking != null) {
+                switch (deadline.getType()) {
+                    case REMINDER -> reminded += remind(booking) ? 1 : 0;
+                    case EXPIRY -> expired += expire(booking, now) ? 1 : 0;
+                }
+            }
+            deadline.setProcessedAt(now);
+        }
+        log.debug("Processed {} deadlines: {} reminders queued, {} bookings expired", due.size(), reminded, expired);
+        return due.size();
+    }
+
+    @Scheduled(fixedDelayString = "${deadlines.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeProcessed() {
+        int deleted = bookingDeadlineRepository.deleteProcessedBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("Purged {} processed booking deadlines", deleted);
+        }
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    private boolean remind(Booking booking) {
+        if (booking.getStatus() == BookingStatus.REJECTED || booking.getStatus() == BookingStatus.EXPIRED) {
+            return false;
+        }
+        queueToInvitees(booking, EmailType.REMINDER);
+        return true;
+    }
+
+    private boolean expire(Booking booking, LocalDateTime now) {
+        if (booking.getStatus() != BookingStatus.PENDING) {
+            return false;
+        }
+        for (InviteResponse invite : booking.getResponses()) {
+            if (invite.getResponseStatus() == ResponseStatus.PENDING) {
+                invite.setResponseStatus(ResponseStatus.EXPIRED);
+            }
+        }
+        booking.setStatus(BookingStatus.EXPIRED);
+        booking.setUpdatedAt(now);
+        bookingStore.update(booking);
+        queueToInvitees(booking, EmailType.CANCELLATION);
+        availabilityService.recordReleased(booking);
+        BookingResponseDTO expired = BookingService.mapToResponseDTO(booking);
+        bookingStatusCache.putAfterCommit(expired);
+        bookingEventBus.publishAfterCommit(expired);
+        log.debug("Booking id={} expired without a response", booking.getId());
+        return true;
+    }
+
+    private void queueToInvitees(Booking booking, EmailType type) {
+        EmailModel model = EmailModel.of(booking);
+        for (InviteResponse invite : booking.getResponses()) {
+            model.set(EmailVariable.RECIPIENT_EMAIL, invite.getRecipientEmail());
+            emailOutboxService.enqueue(invite.getRecipientEmail(), emailTemplates.render(type, model));
+        }
+    }
+
+    private static BookingDeadline newDeadline(Booking booking, DeadlineType type, LocalDateTime dueAt) {
+        return BookingDeadline.builder()
+                .bookingId(booking.getId())
+                .type(type)
+                .dueAt(dueAt)
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.interview_scheduler.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "outbox.dispatcher.enabled", havingValue = "true", matchIfMissing = true)
+public class EmailOutboxDispatcher {
+
+    private final EmailOutboxService emailOutboxService;
+
+    @Scheduled(fixedDelayString = "${outbox.dispatcher.interval-ms:2000}")
+    public void dispatch() {
+        try {
+            int processed;
+            do {
+                processed = emailOutboxService.dispatchDueBatch();
+            } while (processed >= emailOutboxService.getBatchSize());
+        } catch (Exception e) {
+            log.error("Email outbox dispatch failed", e);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.interview_scheduler.service;
+
+import com.example.interview_scheduler.mail.RenderedEmail;
+import com.example.interview_scheduler.model.entity.EmailOutbox;
+import com.example.interview_scheduler.model.enums.OutboxStatus;
+import com.example.interview_scheduler.repository.EmailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.MimeMessagePreparator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailService emailService;
+
+    @Value("${outbox.dispatcher.batch-size:50}")
+    private int batchSize;
+
+    @Value("${outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${outbox.backoff.initial-ms:5000}")
+    private long initialBackoffMs;
+
+    @Value("${outbox.backoff.max-ms:900000}")
+    private long maxBackoffMs;
+
+    /**
+     * Queues an email as part of the caller's transaction, so the message is
+     * only ever sent if the surrounding booking changes commit.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public EmailOutbox enqueue(String toEmail, RenderedEmail rendered) {
+        LocalDateTime now = LocalDateTime.now();
+        EmailOutbox email = EmailOutbox.builder()
+                .recipientEmail(toEmail)
+                .subject(rendered.subject())
+                .body(rendered.text())
+                .htmlBody(rendered.html())
+                .status(OutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+        return emailOutboxRepository.save(email);
+    }
+
+    /**
+     * Sends one batch of due emails over a single SMTP session and returns how many
+     * rows were processed.
+     */
+    @Transactional
+    public int dispatchDueBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutbox> due = emailOutboxRepository
+                .findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+                        OutboxStatus.PENDING, now, Limit.of(batchSize));
+
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        List<MimeMessagePreparator> messages = new ArrayList<>(due.size());
+        Map<MimeMessagePreparator, EmailOutbox> byMessage = new IdentityHashMap<>(due.size());
+        for (EmailOutbox email : due) {
+            MimeMessagePreparator message = emailService.buildMessage(
+                    email.getRecipientEmail(), email.getSubject(), email.getBody(), email.getHtmlBody());
+            messages.add(message);
+            byMessage.put(message, email);
+        }
+
+        Map<Object, Exception> failures = Map.of();
+        try {
+            emailService.sendBatch(messages);
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages();
+            if (failures.isEmpty()) {
+                due.forEach(email -> markFailedAttempt(email, e, now));
+                return due.size();
+            }
+        } catch (MailException e) {
+            due.forEach(email -> markFailedAttempt(email, e, now));
+            return due.size();
+        }
+
+        Map<EmailOutbox, Exception> failed = new IdentityHashMap<>();
+        failures.forEach((message, error) -> {
+            EmailOutbox email = byMessage.get(message);
+            if (email != null) {
+                failed.put(email, error);
+            }
+        });
+
+        LocalDateTime sentAt = LocalDateTime.now();
+        for (EmailOutbox email : due) {
+            Exception error = failed.get(email);
+            if (error != null) {
+                markFailedAttempt(email, error, now);
+            } else {
+                email.setStatus(OutboxStatus.SENT);
+                email.setSentAt(sentAt);
+                email.setLastError(null);
+            }
+        }
+        return due.size();
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    private void markFailedAttempt(EmailOutbox email, Exception e, LocalDateTime now) {
+        int attempts = email.getAttempts() + 1;
+        email.setAttempts(attempts);
+        email.setLastError(truncate(e.getMessage()));
+
+        if (attempts >= maxAttempts) {
+            email.setStatus(OutboxStatus.FAILED);
+            log.error("Giving up on email id={} to {} after {} attempts", email.getId(), email.getRecipientEmail(), attempts, e);
+            return;
+        }
+
+        email.setNextAttemptAt(now.plusNanos(backoffMs(attempts) * 1_000_000L));
+        log.warn("Email id={} to {} failed (attempt {}), retrying at {}",
+                email.getId(), email.getRecipientEmail(), attempts, email.getNextAttemptAt());
+    }
+
+    private long backoffMs(int attempts) {
+        int shift = Math.min(attempts - 1, 30);
+        return Math.min(initialBackoffMs << shift, maxBackoffMs);
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
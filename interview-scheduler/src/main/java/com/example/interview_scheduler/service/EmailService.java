@@ -1,21 +1,115 @@
 package com.example.interview_scheduler.service;
 
-import lombok.RequiredArgsConstructor;
-import org.springframework.mail.SimpleMailMessage;
+import com.example.interview_scheduler.metrics.BookingMetrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.internet.MimeMessage;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.mail.javamail.MimeMessagePreparator;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
-@RequiredArgsConstructor
 public class EmailService {
 
     private final JavaMailSender mailSender;
+    private final BookingMetrics bookingMetrics;
+
+    public EmailService(@Lazy JavaMailSender mailSender, BookingMetrics bookingMetrics) {
+        this.mailSender = mailSender;
+        this.bookingMetrics = bookingMetrics;
+    }
 
     public void sendInvite(String toEmail, String subject, String body) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(toEmail);
-        message.setSubject(subject);
-        message.setText(body);
-        mailSender.send(message);
+        sendBatch(List.of(buildMessage(toEmail, subject, body, null)));
+    }
+
+    /**
+     * Sends all messages through a single SMTP session. Partial failures surface as a
+     * {@link org.springframework.mail.MailSendException} whose failed messages are the
+     * instances passed in here.
+     */
+    public void sendBatch(List<MimeMessagePreparator> preparators) {
+        if (preparators.isEmpty()) {
+            return;
+        }
+        Map<Object, Exception> failed = new LinkedHashMap<>();
+        List<MimeMessage> messages = new ArrayList<>(preparators.size());
+        Map<Object, MimeMessagePreparator> byMessage = new IdentityHashMap<>(preparators.size());
+        for (MimeMessagePreparator preparator : preparators) {
+            try {
+                MimeMessage message = mailSender.createMimeMessage();
+                preparator.prepare(message);
+                messages.add(message);
+                byMessage.put(message, preparator);
+            } catch (Exception e) {
+                failed.put(preparator, e);
+            }
+        }
+
+        try {
+            if (!messages.isEmpty()) {
+                send(messages.toArray(new MimeMessage[0]));
+            }
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                if (failed.isEmpty()) {
+                    throw e;
+                }
+                byMessage.values().forEach(preparator -> failed.put(preparator, e));
+            } else {
+                e.getFailedMessages().forEach((message, error) -> {
+                    MimeMessagePreparator preparator = byMessage.get(message);
+                    if (preparator != null) {
+                        failed.put(preparator, error);
+                    }
+                });
+            }
+        }
+        if (!failed.isEmpty()) {
+            throw new MailSendException(failed);
+        }
+    }
+
+    /**
+     * A plain-text message, or a multipart/alternative one when an HTML part is given.
+     */
+    public MimeMessagePreparator buildMessage(String toEmail, String subject, String text, String html) {
+        return mimeMessage -> {
+            int mode = html != null ? MimeMessageHelper.MULTIPART_MODE_RELATED : MimeMessageHelper.MULTIPART_MODE_NO;
+            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, mode, StandardCharsets.UTF_8.name());
+            helper.setTo(toEmail);
+            helper.setSubject(subject);
+            if (html != null) {
+                helper.setText(text, html);
+            } else {
+                helper.setText(text);
+            }
+        };
+    }
+
+    private void send(MimeMessage... messages) {
+        Timer.Sample sample = bookingMetrics.start();
+        int failed = 0;
+        try {
+            mailSender.send(messages);
+        } catch (MailSendException e) {
+            failed = e.getFailedMessages().isEmpty() ? messages.length : e.getFailedMessages().size();
+            throw e;
+        } catch (MailException e) {
+            failed = messages.length;
+            throw e;
+        } finally {
+            bookingMetrics.recordEmailSend(sample, messages.length, failed);
+        }
     }
 }
@@ -0,0 +1,124 @@
+package com.example.interview_scheduler.service;
+
+import com.example.interview_scheduler.exception.BookingException;
+import com.example.interview_scheduler.model.entity.IdempotencyRecord;
+import com.example.interview_scheduler.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Stores the result of a successful write under the client's Idempotency-Key in
+ * the same transaction as the write itself, so a retry either replays the stored
+ * result or, if the first attempt rolled back, runs the write again. Keys are
+ * scoped to the calling client, so integrations that happen to pick the same key
+ * stay apart.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyService {
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    public record Result<T>(T value, boolean replayed) { }
+
+    @Transactional
+    public <T> Result<T> execute(String operation, String clientId, String key, Object request, Class<T> resultType,
+                                 Supplier<T> action) {
+        if (key.isBlank() || key.length() > IdempotencyRecord.MAX_KEY_LENGTH) {
+            throw new BookingException("Idempotency-Key must be between 1 and " + IdempotencyRecord.MAX_KEY_LENGTH + " characters.");
+        }
+        if (clientId.isBlank() || clientId.length() > IdempotencyRecord.MAX_CLIENT_ID_LENGTH) {
+            throw new BookingException("Client id must be between 1 and " + IdempotencyRecord.MAX_CLIENT_ID_LENGTH + " characters.");
+        }
+        String requestHash = hash(request);
+        LocalDateTime now = LocalDateTime.now();
+
+        Optional<IdempotencyRecord> existing = idempotencyRecordRepository
+                .findByClientIdAndOperationAndIdempotencyKey(clientId, operation, key);
+        if (existing.isPresent()) {
+            IdempotencyRecord record = existing.get();
+            if (record.getExpiresAt().isAfter(now)) {
+                if (!record.getRequestHash().equals(requestHash)) {
+                    throw new BookingException("Idempotency-Key was already used with a different request.");
+                }
+                log.debug("Replaying {} for Idempotency-Key {} of client {}", operation, key, clientId);
+                return new Result<>(read(record.getResponseBody(), resultType), true);
+            }
+            idempotencyRecordRepository.delete(record);
+            idempotencyRecordRepository.flush();
+        }
+
+        T result = action.get();
+
+        IdempotencyRecord record = IdempotencyRecord.builder()
+                .clientId(clientId)
+                .operation(operation)
+                .idempotencyKey(key)
+                .requestHash(requestHash)
+                .responseBody(write(result))
+                .createdAt(now)
+                .expiresAt(now.plusHours(ttlHours))
+                .build();
+        try {
+            idempotencyRecordRepository.saveAndFlush(record);
+        } catch (DataIntegrityViolationException e) {
+            // Another request with the same key committed first; this attempt rolls back.
+            throw new BookingException(BookingException.Reason.CONFLICT,
+                    "A request with this Idempotency-Key is already being processed. Please retry.");
+        }
+        return new Result<>(result, false);
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = idempotencyRecordRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Purged {} expired idempotency records", deleted);
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Cannot hash request for idempotency", e);
+        }
+    }
+
+    private String write(Object result) {
+        try {
+            return objectMapper.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot store idempotent response", e);
+        }
+    }
+
+    private <T> T read(String body, Class<T> type) {
+        try {
+            return objectMapper.readValue(body, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot replay idempotent response", e);
+        }
+    }
+}
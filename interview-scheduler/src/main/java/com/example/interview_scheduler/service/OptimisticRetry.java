@@ -0,0 +1,44 @@
+package com.example.interview_scheduler.service;
+
+import com.example.interview_scheduler.exception.BookingException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs a write again when it lost a version check to a concurrent writer, in
+ * place of locking the row up front. Must wrap the outermost transaction: once
+ * the check fails, the transaction it ran in can only roll back.
+ */
+@Component
+@Slf4j
+public class OptimisticRetry {
+
+    private final int maxAttempts;
+
+    public OptimisticRetry(@Value("${booking.optimistic-retry.max-attempts:3}") int maxAttempts) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
+
+    /**
+     * The result of the first attempt of {@code write} that does not conflict; a
+     * conflict on the last attempt is reported as {@link BookingException.Reason#CONFLICT}.
+     */
+    public <T> T run(Supplier<T> write) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return write.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    log.debug("Giving up after {} conflicting attempts", attempt);
+                    throw new BookingException(BookingException.Reason.CONFLICT,
+                            "Booking was modified by another request. Please reload and retry.");
+                }
+                log.debug("Concurrent update detected, retrying (attempt {} of {})", attempt + 1, maxAttempts);
+            }
+        }
+    }
+}
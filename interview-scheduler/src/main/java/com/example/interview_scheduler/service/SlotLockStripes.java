@@ -0,0 +1,131 @@
+package com.example.interview_scheduler.service;
+
+import com.example.interview_scheduler.exception.BookingException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Striped in-process locks keyed on (participant, time bucket). Two bookings that
+ * overlap for the same interviewer or candidate always share at least one bucket,
+ * so they contend on a common stripe, while unrelated slots proceed in parallel.
+ * Locks are held until the surrounding transaction completes so the overlap check
+ * and the insert are atomic with respect to other requests on this node; the
+ * database exclusion constraints cover requests on other nodes.
+ */
+@Component
+public class SlotLockStripes {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+    private final long bucketMinutes;
+    private final long timeoutMs;
+
+    public SlotLockStripes(@Value("${booking.lock.stripes:256}") int stripeCount,
+                           @Value("${booking.lock.bucket-minutes:60}") long bucketMinutes,
+                           @Value("${booking.lock.timeout-ms:5000}") long timeoutMs) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+        this.bucketMinutes = bucketMinutes;
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * Locks every stripe covering [start, end) for the interviewer and the candidate,
+     * in ascending stripe order, and releases them after the current transaction
+     * commits or rolls back.
+     */
+    public void lockForTransaction(String interviewerName, String candidateName, LocalDateTime start, LocalDateTime end) {
+        lockForTransaction(List.of(new Slot(interviewerName, candidateName, start, end)));
+    }
+
+    /**
+     * Locks the stripes of all slots at once. Taking the union in a single ascending
+     * pass keeps batch reservations deadlock-free against each other and against
+     * single bookings.
+     */
+    public void lockForTransaction(Collection<Slot> slots) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Slot locks must be acquired inside a transaction");
+        }
+
+        int[] indexes = slots.stream()
+                .flatMapToInt(slot -> Arrays.stream(stripeIndexes(slot.interviewerName(), slot.candidateName(), slot.start(), slot.end())))
+                .distinct()
+                .sorted()
+                .toArray();
+        ReentrantLock[] held = new ReentrantLock[indexes.length];
+        int count = 0;
+        try {
+            for (int index : indexes) {
+                ReentrantLock lock = stripes[index];
+                if (!lock.tryLock(timeoutMs, TimeUnit.MILLISECONDS)) {
+                    throw new BookingException(BookingException.Reason.CONFLICT, "Time slot is busy. Please retry.");
+                }
+                held[count++] = lock;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            unlock(held, count);
+            throw new BookingException("Interrupted while reserving time slot");
+        } catch (RuntimeException e) {
+            unlock(held, count);
+            throw e;
+        }
+
+        int acquired = count;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                unlock(held, acquired);
+            }
+        });
+    }
+
+    public record Slot(String interviewerName, String candidateName, LocalDateTime start, LocalDateTime end) {
+    }
+
+    int[] stripeIndexes(String interviewerName, String candidateName, LocalDateTime start, LocalDateTime end) {
+        long firstBucket = bucket(start);
+        long lastBucket = Math.max(firstBucket, bucket(end.minusNanos(1)));
+        int buckets = (int) (lastBucket - firstBucket + 1);
+
+        int[] indexes = new int[buckets * 2];
+        int i = 0;
+        for (long bucket = firstBucket; bucket <= lastBucket; bucket++) {
+            indexes[i++] = stripe(interviewerName, 'I', bucket);
+            indexes[i++] = stripe(candidateName, 'C', bucket);
+        }
+        return Arrays.stream(indexes).distinct().sorted().toArray();
+    }
+
+    private long bucket(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC) / 60, bucketMinutes);
+    }
+
+    private int stripe(String participant, char role, long bucket) {
+        int h = participant.hashCode() * 31 + role;
+        h = h * 31 + Long.hashCode(bucket);
+        h ^= (h >>> 16);
+        return h & mask;
+    }
+
+    private static void unlock(ReentrantLock[] held, int count) {
+        for (int i = count - 1; i >= 0; i--) {
+            held[i].unlock();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.interview_scheduler.store;
+
+import com.example.interview_scheduler.model.dto.BookingFilterDTO;
+import com.example.interview_scheduler.model.dto.BookingIntervalDTO;
+import com.example.interview_scheduler.model.dto.BookingSlotDTO;
+import com.example.interview_scheduler.model.dto.BookingSummaryDTO;
+import com.example.interview_scheduler.model.dto.CalendarEventDTO;
+import com.example.interview_scheduler.model.entity.Booking;
+import com.example.interview_scheduler.model.entity.InviteResponse;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Storage engine for bookings and their invites, selected with
+ * {@code booking.store.type}. Callers work on {@link Booking} objects and hand
+ * every change back through {@link #insert} or {@link #update}, so an engine
+ * that does not track managed entities sees each write explicitly.
+ * <p>
+ * Writes join the caller's transaction. Overlapping slots surface as
+ * {@link org.springframework.dao.DataIntegrityViolationException} and stale
+ * versions as {@link org.springframework.dao.OptimisticLockingFailureException},
+ * whichever engine is in use.
+ */
+public interface BookingStore {
+
+    boolean existsOverlappingForInterviewer(String interviewerName, LocalDateTime start, LocalDateTime end);
+
+    boolean existsOverlappingForCandidate(String candidateName, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Every active slot held by any of the given interviewers or candidates that
+     * could intersect [start, end).
+     */
+    List<BookingSlotDTO> findActiveSlots(Collection<String> interviewerNames, Collection<String> candidateNames,
+                                         LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Stores new bookings together with the invites in their {@code responses},
+     * assigning ids, initial versions and a change sequence number.
+     */
+    void insert(List<Booking> bookings);
+
+    /**
+     * Loads a booking without its invites. Nothing is locked; {@link #update}
+     * rejects the change if another writer got there first.
+     */
+    Optional<Booking> find(Long id);
+
+    /**
+     * The invite of the given recipient, or the booking's first invite when no
+     * email is given.
+     */
+    Optional<InviteResponse> findInvite(Booking booking, String recipientEmail);
+
+    /**
+     * Writes the changes made to a booking and its invites since it was loaded,
+     * advancing its version and assigning it a new change sequence number.
+     */
+    void update(Booking booking);
+
+    Optional<Booking> findWithResponses(Long id);
+
+    /**
+     * The current version of a booking, read without loading the booking or its
+     * invites.
+     */
+    Optional<Long> findVersion(Long id);
+
+    /**
+     * The given bookings among those starting at or after {@code startingFrom}; the
+     * lower bound lets a partitioned table skip every earlier month.
+     */
+    List<Booking> findWithResponses(Collection<Long> ids, LocalDateTime startingFrom);
+
+    /**
+     * One page of bookings matching the filter, ordered by start time and id and
+     * resuming after the given keyset position when one is given.
+     */
+    List<BookingSummaryDTO> findSummaries(BookingFilterDTO filter, LocalDateTime afterDateTime, Long afterId, int limit);
+
+    /**
+     * The highest change sequence number among the interviewer's bookings starting
+     * at or after {@code startingFrom}, or 0 when there are none.
+     */
+    long findLatestChangeSeq(String interviewerName, LocalDateTime startingFrom);
+
+    /**
+     * The interviewer's bookings starting at or after {@code startingFrom} that
+     * changed after {@code afterChangeSeq}, in change order. Numbers are handed
+     * out when a change is written, not when it commits, so a change may become
+     * visible after one with a higher number.
+     */
+    List<CalendarEventDTO> findChangedSince(String interviewerName, long afterChangeSeq, LocalDateTime startingFrom);
+
+    /**
+     * Every active booking that has not finished yet; callers must close the
+     * stream and, for the JPA engine, hold a transaction open while consuming it.
+     */
+    Stream<BookingIntervalDTO> streamActiveIntervalsEndingAfter(LocalDateTime after);
+}
@@ -0,0 +1,135 @@
+package com.example.interview_scheduler.store;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only log of committed booking states on local disk. Each line holds the
+ * JSON array of records written by one transaction, so replaying the file and
+ * keeping the last record per id restores the store. On startup the log is
+ * replayed and then rewritten to hold only the current records.
+ */
+@Slf4j
+final class BookingWriteAheadLog implements Closeable {
+
+    private static final int SNAPSHOT_RECORDS_PER_LINE = 100;
+
+    private final Path path;
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+    private final boolean sync;
+    private FileChannel channel;
+
+    BookingWriteAheadLog(Path path, ObjectMapper objectMapper, boolean sync) {
+        this.path = path;
+        this.reader = objectMapper.readerForListOf(StoredBooking.class);
+        this.writer = objectMapper.writer();
+        this.sync = sync;
+    }
+
+    /**
+     * Reads every record in the log, keeping the latest state of each booking. A
+     * final line cut short by a crash is skipped; damage anywhere else fails.
+     */
+    List<StoredBooking> replay() throws IOException {
+        if (!Files.exists(path)) {
+            return List.of();
+        }
+        Map<Long, StoredBooking> latest = new LinkedHashMap<>();
+        try (BufferedReader lines = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            int number = 0;
+            String line = lines.readLine();
+            while (line != null) {
+                number++;
+                String next = lines.readLine();
+                if (!line.isBlank()) {
+                    try {
+                        List<StoredBooking> records = reader.readValue(line);
+                        for (StoredBooking record : records) {
+                            latest.put(record.id(), record);
+                        }
+                    } catch (JsonProcessingException e) {
+                        if (next != null) {
+                            throw new IOException("Corrupt booking log " + path + " at line " + number, e);
+                        }
+                        log.warn("Skipping incomplete last entry of booking log {}", path);
+                    }
+                }
+                line = next;
+            }
+        }
+        return new ArrayList<>(latest.values());
+    }
+
+    /**
+     * Replaces the log with a compact copy holding only the given records and opens
+     * it for appending.
+     */
+    void open(Collection<StoredBooking> records) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path compacted = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try (FileChannel out = FileChannel.open(compacted, StandardOpenOption.WRITE)) {
+            List<StoredBooking> chunk = new ArrayList<>(SNAPSHOT_RECORDS_PER_LINE);
+            for (StoredBooking record : records) {
+                chunk.add(record);
+                if (chunk.size() == SNAPSHOT_RECORDS_PER_LINE) {
+                    write(out, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                write(out, chunk);
+            }
+            out.force(true);
+        }
+        Files.move(compacted, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        log.info("Booking log {} opened with {} records", path, records.size());
+    }
+
+    /**
+     * Appends the records of one transaction as a single line, forced to disk when
+     * {@code booking.store.wal.sync} is set.
+     */
+    synchronized void append(Collection<StoredBooking> records) throws IOException {
+        write(channel, records);
+        if (sync) {
+            channel.force(false);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    private void write(FileChannel out, Collection<StoredBooking> records) throws IOException {
+        byte[] json = writer.writeValueAsBytes(records);
+        ByteBuffer buffer = ByteBuffer.allocate(json.length + 1).put(json).put((byte) '\n').flip();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,495 @@
+package com.example.interview_scheduler.store;
+
+import com.example.interview_scheduler.exception.BookingException;
+import com.example.interview_scheduler.model.dto.BookingFilterDTO;
+import com.example.interview_scheduler.model.dto.BookingIntervalDTO;
+import com.example.interview_scheduler.model.dto.BookingSlotDTO;
+import com.example.interview_scheduler.model.dto.BookingSummaryDTO;
+import com.example.interview_scheduler.model.dto.CalendarEventDTO;
+import com.example.interview_scheduler.model.entity.Booking;
+import com.example.interview_scheduler.model.entity.InviteResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Single-node engine that keeps every booking in memory. Committed bookings sit
+ * in a {@link LongKeyedTable} as immutable {@link StoredBooking} records, found by
+ * start time through skip-list indexes per interviewer, per candidate and overall;
+ * reads never lock. Writes are held per transaction and published when it
+ * commits, after being appended to the optional {@link BookingWriteAheadLog}.
+ * Reads by id see the transaction's own pending writes, range reads only
+ * committed ones.
+ * <p>
+ * An update holds a striped lock on its booking until the transaction completes,
+ * so the version check and the pending write cannot interleave with another
+ * writer's. The
+ * overlap check on insert stands in for the database exclusion constraints; it
+ * is exact only because all writers share this node's {@code SlotLockStripes}.
+ * <p>
+ * Ids come from blocks reserved in database sequences. Deadlines, outbox mail and
+ * idempotency records outlive the bookings when no log is kept, and must never
+ * come to name a different booking that reused an id.
+ */
+@Component
+@ConditionalOnProperty(name = "booking.store.type", havingValue = "memory")
+@Slf4j
+public class InMemoryBookingStore implements BookingStore, DisposableBean {
+
+    private final LongKeyedTable<StoredBooking> bookings = new LongKeyedTable<>();
+    private final NavigableSet<SlotKey> byStart = new ConcurrentSkipListSet<>();
+    private final Map<String, NavigableSet<SlotKey>> byInterviewer = new ConcurrentHashMap<>();
+    private final Map<String, NavigableSet<SlotKey>> byCandidate = new ConcurrentHashMap<>();
+    private final SequenceIdBlocks bookingIds;
+    private final SequenceIdBlocks inviteIds;
+    private final AtomicLong changeSeqs = new AtomicLong();
+
+    private final ReentrantLock[] locks;
+    private final int lockMask;
+    private final long lockTimeoutMs;
+    private final BookingWriteAheadLog writeAheadLog;
+
+    public InMemoryBookingStore(ObjectMapper objectMapper,
+                                DataSource dataSource,
+                                @Value("${booking.store.wal.path:}") String walPath,
+                                @Value("${booking.store.wal.sync:true}") boolean walSync,
+                                @Value("${booking.lock.stripes:256}") int lockStripes,
+                                @Value("${booking.lock.timeout-ms:5000}") long lockTimeoutMs) throws IOException {
+        int size = Integer.highestOneBit(Math.max(1, lockStripes - 1)) << 1;
+        this.locks = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.lockMask = size - 1;
+        this.lockTimeoutMs = lockTimeoutMs;
+
+        this.bookingIds = new SequenceIdBlocks(dataSource, "booking_store_booking_id_seq");
+        this.inviteIds = new SequenceIdBlocks(dataSource, "booking_store_invite_id_seq");
+
+        if (walPath.isBlank()) {
+            writeAheadLog = null;
+            log.info("In-memory booking store started without a log; bookings are lost on shutdown");
+            return;
+        }
+        writeAheadLog = new BookingWriteAheadLog(Path.of(walPath), objectMapper, walSync);
+        List<StoredBooking> recovered = writeAheadLog.replay();
+        long lastBookingId = 0;
+        long lastInviteId = 0;
+        for (StoredBooking record : recovered) {
+            publish(record);
+            lastBookingId = Math.max(lastBookingId, record.id());
+            changeSeqs.accumulateAndGet(record.changeSeq(), Math::max);
+            for (StoredBooking.StoredInvite invite : record.invites()) {
+                lastInviteId = Math.max(lastInviteId, invite.id());
+            }
+        }
+        bookingIds.skipPast(lastBookingId);
+        inviteIds.skipPast(lastInviteId);
+        writeAheadLog.open(recovered);
+    }
+
+    @Override
+    public boolean existsOverlappingForInterviewer(String interviewerName, LocalDateTime start, LocalDateTime end) {
+        return anyActiveOverlap(byInterviewer.get(interviewerName), start, end);
+    }
+
+    @Override
+    public boolean existsOverlappingForCandidate(String candidateName, LocalDateTime start, LocalDateTime end) {
+        return anyActiveOverlap(byCandidate.get(candidateName), start, end);
+    }
+
+    @Override
+    public List<BookingSlotDTO> findActiveSlots(Collection<String> interviewerNames, Collection<String> candidateNames,
+                                                LocalDateTime start, LocalDateTime end) {
+        Map<Long, BookingSlotDTO> slots = new LinkedHashMap<>();
+        for (String name : interviewerNames) {
+            collectActiveSlots(byInterviewer.get(name), start, end, slots);
+        }
+        for (String name : candidateNames) {
+            collectActiveSlots(byCandidate.get(name), start, end, slots);
+        }
+        return new ArrayList<>(slots.values());
+    }
+
+    @Override
+    public void insert(List<Booking> newBookings) {
+        List<StoredBooking> records = new ArrayList<>(newBookings.size());
+        for (Booking booking : newBookings) {
+            if (existsOverlappingForInterviewer(booking.getInterviewerName(), booking.getProposedDateTime(), booking.getEndDateTime())
+                    || existsOverlappingForCandidate(booking.getCandidateName(), booking.getProposedDateTime(), booking.getEndDateTime())) {
+                throw new DataIntegrityViolationException("Booking overlaps an existing slot of "
+                        + booking.getInterviewerName() + " or " + booking.getCandidateName());
+            }
+        }
+        long changeSeq = changeSeqs.incrementAndGet();
+        for (Booking booking : newBookings) {
+            booking.setId(bookingIds.next());
+            booking.setVersion(0L);
+            booking.setChangeSeq(changeSeq);
+            List<StoredBooking.StoredInvite> invites = new ArrayList<>(booking.getResponses().size());
+            for (InviteResponse invite : booking.getResponses()) {
+                invite.setId(inviteIds.next());
+                invite.setVersion(0L);
+                invites.add(StoredBooking.StoredInvite.from(invite));
+            }
+            records.add(StoredBooking.from(booking, invites));
+        }
+        write(records);
+    }
+
+    @Override
+    public Optional<Booking> find(Long id) {
+        return Optional.ofNullable(current(id)).map(StoredBooking::toEntity);
+    }
+
+    @Override
+    public Optional<InviteResponse> findInvite(Booking booking, String recipientEmail) {
+        for (InviteResponse invite : booking.getResponses()) {
+            if (recipientEmail == null || recipientEmail.isBlank() || invite.getRecipientEmail().equalsIgnoreCase(recipientEmail)) {
+                return Optional.of(invite);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void update(Booking booking) {
+        lock(booking.getId());
+        StoredBooking stored = current(booking.getId());
+        if (stored == null || !Objects.equals(stored.version(), booking.getVersion())) {
+            throw new OptimisticLockingFailureException("Booking " + booking.getId() + " was updated concurrently");
+        }
+
+        Map<Long, StoredBooking.StoredInvite> storedInvites = new LinkedHashMap<>();
+        for (StoredBooking.StoredInvite invite : stored.invites()) {
+            storedInvites.put(invite.id(), invite);
+        }
+        List<StoredBooking.StoredInvite> invites = new ArrayList<>(booking.getResponses().size());
+        for (InviteResponse invite : booking.getResponses()) {
+            if (invite.getId() == null) {
+                invite.setId(inviteIds.next());
+                invite.setVersion(0L);
+            } else {
+                StoredBooking.StoredInvite before = storedInvites.get(invite.getId());
+                if (before != null && !before.equals(StoredBooking.StoredInvite.from(invite))) {
+                    invite.setVersion(before.version() + 1);
+                }
+            }
+            invites.add(StoredBooking.StoredInvite.from(invite));
+        }
+        booking.setVersion(stored.version() + 1);
+        booking.setChangeSeq(changeSeqs.incrementAndGet());
+        write(List.of(StoredBooking.from(booking, invites)));
+    }
+
+    @Override
+    public Optional<Booking> findWithResponses(Long id) {
+        return Optional.ofNullable(current(id)).map(StoredBooking::toEntity);
+    }
+
+    @Override
+    public Optional<Long> findVersion(Long id) {
+        return Optional.ofNullable(current(id)).map(StoredBooking::version);
+    }
+
+    @Override
+    public List<Booking> findWithResponses(Collection<Long> ids, LocalDateTime startingFrom) {
+        List<Booking> found = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            StoredBooking record = current(id);
+            if (record != null && !record.proposedDateTime().isBefore(startingFrom)) {
+                found.add(record.toEntity());
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public List<BookingSummaryDTO> findSummaries(BookingFilterDTO filter, LocalDateTime afterDateTime, Long afterId, int limit) {
+        NavigableSet<SlotKey> index = filter.interviewerName() != null ? byInterviewer.get(filter.interviewerName())
+                : filter.candidateName() != null ? byCandidate.get(filter.candidateName())
+                : byStart;
+        if (index == null) {
+            return List.of();
+        }
+
+        SlotKey lower = filter.from() != null ? new SlotKey(filter.from(), Long.MIN_VALUE) : null;
+        boolean lowerInclusive = true;
+        if (afterDateTime != null && afterId != null) {
+            SlotKey after = new SlotKey(afterDateTime, afterId);
+            if (lower == null || after.compareTo(lower) >= 0) {
+                lower = after;
+                lowerInclusive = false;
+            }
+        }
+        SlotKey upper = filter.to() != null ? new SlotKey(filter.to(), Long.MIN_VALUE) : null;
+        if (lower != null && upper != null && lower.compareTo(upper) >= 0) {
+            return List.of();
+        }
+        NavigableSet<SlotKey> range = lower != null ? index.tailSet(lower, lowerInclusive) : index;
+        if (upper != null) {
+            range = range.headSet(upper, false);
+        }
+
+        List<BookingSummaryDTO> page = new ArrayList<>(Math.min(limit, 64));
+        for (SlotKey key : range) {
+            StoredBooking record = bookings.get(key.id());
+            if (record != null && matches(record, filter)) {
+                page.add(new BookingSummaryDTO(record.id(), record.candidateName(), record.interviewerName(),
+                        record.proposedDateTime(), record.endDateTime(), record.platform(), record.status()));
+                if (page.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return page;
+    }
+
+    @Override
+    public long findLatestChangeSeq(String interviewerName, LocalDateTime startingFrom) {
+        long latest = 0;
+        for (StoredBooking record : startingFrom(interviewerName, startingFrom)) {
+            latest = Math.max(latest, record.changeSeq());
+        }
+        return latest;
+    }
+
+    @Override
+    public List<CalendarEventDTO> findChangedSince(String interviewerName, long afterChangeSeq, LocalDateTime startingFrom) {
+        List<CalendarEventDTO> changed = new ArrayList<>();
+        for (StoredBooking record : startingFrom(interviewerName, startingFrom)) {
+            if (record.changeSeq() > afterChangeSeq) {
+                changed.add(new CalendarEventDTO(record.id(), record.candidateName(), record.interviewerName(),
+                        record.proposedDateTime(), record.endDateTime(), record.platform(), record.status(),
+                        record.version(), record.updatedAt(), record.changeSeq()));
+            }
+        }
+        changed.sort(Comparator.comparingLong(CalendarEventDTO::changeSeq).thenComparingLong(CalendarEventDTO::id));
+        return changed;
+    }
+
+    @Override
+    public Stream<BookingIntervalDTO> streamActiveIntervalsEndingAfter(LocalDateTime after) {
+        return byStart.tailSet(new SlotKey(after.minusMinutes(Booking.MAX_DURATION_MINUTES), Long.MIN_VALUE)).stream()
+                .map(key -> bookings.get(key.id()))
+                .filter(record -> record != null && record.isActive() && record.endDateTime().isAfter(after))
+                .map(record -> new BookingIntervalDTO(record.id(), record.interviewerName(),
+                        record.proposedDateTime(), record.endDateTime()));
+    }
+
+    /**
+     * Slots in the booking table's directory, for tests.
+     */
+    int bookingTableDirectoryLength() {
+        return bookings.directoryLength();
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        if (writeAheadLog != null) {
+            writeAheadLog.close();
+        }
+    }
+
+    /**
+     * Holds the records until the surrounding transaction commits: the log append
+     * runs before the commit so a failed write rolls the transaction back, and the
+     * records become visible after it. Outside a transaction both happen at once.
+     */
+    private void write(List<StoredBooking> records) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            appendToLog(records);
+            records.forEach(this::publish);
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Map<Long, StoredBooking> pending = (Map<Long, StoredBooking>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Map<Long, StoredBooking> transactionWrites = new LinkedHashMap<>();
+            TransactionSynchronizationManager.bindResource(this, transactionWrites);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    appendToLog(transactionWrites.values());
+                }
+
+                @Override
+                public void afterCommit() {
+                    transactionWrites.values().forEach(InMemoryBookingStore.this::publish);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(InMemoryBookingStore.this);
+                }
+            });
+            pending = transactionWrites;
+        }
+        for (StoredBooking record : records) {
+            pending.put(record.id(), record);
+        }
+    }
+
+    private void appendToLog(Collection<StoredBooking> records) {
+        if (writeAheadLog == null || records.isEmpty()) {
+            return;
+        }
+        try {
+            writeAheadLog.append(records);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot append to booking log", e);
+        }
+    }
+
+    /**
+     * Makes a committed record visible. The table is updated before a new booking
+     * is indexed, so every indexed key resolves to a record.
+     */
+    private void publish(StoredBooking record) {
+        boolean isNew = bookings.get(record.id()) == null;
+        bookings.put(record.id(), record);
+        if (isNew) {
+            SlotKey key = new SlotKey(record.proposedDateTime(), record.id());
+            byInterviewer.computeIfAbsent(record.interviewerName(), name -> new ConcurrentSkipListSet<>()).add(key);
+            byCandidate.computeIfAbsent(record.candidateName(), name -> new ConcurrentSkipListSet<>()).add(key);
+            byStart.add(key);
+        }
+    }
+
+    private StoredBooking current(Long id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            @SuppressWarnings("unchecked")
+            Map<Long, StoredBooking> pending = (Map<Long, StoredBooking>) TransactionSynchronizationManager.getResource(this);
+            if (pending != null && pending.containsKey(id)) {
+                return pending.get(id);
+            }
+        }
+        return bookings.get(id);
+    }
+
+    /**
+     * Locks the booking's stripe until the current transaction completes. Outside
+     * a transaction there is nothing to hold the lock for, so none is taken.
+     */
+    private void lock(long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        ReentrantLock lock = locks[Long.hashCode(id * 0x9E3779B97F4A7C15L) & lockMask];
+        if (lock.isHeldByCurrentThread()) {
+            return;
+        }
+        try {
+            if (!lock.tryLock(lockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new BookingException(BookingException.Reason.CONFLICT, "Booking is busy. Please retry.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BookingException("Interrupted while waiting for booking");
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+    }
+
+    private List<StoredBooking> startingFrom(String interviewerName, LocalDateTime startingFrom) {
+        NavigableSet<SlotKey> index = byInterviewer.get(interviewerName);
+        if (index == null) {
+            return List.of();
+        }
+        List<StoredBooking> records = new ArrayList<>();
+        for (SlotKey key : index.tailSet(new SlotKey(startingFrom, Long.MIN_VALUE))) {
+            StoredBooking record = bookings.get(key.id());
+            if (record != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    private boolean anyActiveOverlap(NavigableSet<SlotKey> index, LocalDateTime start, LocalDateTime end) {
+        if (index == null) {
+            return false;
+        }
+        for (SlotKey key : candidates(index, start, end)) {
+            StoredBooking record = bookings.get(key.id());
+            if (record != null && record.isActive() && record.overlaps(start, end)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void collectActiveSlots(NavigableSet<SlotKey> index, LocalDateTime start, LocalDateTime end,
+                                    Map<Long, BookingSlotDTO> slots) {
+        if (index == null) {
+            return;
+        }
+        for (SlotKey key : candidates(index, start, end)) {
+            StoredBooking record = bookings.get(key.id());
+            if (record != null && record.isActive() && record.overlaps(start, end)) {
+                slots.putIfAbsent(record.id(), new BookingSlotDTO(record.interviewerName(), record.candidateName(),
+                        record.proposedDateTime(), record.endDateTime()));
+            }
+        }
+    }
+
+    /**
+     * Keys of bookings starting late enough to reach {@code start} and before
+     * {@code end}; no booking is longer than {@link Booking#MAX_DURATION_MINUTES}.
+     */
+    private static NavigableSet<SlotKey> candidates(NavigableSet<SlotKey> index, LocalDateTime start, LocalDateTime end) {
+        return index.subSet(new SlotKey(start.minusMinutes(Booking.MAX_DURATION_MINUTES), Long.MIN_VALUE), true,
+                new SlotKey(end, Long.MIN_VALUE), false);
+    }
+
+    private static boolean matches(StoredBooking record, BookingFilterDTO filter) {
+        return (filter.interviewerName() == null || filter.interviewerName().equals(record.interviewerName()))
+                && (filter.candidateName() == null || filter.candidateName().equals(record.candidateName()))
+                && (filter.status() == null || filter.status() == record.status())
+                && (filter.platform() == null || filter.platform() == record.platform());
+    }
+
+    /**
+     * Index entry ordered by start time, then id, matching the listing order.
+     */
+    private record SlotKey(LocalDateTime start, long id) implements Comparable<SlotKey> {
+
+        @Override
+        public int compareTo(SlotKey other) {
+            int byTime = start.compareTo(other.start);
+            return byTime != 0 ? byTime : Long.compare(id, other.id);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.interview_scheduler.store;
+
+import com.example.interview_scheduler.model.dto.BookingFilterDTO;
+import com.example.interview_scheduler.model.dto.BookingIntervalDTO;
+import com.example.interview_scheduler.model.dto.BookingSlotDTO;
+import com.example.interview_scheduler.model.dto.BookingSummaryDTO;
+import com.example.interview_scheduler.model.dto.CalendarEventDTO;
+import com.example.interview_scheduler.model.entity.Booking;
+import com.example.interview_scheduler.model.entity.InviteResponse;
+import com.example.interview_scheduler.repository.BookingRepository;
+import com.example.interview_scheduler.repository.InviteResponseRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * The default engine: bookings live in the relational database and changes to
+ * loaded entities are written by Hibernate's dirty checking, with the exclusion
+ * constraints as the final guard against overlaps.
+ */
+@Component
+@ConditionalOnProperty(name = "booking.store.type", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JpaBookingStore implements BookingStore {
+
+    private final BookingRepository bookingRepository;
+    private final InviteResponseRepository inviteResponseRepository;
+
+    @Override
+    public boolean existsOverlappingForInterviewer(String interviewerName, LocalDateTime start, LocalDateTime end) {
+        return bookingRepository.existsOverlappingForInterviewer(interviewerName, start, end);
+    }
+
+    @Override
+    public boolean existsOverlappingForCandidate(String candidateName, LocalDateTime start, LocalDateTime end) {
+        return bookingRepository.existsOverlappingForCandidate(candidateName, start, end);
+    }
+
+    @Override
+    public List<BookingSlotDTO> findActiveSlots(Collection<String> interviewerNames, Collection<String> candidateNames,
+                                                LocalDateTime start, LocalDateTime end) {
+        return bookingRepository.findActiveSlots(interviewerNames, candidateNames, start, end);
+    }
+
+    /**
+     * Invites are persisted through the cascade on {@link Booking#getResponses()}.
+     * Flushing here lets the caller translate a constraint violation while it can
+     * still answer with a conflict.
+     */
+    @Override
+    public void insert(List<Booking> bookings) {
+        // A batch commits as a whole, so its bookings can share one number.
+        long changeSeq = bookingRepository.nextChangeSeq();
+        bookings.forEach(booking -> booking.setChangeSeq(changeSeq));
+        bookingRepository.saveAll(bookings);
+        bookingRepository.flush();
+    }
+
+    @Override
+    public Optional<Booking> find(Long id) {
+        return bookingRepository.findById(id);
+    }
+
+    @Override
+    public Optional<InviteResponse> findInvite(Booking booking, String recipientEmail) {
+        if (recipientEmail == null || recipientEmail.isBlank()) {
+            return inviteResponseRepository.findFirstByBookingIdOrderById(booking.getId());
+        }
+        return inviteResponseRepository.findByBookingIdAndRecipientEmailIgnoreCase(booking.getId(), recipientEmail);
+    }
+
+    @Override
+    public void update(Booking booking) {
+        booking.setChangeSeq(bookingRepository.nextChangeSeq());
+        bookingRepository.flush();
+    }
+
+    @Override
+    public Optional<Booking> findWithResponses(Long id) {
+        return bookingRepository.findWithResponsesById(id);
+    }
+
+    @Override
+    public Optional<Long> findVersion(Long id) {
+        return bookingRepository.findVersionById(id);
+    }
+
+    @Override
+    public List<Booking> findWithResponses(Collection<Long> ids, LocalDateTime startingFrom) {
+        return bookingRepository.findWithResponsesByIdInAndProposedDateTimeGreaterThanEqual(ids, startingFrom);
+    }
+
+    @Override
+    public List<BookingSummaryDTO> findSummaries(BookingFilterDTO filter, LocalDateTime afterDateTime, Long afterId, int limit) {
+        return bookingRepository.findSummaries(filter, afterDateTime, afterId, limit);
+    }
+
+    @Override
+    public long findLatestChangeSeq(String interviewerName, LocalDateTime startingFrom) {
+        return bookingRepository.findLatestChangeSeq(interviewerName, startingFrom);
+    }
+
+    @Override
+    public List<CalendarEventDTO> findChangedSince(String interviewerName, long afterChangeSeq, LocalDateTime startingFrom) {
+        return bookingRepository.findChangedSince(interviewerName, afterChangeSeq, startingFrom);
+    }
+
+    @Override
+    public Stream<BookingIntervalDTO> streamActiveIntervalsEndingAfter(LocalDateTime after) {
+        return bookingRepository.streamActiveIntervalsEndingAfter(after);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.interview_scheduler.store;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Map from dense, non-negative long keys to values, laid out as fixed-size pages
+ * addressed directly by the key. A lookup is two array reads with no hashing or
+ * boxing; writers only take a lock to add a page.
+ */
+final class LongKeyedTable<V> {
+
+    private static final int PAGE_BITS = 12;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private volatile AtomicReferenceArray<V>[] pages = newDirectory(16);
+
+    V get(long key) {
+        long pageIndex = key >>> PAGE_BITS;
+        AtomicReferenceArray<V>[] current = pages;
+        if (key < 0 || pageIndex >= current.length) {
+            return null;
+        }
+        AtomicReferenceArray<V> page = current[(int) pageIndex];
+        return page == null ? null : page.get((int) (key & PAGE_MASK));
+    }
+
+    void put(long key, V value) {
+        page(key).set((int) (key & PAGE_MASK), value);
+    }
+
+    int directoryLength() {
+        return pages.length;
+    }
+
+    private AtomicReferenceArray<V> page(long key) {
+        if (key < 0) {
+            throw new IllegalArgumentException("Negative key " + key);
+        }
+        int pageIndex = Math.toIntExact(key >>> PAGE_BITS);
+        AtomicReferenceArray<V>[] current = pages;
+        if (pageIndex < current.length && current[pageIndex] != null) {
+            return current[pageIndex];
+        }
+        synchronized (this) {
+            current = pages;
+            if (pageIndex >= current.length) {
+                current = Arrays.copyOf(current, Math.max(current.length * 2, pageIndex + 1));
+            }
+            if (current[pageIndex] == null) {
+                current[pageIndex] = new AtomicReferenceArray<>(PAGE_SIZE);
+            }
+            // Republish so readers that see the directory also see the new page.
+            pages = current;
+            return current[pageIndex];
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> AtomicReferenceArray<V>[] newDirectory(int size) {
+        return (AtomicReferenceArray<V>[]) new AtomicReferenceArray[size];
+    }
+}
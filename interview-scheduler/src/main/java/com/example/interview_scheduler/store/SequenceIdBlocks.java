@@ -0,0 +1,60 @@
+package com.example.interview_scheduler.store;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * Hands out ids from blocks of {@link #BLOCK_SIZE} reserved in a database
+ * sequence. Ids stay dense, as {@link LongKeyedTable} expects, while a restart
+ * never reuses one: it skips the unused rest of the last block instead, so each
+ * restart costs at most one block.
+ */
+final class SequenceIdBlocks {
+
+    static final int BLOCK_SIZE = 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String sequence;
+    private long next;
+    private long limit;
+
+    SequenceIdBlocks(DataSource dataSource, String sequence) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.sequence = sequence;
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + sequence + " START WITH 1 INCREMENT BY " + BLOCK_SIZE);
+    }
+
+    synchronized long next() {
+        if (next >= limit) {
+            reserve();
+        }
+        return next++;
+    }
+
+    /**
+     * Makes every later id greater than {@code id}, one recovered from the log,
+     * moving the sequence forward past it if needed.
+     */
+    synchronized void skipPast(long id) {
+        if (next >= limit) {
+            reserve();
+        }
+        if (id < next) {
+            return;
+        }
+        if (id >= limit) {
+            long restart = (id / BLOCK_SIZE + 1) * BLOCK_SIZE + 1;
+            jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + restart);
+            reserve();
+        } else {
+            next = id + 1;
+        }
+    }
+
+    private void reserve() {
+        Long start = jdbcTemplate.queryForObject("SELECT nextval('" + sequence + "')", Long.class);
+        next = start;
+        limit = start + BLOCK_SIZE;
+    }
+}
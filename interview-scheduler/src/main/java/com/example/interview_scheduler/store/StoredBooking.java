@@ -0,0 +1,102 @@
+package com.example.interview_scheduler.store;
+
+import com.example.interview_scheduler.model.entity.Booking;
+import com.example.interview_scheduler.model.entity.InviteResponse;
+import com.example.interview_scheduler.model.enums.BookingStatus;
+import com.example.interview_scheduler.model.enums.MeetingPlatform;
+import com.example.interview_scheduler.model.enums.ResponseStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable committed state of one booking in the in-memory engine, and the unit
+ * written to its log. Every change replaces the whole record, so a reader always
+ * sees a booking and its invites at a single version.
+ */
+record StoredBooking(
+        long id,
+        String candidateName,
+        String interviewerName,
+        LocalDateTime proposedDateTime,
+        Integer durationMinutes,
+        LocalDateTime endDateTime,
+        MeetingPlatform platform,
+        BookingStatus status,
+        LocalDateTime updatedAt,
+        long version,
+        long changeSeq,
+        int inviteCount,
+        int acceptedCount,
+        int rejectedCount,
+        int proposedCount,
+        List<StoredInvite> invites
+) {
+
+    record StoredInvite(long id, String recipientEmail, ResponseStatus responseStatus,
+                        LocalDateTime proposedDateTime, long version) {
+
+        static StoredInvite from(InviteResponse invite) {
+            return new StoredInvite(invite.getId(), invite.getRecipientEmail(), invite.getResponseStatus(),
+                    invite.getProposedDateTime(), invite.getVersion());
+        }
+
+        InviteResponse toEntity(Booking booking) {
+            return InviteResponse.builder()
+                    .id(id)
+                    .recipientEmail(recipientEmail)
+                    .responseStatus(responseStatus)
+                    .proposedDateTime(proposedDateTime)
+                    .bookingStart(booking.getProposedDateTime())
+                    .version(version)
+                    .booking(booking)
+                    .build();
+        }
+    }
+
+    static StoredBooking from(Booking booking, List<StoredInvite> invites) {
+        return new StoredBooking(booking.getId(), booking.getCandidateName(), booking.getInterviewerName(),
+                booking.getProposedDateTime(), booking.getDurationMinutes(), booking.getEndDateTime(),
+                booking.getPlatform(), booking.getStatus(), booking.getUpdatedAt(), booking.getVersion(),
+                booking.getChangeSeq() != null ? booking.getChangeSeq() : 0L, booking.getInviteCount(),
+                booking.getAcceptedCount(), booking.getRejectedCount(), booking.getProposedCount(), List.copyOf(invites));
+    }
+
+    boolean isActive() {
+        return status != BookingStatus.REJECTED && status != BookingStatus.EXPIRED;
+    }
+
+    boolean overlaps(LocalDateTime start, LocalDateTime end) {
+        return proposedDateTime.isBefore(end) && endDateTime.isAfter(start);
+    }
+
+    /**
+     * A detached entity the caller may change freely and hand back through
+     * {@link BookingStore#update}.
+     */
+    Booking toEntity() {
+        Booking booking = Booking.builder()
+                .id(id)
+                .candidateName(candidateName)
+                .interviewerName(interviewerName)
+                .proposedDateTime(proposedDateTime)
+                .durationMinutes(durationMinutes)
+                .endDateTime(endDateTime)
+                .platform(platform)
+                .status(status)
+                .updatedAt(updatedAt)
+                .version(version)
+                .changeSeq(changeSeq)
+                .inviteCount(inviteCount)
+                .acceptedCount(acceptedCount)
+                .rejectedCount(rejectedCount)
+                .proposedCount(proposedCount)
+                .responses(new ArrayList<>(invites.size()))
+                .build();
+        for (StoredInvite invite : invites) {
+            booking.getResponses().add(invite.toEntity(booking));
+        }
+        return booking;
+    }
+}
@@ -0,0 +1,344 @@
+-- Runs after Hibernate's ddl-auto update (spring.jpa.defer-datasource-initialization).
+-- Statements are separated by '^;' so DO blocks can contain plain semicolons.
+
+CREATE EXTENSION IF NOT EXISTS btree_gist^;
+
+UPDATE bookings
+SET duration_minutes = 60,
+    end_date_time    = proposed_date_time + INTERVAL '60 minutes'
+WHERE end_date_time IS NULL^;
+
+-- Rows created before optimistic versioning have no version yet.
+UPDATE bookings SET version = 0 WHERE version IS NULL^;
+UPDATE invite_responses SET version = 0 WHERE version IS NULL^;
+
+-- Response tallies arrived with panel invites; derive them once for older bookings.
+UPDATE bookings b
+SET invite_count   = c.invites,
+    accepted_count = c.accepted,
+    rejected_count = c.rejected,
+    proposed_count = c.proposed
+FROM (SELECT booking_id,
+             COUNT(*) AS invites,
+             COUNT(*) FILTER (WHERE response_status = 'ACCEPTED') AS accepted,
+             COUNT(*) FILTER (WHERE response_status = 'REJECTED') AS rejected,
+             COUNT(*) FILTER (WHERE response_status = 'PROPOSED') AS proposed
+      FROM invite_responses
+      WHERE booking_id IN (SELECT id FROM bookings WHERE invite_count = 0)
+      GROUP BY booking_id) c
+WHERE c.booking_id = b.id^;
+
+-- Ids moved from IDENTITY to pooled sequences (allocationSize 50) so inserts can be
+-- JDBC-batched; keep each sequence ahead of ids issued by the old identity columns.
+SELECT setval('bookings_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM bookings))
+WHERE (SELECT COALESCE(MAX(id), 0) + 50 FROM bookings) > (SELECT last_value FROM bookings_seq)^;
+
+SELECT setval('invite_responses_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM invite_responses))
+WHERE (SELECT COALESCE(MAX(id), 0) + 50 FROM invite_responses) > (SELECT last_value FROM invite_responses_seq)^;
+
+SELECT setval('email_outbox_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM email_outbox))
+WHERE (SELECT COALESCE(MAX(id), 0) + 50 FROM email_outbox) > (SELECT last_value FROM email_outbox_seq)^;
+
+-- Give bookings that predate the deadline scheduler their reminder and expiry
+-- deadlines, using the default lead times (24h and 2h). Ids are taken from above
+-- anything the pooled sequence can have handed out, then the sequence is moved past them.
+INSERT INTO booking_deadlines (id, booking_id, type, due_at, processed_at)
+SELECT (SELECT last_value FROM booking_deadlines_seq) + 50 + ROW_NUMBER() OVER (ORDER BY d.booking_id, d.type),
+       d.booking_id, d.type, d.due_at, NULL
+FROM (
+    SELECT b.id AS booking_id, 'REMINDER' AS type, b.proposed_date_time - INTERVAL '24 hours' AS due_at
+    FROM bookings b
+    WHERE b.status NOT IN ('REJECTED', 'EXPIRED')
+      AND b.proposed_date_time - INTERVAL '24 hours' > LOCALTIMESTAMP
+    UNION ALL
+    SELECT b.id, 'EXPIRY', GREATEST(b.proposed_date_time - INTERVAL '2 hours', LOCALTIMESTAMP)
+    FROM bookings b
+    WHERE b.status = 'PENDING'
+      AND b.proposed_date_time > LOCALTIMESTAMP
+) d
+WHERE NOT EXISTS (SELECT 1 FROM booking_deadlines x WHERE x.booking_id = d.booking_id)^;
+
+SELECT setval('booking_deadlines_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM booking_deadlines))
+WHERE (SELECT COALESCE(MAX(id), 0) + 50 FROM booking_deadlines) > (SELECT last_value FROM booking_deadlines_seq)^;
+
+-- Invites carry their booking's start as the partition key they share with bookings.
+UPDATE invite_responses r
+SET booking_start = b.proposed_date_time
+FROM bookings b
+WHERE r.booking_id = b.id
+  AND r.booking_start IS NULL^;
+
+-- Hibernate only writes enum check constraints when it creates a table; widen them
+-- once for statuses added later.
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'bookings_status_check'
+               AND pg_get_constraintdef(oid) NOT LIKE '%EXPIRED%') THEN
+        ALTER TABLE bookings DROP CONSTRAINT bookings_status_check;
+        ALTER TABLE bookings ADD CONSTRAINT bookings_status_check
+            CHECK (status IN ('PENDING', 'ACCEPTED', 'REJECTED', 'PROPOSED', 'RESCHEDULED', 'EXPIRED'));
+    END IF;
+    IF EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'invite_responses_response_status_check'
+               AND pg_get_constraintdef(oid) NOT LIKE '%EXPIRED%') THEN
+        ALTER TABLE invite_responses DROP CONSTRAINT invite_responses_response_status_check;
+        ALTER TABLE invite_responses ADD CONSTRAINT invite_responses_response_status_check
+            CHECK (response_status IN ('PENDING', 'ACCEPTED', 'REJECTED', 'PROPOSED', 'EXPIRED'));
+    END IF;
+END
+$$^;
+
+-- Range-indexed overlap guards: no interviewer or candidate can hold two
+-- active (neither rejected nor expired) bookings whose [start, end) intervals intersect.
+-- Exclusion constraints cannot be declared on a partitioned table, so once bookings
+-- is partitioned these live on each monthly partition instead (see below).
+DO $$
+BEGIN
+    IF (SELECT relkind FROM pg_class WHERE oid = to_regclass('bookings')) <> 'r' THEN
+        RETURN;
+    END IF;
+    IF EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'bookings_interviewer_no_overlap'
+               AND pg_get_constraintdef(oid) NOT LIKE '%EXPIRED%') THEN
+        ALTER TABLE bookings DROP CONSTRAINT bookings_interviewer_no_overlap;
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'bookings_interviewer_no_overlap') THEN
+        ALTER TABLE bookings ADD CONSTRAINT bookings_interviewer_no_overlap
+            EXCLUDE USING gist (interviewer_name WITH =, tsrange(proposed_date_time, end_date_time) WITH &&)
+            WHERE (status NOT IN ('REJECTED', 'EXPIRED'));
+    END IF;
+EXCEPTION WHEN exclusion_violation THEN
+    RAISE WARNING 'bookings_interviewer_no_overlap not created: existing bookings overlap';
+END
+$$^;
+
+DO $$
+BEGIN
+    IF (SELECT relkind FROM pg_class WHERE oid = to_regclass('bookings')) <> 'r' THEN
+        RETURN;
+    END IF;
+    IF EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'bookings_candidate_no_overlap'
+               AND pg_get_constraintdef(oid) NOT LIKE '%EXPIRED%') THEN
+        ALTER TABLE bookings DROP CONSTRAINT bookings_candidate_no_overlap;
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'bookings_candidate_no_overlap') THEN
+        ALTER TABLE bookings ADD CONSTRAINT bookings_candidate_no_overlap
+            EXCLUDE USING gist (candidate_name WITH =, tsrange(proposed_date_time, end_date_time) WITH &&)
+            WHERE (status NOT IN ('REJECTED', 'EXPIRED'));
+    END IF;
+EXCEPTION WHEN exclusion_violation THEN
+    RAISE WARNING 'bookings_candidate_no_overlap not created: existing bookings overlap';
+END
+$$^;
+
+-- Adds the overlap guards to one partition of bookings. Fails if the rows already
+-- in it overlap, so a partition is never left without them.
+CREATE OR REPLACE FUNCTION add_booking_overlap_guards(partition_name text) RETURNS void AS $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = partition_name || '_interviewer_no_overlap') THEN
+        EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I EXCLUDE USING gist '
+                           || '(interviewer_name WITH =, tsrange(proposed_date_time, end_date_time) WITH &&) '
+                           || 'WHERE (status NOT IN (''REJECTED'', ''EXPIRED''))',
+                       partition_name, partition_name || '_interviewer_no_overlap');
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = partition_name || '_candidate_no_overlap') THEN
+        EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I EXCLUDE USING gist '
+                           || '(candidate_name WITH =, tsrange(proposed_date_time, end_date_time) WITH &&) '
+                           || 'WHERE (status NOT IN (''REJECTED'', ''EXPIRED''))',
+                       partition_name, partition_name || '_candidate_no_overlap');
+    END IF;
+END
+$$ LANGUAGE plpgsql^;
+
+-- Creates the monthly partitions of bookings and invite_responses covering the
+-- month of the given timestamp, moving any rows for that month out of the default
+-- partitions. Each bookings partition gets its own overlap guards; bookings that
+-- cross into the next month are checked against it by bookings_month_boundary_guard.
+-- Returns false when the partitions already exist or the tables are not partitioned.
+CREATE OR REPLACE FUNCTION ensure_booking_partition(month timestamp) RETURNS boolean AS $$
+DECLARE
+    lower_bound timestamp := date_trunc('month', month);
+    upper_bound timestamp := date_trunc('month', month) + INTERVAL '1 month';
+    suffix      text      := '_p' || to_char(date_trunc('month', month), 'YYYY_MM');
+    parent      text;
+    key         text;
+BEGIN
+    IF (SELECT relkind FROM pg_class WHERE oid = to_regclass('bookings')) IS DISTINCT FROM 'p' THEN
+        RETURN false;
+    END IF;
+    PERFORM pg_advisory_xact_lock(hashtext('booking_partitions'));
+    IF to_regclass('bookings' || suffix) IS NOT NULL THEN
+        RETURN false;
+    END IF;
+
+    FOREACH parent IN ARRAY ARRAY['bookings', 'invite_responses'] LOOP
+        key := CASE parent WHEN 'bookings' THEN 'proposed_date_time' ELSE 'booking_start' END;
+        EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS)',
+                       parent || suffix, parent);
+        EXECUTE format('WITH moved AS (DELETE FROM %I WHERE %I >= %L AND %I < %L RETURNING *) '
+                           || 'INSERT INTO %I SELECT * FROM moved',
+                       parent || '_default', key, lower_bound, key, upper_bound, parent || suffix);
+        EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                       parent, parent || suffix, lower_bound, upper_bound);
+    END LOOP;
+
+    PERFORM add_booking_overlap_guards('bookings' || suffix);
+    RETURN true;
+END
+$$ LANGUAGE plpgsql^;
+
+-- Range-partitions bookings and invite_responses by month of the interview start,
+-- once, while they are still the plain tables Hibernate created. Every month that
+-- has bookings gets a partition and anything else lands in a default partition
+-- until the maintenance job creates its month. Primary keys have to include the
+-- partition key, and an invite can no longer reference its booking by id alone,
+-- so the foreign key goes; bookings and their invites are only ever written and
+-- archived together. If anything fails, including overlapping rows that would
+-- leave a month unguarded, startup stops and the tables stay as they were.
+DO $$
+DECLARE
+    parent text;
+    key    text;
+    month  timestamp;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('booking_partitions'));
+    IF (SELECT relkind FROM pg_class WHERE oid = to_regclass('bookings')) <> 'r' THEN
+        RETURN;
+    END IF;
+
+    FOREACH parent IN ARRAY ARRAY['invite_responses', 'bookings'] LOOP
+        key := CASE parent WHEN 'bookings' THEN 'proposed_date_time' ELSE 'booking_start' END;
+        EXECUTE format('ALTER TABLE %I RENAME TO %I', parent, parent || '_unpartitioned');
+        EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS) PARTITION BY RANGE (%I)',
+                       parent, parent || '_unpartitioned', key);
+        EXECUTE format('CREATE TABLE %I PARTITION OF %I DEFAULT', parent || '_default', parent);
+    END LOOP;
+    PERFORM add_booking_overlap_guards('bookings_default');
+
+    FOR month IN
+        SELECT m
+        FROM (SELECT MIN(proposed_date_time) AS first_start, MAX(proposed_date_time) AS last_start
+              FROM bookings_unpartitioned) r,
+             generate_series(date_trunc('month', r.first_start), r.last_start, INTERVAL '1 month') m
+    LOOP
+        PERFORM ensure_booking_partition(month);
+    END LOOP;
+
+    INSERT INTO bookings SELECT * FROM bookings_unpartitioned;
+    INSERT INTO invite_responses SELECT * FROM invite_responses_unpartitioned;
+    DROP TABLE invite_responses_unpartitioned;
+    DROP TABLE bookings_unpartitioned;
+
+    ALTER TABLE bookings ADD CONSTRAINT bookings_pkey PRIMARY KEY (id, proposed_date_time);
+    ALTER TABLE invite_responses ADD CONSTRAINT invite_responses_pkey PRIMARY KEY (id, booking_start);
+    RAISE NOTICE 'Partitioned bookings and invite_responses by month';
+END
+$$^;
+
+-- Tables partitioned before the default partition was guarded get its guards now.
+DO $$
+BEGIN
+    IF to_regclass('bookings_default') IS NOT NULL THEN
+        PERFORM add_booking_overlap_guards('bookings_default');
+    END IF;
+END
+$$^;
+
+-- The overlap guards only see their own partition, so a booking that runs past
+-- the end of a month would not be checked against the next month's bookings.
+-- Every active booking within the longest allowed duration (480 minutes) of a
+-- month boundary takes a transaction-scoped advisory lock on (interviewer,
+-- boundary) and (candidate, boundary). It is then checked against the bookings
+-- on the other side of that boundary, and an overlap fails like the constraints
+-- do. Under READ COMMITTED the check runs after the lock is granted, so it sees
+-- anything committed by the transaction that held the lock before.
+CREATE OR REPLACE FUNCTION check_booking_month_boundary() RETURNS trigger AS $$
+DECLARE
+    boundary timestamp;
+BEGIN
+    IF NEW.status IN ('REJECTED', 'EXPIRED') THEN
+        RETURN NULL;
+    END IF;
+    IF NEW.end_date_time > date_trunc('month', NEW.proposed_date_time) + INTERVAL '1 month' THEN
+        boundary := date_trunc('month', NEW.proposed_date_time) + INTERVAL '1 month';
+    ELSIF NEW.proposed_date_time < date_trunc('month', NEW.proposed_date_time) + INTERVAL '480 minutes' THEN
+        boundary := date_trunc('month', NEW.proposed_date_time);
+    ELSE
+        RETURN NULL;
+    END IF;
+
+    PERFORM pg_advisory_xact_lock(hashtext('booking_boundary_interviewer'),
+                                  hashtext(NEW.interviewer_name || '@' || boundary));
+    PERFORM pg_advisory_xact_lock(hashtext('booking_boundary_candidate'),
+                                  hashtext(NEW.candidate_name || '@' || boundary));
+    IF EXISTS (SELECT 1 FROM bookings b
+               WHERE (b.interviewer_name = NEW.interviewer_name OR b.candidate_name = NEW.candidate_name)
+                 AND b.id <> NEW.id
+                 AND b.status NOT IN ('REJECTED', 'EXPIRED')
+                 AND b.proposed_date_time >= boundary - INTERVAL '480 minutes'
+                 AND b.proposed_date_time < NEW.end_date_time
+                 AND b.end_date_time > NEW.proposed_date_time
+                 AND (b.proposed_date_time < boundary) <> (NEW.proposed_date_time < boundary)) THEN
+        RAISE EXCEPTION 'Booking % overlaps a booking across the month boundary at %', NEW.id, boundary
+            USING ERRCODE = 'exclusion_violation';
+    END IF;
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql^;
+
+DROP TRIGGER IF EXISTS bookings_month_boundary_guard ON bookings^;
+
+CREATE TRIGGER bookings_month_boundary_guard
+    AFTER INSERT OR UPDATE OF proposed_date_time, end_date_time, status, interviewer_name, candidate_name
+    ON bookings
+    FOR EACH ROW EXECUTE FUNCTION check_booking_month_boundary()^;
+
+-- Indexes live here rather than on the entities: JDBC metadata does not report
+-- indexes of a partitioned table, so ddl-auto=update would create them again on
+-- every start. Overlap checks seek the slot indexes; calendar sync the changes one.
+CREATE INDEX IF NOT EXISTS idx_bookings_interviewer_slot
+    ON bookings (interviewer_name, proposed_date_time, end_date_time)^;
+
+CREATE INDEX IF NOT EXISTS idx_bookings_candidate_slot
+    ON bookings (candidate_name, proposed_date_time, end_date_time)^;
+
+CREATE INDEX IF NOT EXISTS idx_bookings_interviewer_changes
+    ON bookings (interviewer_name, change_seq)^;
+
+CREATE INDEX IF NOT EXISTS idx_invite_responses_booking
+    ON invite_responses (booking_id)^;
+
+-- Covering keyset indexes for GET /bookings: each filter column leads, followed by
+-- the (proposed_date_time, id) seek key, with the listed columns included so the
+-- listing can be answered by an index-only scan.
+CREATE INDEX IF NOT EXISTS idx_bookings_interviewer_keyset
+    ON bookings (interviewer_name, proposed_date_time, id)
+    INCLUDE (candidate_name, end_date_time, platform, status)^;
+
+CREATE INDEX IF NOT EXISTS idx_bookings_candidate_keyset
+    ON bookings (candidate_name, proposed_date_time, id)
+    INCLUDE (interviewer_name, end_date_time, platform, status)^;
+
+CREATE INDEX IF NOT EXISTS idx_bookings_status_keyset
+    ON bookings (status, proposed_date_time, id)
+    INCLUDE (candidate_name, interviewer_name, end_date_time, platform)^;
+
+CREATE INDEX IF NOT EXISTS idx_bookings_time_keyset
+    ON bookings (proposed_date_time, id)
+    INCLUDE (candidate_name, interviewer_name, end_date_time, platform, status)^;
+
+-- Shared rate-limit buckets (rate-limit.store=jdbc): the theoretical arrival time
+-- of the next permit, in microseconds since the epoch.
+CREATE TABLE IF NOT EXISTS rate_limit_buckets (
+    bucket_key varchar(320) PRIMARY KEY,
+    arrival_micros bigint NOT NULL
+)^;
+
+-- Change numbers for incremental calendar sync, drawn once per write. Hibernate
+-- adds the column; bookings written before it existed are numbered here.
+CREATE SEQUENCE IF NOT EXISTS booking_change_seq^;
+
+UPDATE bookings SET change_seq = nextval('booking_change_seq') WHERE change_seq IS NULL^;
+
+-- Idempotency keys became per client; the old key-only constraint would still
+-- make two clients' keys collide. Rows stored before have an empty client id
+-- and simply expire.
+ALTER TABLE idempotency_records DROP CONSTRAINT IF EXISTS uk_idempotency_records_key^;
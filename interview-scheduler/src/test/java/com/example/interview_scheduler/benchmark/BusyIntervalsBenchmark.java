@@ -0,0 +1,81 @@
+package com.example.interview_scheduler.benchmark;
+
+import com.example.interview_scheduler.service.BusyIntervals;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Week-long availability queries against interviewers holding thousands of
+ * bookings each, spread over a year of 30 to 120 minute slots.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BusyIntervalsBenchmark {
+
+    private static final long HOUR = 3600;
+    private static final long YEAR = 365 * 24 * HOUR;
+
+    @Param({"1000", "5000"})
+    private int bookingsPerInterviewer;
+
+    @Param({"5"})
+    private int interviewers;
+
+    private List<BusyIntervals> schedules;
+    private long weekStart;
+    private long weekEnd;
+    private long nextId;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        schedules = new ArrayList<>(interviewers);
+        for (int s = 0; s < interviewers; s++) {
+            BusyIntervals intervals = BusyIntervals.EMPTY;
+            for (int i = 0; i < bookingsPerInterviewer; i++) {
+                long start = random.nextLong(YEAR / 1800) * 1800;
+                intervals = intervals.with(nextId++, start, start + 1800 * random.nextInt(1, 5));
+            }
+            schedules.add(intervals);
+        }
+        weekStart = YEAR / 2;
+        weekEnd = weekStart + 7 * 24 * HOUR;
+    }
+
+    @Benchmark
+    public int weekForEachInterviewer() {
+        int slots = 0;
+        for (BusyIntervals schedule : schedules) {
+            slots += schedule.freeSlots(weekStart, weekEnd, HOUR).length;
+        }
+        return slots;
+    }
+
+    @Benchmark
+    public long[] weekCommonToAllInterviewers() {
+        return BusyIntervals.commonFreeSlots(schedules, weekStart, weekEnd, HOUR);
+    }
+
+    @Benchmark
+    public BusyIntervals recordBooking() {
+        return schedules.get(0).with(-1, weekStart, weekStart + HOUR);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.interview_scheduler.benchmark;
+
+import com.example.interview_scheduler.mail.EmailModel;
+import com.example.interview_scheduler.mail.EmailTemplateEngine;
+import com.example.interview_scheduler.mail.EmailType;
+import com.example.interview_scheduler.mail.EmailVariable;
+import com.example.interview_scheduler.mail.RenderedEmail;
+import com.example.interview_scheduler.model.entity.Booking;
+import com.example.interview_scheduler.model.enums.MeetingPlatform;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-message cost of rendering an invite (subject, text and HTML parts) for a
+ * ten-person panel, against the single {@code String.format} text body it replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailTemplateBenchmark {
+
+    private static final int PANEL_SIZE = 10;
+
+    private EmailTemplateEngine engine;
+    private Booking booking;
+    private String[] recipients;
+
+    @Setup
+    public void setUp() {
+        engine = new EmailTemplateEngine(new DefaultResourceLoader(), "classpath:templates/email/", "EEEE d MMMM yyyy, HH:mm", "en");
+        LocalDateTime start = LocalDateTime.of(2030, 3, 4, 9, 30);
+        booking = Booking.builder()
+                .id(123456L)
+                .candidateName("Jane Candidate")
+                .interviewerName("Andy Interviewer")
+                .proposedDateTime(start)
+                .durationMinutes(60)
+                .endDateTime(start.plusMinutes(60))
+                .platform(MeetingPlatform.TEAMS)
+                .build();
+        recipients = new String[PANEL_SIZE];
+        for (int i = 0; i < PANEL_SIZE; i++) {
+            recipients[i] = "panelist" + i + "@example.com";
+        }
+    }
+
+    @Benchmark
+    public int renderPanelInvites() {
+        EmailModel model = EmailModel.of(booking);
+        int length = 0;
+        for (int i = 0; i < recipients.length; i++) {
+            model.set(EmailVariable.RECIPIENT_EMAIL, recipients[i]);
+            RenderedEmail email = engine.render(i == 0 ? EmailType.INVITE : EmailType.PANEL_INVITE, model);
+            length += email.text().length() + email.html().length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public int formatPanelInvites() {
+        int length = 0;
+        for (int i = 0; i < recipients.length; i++) {
+            length += String.format("Hello,\nYou are invited to the interview of %s with %s at %s on %s.",
+                    booking.getCandidateName(),
+                    booking.getInterviewerName(),
+                    booking.getProposedDateTime(),
+                    booking.getPlatform()).length();
+        }
+        return length;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.interview_scheduler.cache;
+
+import com.example.interview_scheduler.model.dto.BookingResponseDTO;
+import com.example.interview_scheduler.model.enums.BookingStatus;
+import com.example.interview_scheduler.model.enums.MeetingPlatform;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookingStatusCacheTest {
+
+    private final RecordingChannel channel = new RecordingChannel();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BookingStatusCache cache = new BookingStatusCache(100, 60, channel, meterRegistry);
+
+    @Test
+    void shouldNotLetReadsOverwriteCommittedWrites() {
+        BookingResponseDTO accepted = response(1L, BookingStatus.ACCEPTED);
+        cache.putAfterCommit(accepted);
+
+        cache.putIfAbsent(response(1L, BookingStatus.PENDING));
+
+        assertThat(cache.get(1L)).isSameAs(accepted);
+        assertThat(channel.published).containsExactly(1L);
+    }
+
+    @Test
+    void shouldEvictWhenAnotherNodePublishesInvalidation() {
+        cache.putIfAbsent(response(2L, BookingStatus.PENDING));
+
+        channel.listener.accept(2L);
+
+        assertThat(cache.get(2L)).isNull();
+    }
+
+    @Test
+    void shouldRecordHitsAndMisses() {
+        cache.putIfAbsent(response(3L, BookingStatus.PENDING));
+
+        cache.get(3L);
+        cache.get(4L);
+
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "bookingStatus").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    private static BookingResponseDTO response(Long id, BookingStatus status) {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        return new BookingResponseDTO(id, "John", "Andy", start, start.plusHours(1),
+                MeetingPlatform.GOOGLE, status, 0L, List.of());
+    }
+
+    private static class RecordingChannel implements BookingCacheInvalidationChannel {
+
+        private final List<Long> published = new ArrayList<>();
+        private Consumer<Long> listener;
+
+        @Override
+        public void publish(Long bookingId) {
+            published.add(bookingId);
+        }
+
+        @Override
+        public void subscribe(Consumer<Long> listener) {
+            this.listener = listener;
+        }
+    }
+}
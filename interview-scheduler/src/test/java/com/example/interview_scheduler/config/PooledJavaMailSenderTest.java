@@ -0,0 +1,114 @@
+package com.example.interview_scheduler.config;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PooledJavaMailSenderTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final List<PooledJavaMailSender> senders = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        senders.forEach(PooledJavaMailSender::destroy);
+    }
+
+    @Test
+    void shouldReuseConnectionAcrossSends() {
+        PooledJavaMailSender sender = pooledSender(100);
+
+        for (int i = 0; i < 10; i++) {
+            sender.send(message(i));
+        }
+
+        assertThat(greenMail.waitForIncomingEmail(5000, 10)).isTrue();
+        assertThat(sender.getConnectionsOpened()).isEqualTo(1);
+        assertThat(sender.getIdleCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRotateConnectionAfterMessageLimit() {
+        PooledJavaMailSender sender = pooledSender(3);
+
+        sender.send(messages(7));
+
+        assertThat(greenMail.waitForIncomingEmail(5000, 7)).isTrue();
+        assertThat(sender.getConnectionsOpened()).isEqualTo(3);
+    }
+
+    @Test
+    @Tag("benchmark")
+    void measureThroughputAgainstUnpooledSender() {
+        int count = 500;
+
+        JavaMailSenderImpl plain = configure(new JavaMailSenderImpl());
+        long plainNanos = time(() -> {
+            for (int i = 0; i < count; i++) {
+                plain.send(message(i));
+            }
+        });
+
+        PooledJavaMailSender pooled = pooledSender(100);
+        long pooledNanos = time(() -> {
+            for (int i = 0; i < count; i++) {
+                pooled.send(message(i));
+            }
+        });
+
+        PooledJavaMailSender batched = pooledSender(100);
+        long batchedNanos = time(() -> batched.send(messages(count)));
+
+        assertThat(greenMail.waitForIncomingEmail(30000, count * 3)).isTrue();
+        System.out.printf("one session per message: %.0f msgs/sec%n", count / (plainNanos / 1e9));
+        System.out.printf("pooled sessions:         %.0f msgs/sec%n", count / (pooledNanos / 1e9));
+        System.out.printf("pooled batch send:       %.0f msgs/sec%n", count / (batchedNanos / 1e9));
+    }
+
+    private PooledJavaMailSender pooledSender(int maxMessagesPerConnection) {
+        PooledJavaMailSender sender = configure(new PooledJavaMailSender(2, 60000, maxMessagesPerConnection, 5000));
+        senders.add(sender);
+        return sender;
+    }
+
+    private static <T extends JavaMailSenderImpl> T configure(T sender) {
+        sender.setHost(ServerSetupTest.SMTP.getBindAddress());
+        sender.setPort(ServerSetupTest.SMTP.getPort());
+        return sender;
+    }
+
+    private static SimpleMailMessage[] messages(int count) {
+        SimpleMailMessage[] messages = new SimpleMailMessage[count];
+        for (int i = 0; i < count; i++) {
+            messages[i] = message(i);
+        }
+        return messages;
+    }
+
+    private static SimpleMailMessage message(int index) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom("scheduler@example.com");
+        message.setTo("candidate" + index + "@example.com");
+        message.setSubject("Interview Invitation");
+        message.setText("Dear candidate,\nYour interview is scheduled.");
+        return message;
+    }
+
+    private static long time(Runnable task) {
+        long start = System.nanoTime();
+        task.run();
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.interview_scheduler.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingTest {
+
+    private ReplicaDataSource replicaDataSource;
+    private FlakyDataSource flakyReplica;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = node("primary");
+        flakyReplica = new FlakyDataSource(node("replica-0"));
+        replicaDataSource = new ReplicaDataSource(primary, List.of(flakyReplica, node("replica-1")), 1);
+
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(primary);
+        routing.setReadOnlyDataSource(replicaDataSource);
+        jdbcTemplate = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @Test
+    void shouldSendReadOnlyTransactionsToReplicasInTurn() {
+        List<String> nodes = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            nodes.add(readOnlyNode());
+        }
+
+        assertThat(nodes).containsExactly("replica-0", "replica-1", "replica-0", "replica-1");
+        assertThat(readWrite.<String>execute(status -> currentNode())).isEqualTo("primary");
+        assertThat(currentNode()).isEqualTo("primary");
+    }
+
+    @Test
+    void shouldSkipFailedReplicaUntilItRecovers() {
+        flakyReplica.down = true;
+
+        assertThat(readOnlyNode()).isEqualTo("replica-1");
+        assertThat(readOnlyNode()).isEqualTo("replica-1");
+        assertThat(replicaDataSource.getHealthyCount()).isEqualTo(1);
+
+        flakyReplica.down = false;
+        replicaDataSource.checkHealth();
+
+        assertThat(replicaDataSource.getHealthyCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldKeepWritingClientOnPrimary() throws Exception {
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(5000);
+        List<String> nodes = new ArrayList<>();
+        FilterChain readThroughChain = (request, response) -> nodes.add(readOnlyNode());
+
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/bookings"), writeResponse, readThroughChain);
+        Cookie cookie = writeResponse.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        assertThat(cookie).isNotNull();
+
+        MockHttpServletRequest followUp = new MockHttpServletRequest("GET", "/bookings");
+        followUp.setCookies(cookie);
+        filter.doFilter(followUp, new MockHttpServletResponse(), readThroughChain);
+
+        MockHttpServletRequest expired = new MockHttpServletRequest("GET", "/bookings");
+        expired.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, Long.toString(System.currentTimeMillis() - 1)));
+        filter.doFilter(expired, new MockHttpServletResponse(), readThroughChain);
+
+        assertThat(nodes).containsExactly("primary", "primary", "replica-0");
+    }
+
+    private String readOnlyNode() {
+        return readOnly.execute(status -> currentNode());
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("select name from node", String.class);
+    }
+
+    private static DataSource node(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("create table node (name varchar(20))");
+        jdbc.update("insert into node values (?)", name);
+        return dataSource;
+    }
+
+    private static final class FlakyDataSource extends DelegatingDataSource {
+
+        private volatile boolean down;
+
+        private FlakyDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (down) {
+                throw new SQLException("Connection refused");
+            }
+            return super.getConnection();
+        }
+    }
+}
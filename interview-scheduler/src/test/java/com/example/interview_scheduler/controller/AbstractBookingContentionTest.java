@@ -0,0 +1,120 @@
+package com.example.interview_scheduler.controller;
+
+import com.example.interview_scheduler.model.dto.BookingRequestDTO;
+import com.example.interview_scheduler.model.entity.Booking;
+import com.example.interview_scheduler.model.enums.MeetingPlatform;
+import com.example.interview_scheduler.repository.BookingRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrent POSTs competing for a few overlapping slots per interviewer, after
+ * which no interviewer may hold two overlapping bookings. Subclasses choose the
+ * load: a small run for the unit suite, a large one that reports throughput.
+ */
+abstract class AbstractBookingContentionTest {
+
+    private static final int INTERVIEWERS = 5;
+    private static final int SLOTS_PER_INTERVIEWER = 8;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    protected abstract int requests();
+
+    protected abstract int clientThreads();
+
+    /**
+     * Called once the run is checked, with the time from release to the last response.
+     */
+    protected void report(int created, int rejected, long elapsedNanos) {
+    }
+
+    @Test
+    void shouldNeverDoubleBookUnderConcurrentRequests() throws Exception {
+        // Subclasses share the cached application context and its database.
+        String interviewerPrefix = getClass().getSimpleName() + "-interviewer-";
+        LocalDateTime base = LocalDateTime.now().plusDays(7).truncatedTo(ChronoUnit.HOURS);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(clientThreads());
+
+        List<Callable<Integer>> calls = new ArrayList<>(requests());
+        for (int i = 0; i < requests(); i++) {
+            // Slots are 30 minutes apart with 60 minute durations, so neighbours overlap too.
+            BookingRequestDTO request = new BookingRequestDTO(
+                    "candidate-" + i,
+                    interviewerPrefix + (i % INTERVIEWERS),
+                    base.plusMinutes(30L * ((i / INTERVIEWERS) % SLOTS_PER_INTERVIEWER)),
+                    60,
+                    MeetingPlatform.GOOGLE,
+                    "candidate" + i + "@example.com"
+            );
+            calls.add(() -> {
+                start.await();
+                ResponseEntity<Map> response = restTemplate.postForEntity("/bookings", request, Map.class);
+                return response.getStatusCode().value();
+            });
+        }
+
+        List<Future<Integer>> futures = new ArrayList<>(requests());
+        for (Callable<Integer> call : calls) {
+            futures.add(executor.submit(call));
+        }
+        long startNanos = System.nanoTime();
+        start.countDown();
+
+        int created = 0;
+        int rejected = 0;
+        for (Future<Integer> future : futures) {
+            int status = future.get();
+            if (status == 200) {
+                created++;
+            } else {
+                assertThat(status).isEqualTo(400);
+                rejected++;
+            }
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        executor.shutdown();
+
+        Map<String, List<Booking>> byInterviewer = bookingRepository.findAll().stream()
+                .filter(b -> b.getInterviewerName().startsWith(interviewerPrefix))
+                .collect(Collectors.groupingBy(Booking::getInterviewerName));
+
+        int stored = 0;
+        for (List<Booking> bookings : byInterviewer.values()) {
+            bookings.sort(Comparator.comparing(Booking::getProposedDateTime));
+            for (int i = 1; i < bookings.size(); i++) {
+                assertThat(bookings.get(i).getProposedDateTime())
+                        .isAfterOrEqualTo(bookings.get(i - 1).getEndDateTime());
+            }
+            stored += bookings.size();
+        }
+
+        assertThat(stored).isEqualTo(created);
+        assertThat(created + rejected).isEqualTo(requests());
+        // Any maximal set of non-overlapping slots holds at least every third slot.
+        assertThat(created).isGreaterThanOrEqualTo(INTERVIEWERS * ((SLOTS_PER_INTERVIEWER + 2) / 3));
+        report(created, rejected, elapsedNanos);
+    }
+}
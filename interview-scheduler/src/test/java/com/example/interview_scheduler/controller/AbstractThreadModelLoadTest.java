@@ -0,0 +1,131 @@
+package com.example.interview_scheduler.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Closed-loop HTTP load at increasing client concurrency against a mix of one
+ * booking creation to three filtered listings, both of which block on JDBC.
+ * Subclasses run it once per thread model so results compare on the same host.
+ */
+abstract class AbstractThreadModelLoadTest {
+
+    private static final int[] CONCURRENCY_LEVELS = {16, 64, 256, 512};
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(10);
+    private static final long P99_TARGET_MS = 250;
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final AtomicLong sequence = new AtomicLong();
+    private final LocalDateTime base = LocalDateTime.now().plusDays(14).truncatedTo(ChronoUnit.HOURS);
+
+    protected abstract String threadModel();
+
+    @Test
+    void measureSustainedThroughput() throws Exception {
+        runLevel(CONCURRENCY_LEVELS[0], WARMUP);
+
+        double maxSustained = 0;
+        for (int concurrency : CONCURRENCY_LEVELS) {
+            LevelResult result = runLevel(concurrency, MEASUREMENT);
+            System.out.printf("[%s] concurrency=%d: %.0f req/s, p50=%d ms, p99=%d ms, errors=%d%n",
+                    threadModel(), concurrency, result.throughput(), result.p50Millis(), result.p99Millis(), result.errors());
+            assertThat(result.completed()).isPositive();
+            if (result.p99Millis() <= P99_TARGET_MS && result.errors() == 0) {
+                maxSustained = Math.max(maxSustained, result.throughput());
+            }
+        }
+        System.out.printf("[%s] max sustained throughput with p99 <= %d ms: %.0f req/s%n",
+                threadModel(), P99_TARGET_MS, maxSustained);
+    }
+
+    private LevelResult runLevel(int concurrency, Duration duration) throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<long[]>> futures = new ArrayList<>(concurrency);
+        AtomicLong errors = new AtomicLong();
+        for (int c = 0; c < concurrency; c++) {
+            futures.add(clients.submit(() -> {
+                long[] latencies = new long[1024];
+                int count = 0;
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    if (!send()) {
+                        errors.incrementAndGet();
+                    }
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+                    latencies[count++] = System.nanoTime() - start;
+                }
+                return Arrays.copyOf(latencies, count);
+            }));
+        }
+
+        List<long[]> perClient = new ArrayList<>(concurrency);
+        for (Future<long[]> future : futures) {
+            perClient.add(future.get());
+        }
+        clients.shutdown();
+
+        long[] all = perClient.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        return new LevelResult(all.length, errors.get(), all.length / (duration.toNanos() / 1e9),
+                percentileMillis(all, 0.50), percentileMillis(all, 0.99));
+    }
+
+    private boolean send() throws Exception {
+        long n = sequence.incrementAndGet();
+        String interviewer = "load-interviewer-" + (n % 50);
+        HttpRequest request;
+        if (n % 4 == 0) {
+            String body = """
+                    {"candidateName":"load-candidate-%d","interviewerName":"%s","proposedDateTime":"%s",
+                     "durationMinutes":30,"platform":"GOOGLE","recipientEmail":"load%d@example.com"}"""
+                    .formatted(n, interviewer, base.plusMinutes(30 * (n / 50)), n);
+            request = HttpRequest.newBuilder(uri("/bookings"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        } else {
+            request = HttpRequest.newBuilder(uri("/bookings?size=20&interviewer=" + interviewer)).GET().build();
+        }
+        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        return status < 500;
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static long percentileMillis(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sortedNanos.length - 1, Math.ceil(percentile * sortedNanos.length) - 1);
+        return Duration.ofNanos(sortedNanos[Math.max(index, 0)]).toMillis();
+    }
+
+    private record LevelResult(int completed, long errors, double throughput, long p50Millis, long p99Millis) { }
+}
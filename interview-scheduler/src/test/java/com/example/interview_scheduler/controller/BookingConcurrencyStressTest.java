@@ -0,0 +1,23 @@
+package com.example.interview_scheduler.controller;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 200 requests from 32 threads still put five requests on every slot, enough
+ * contention to catch a double booking in the unit suite.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class BookingConcurrencyStressTest extends AbstractBookingContentionTest {
+
+    @Override
+    protected int requests() {
+        return 200;
+    }
+
+    @Override
+    protected int clientThreads() {
+        return 32;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.interview_scheduler.controller;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Tag("benchmark")
+class BookingContentionBenchmarkTest extends AbstractBookingContentionTest {
+
+    @Override
+    protected int requests() {
+        return 2000;
+    }
+
+    @Override
+    protected int clientThreads() {
+        return 64;
+    }
+
+    @Override
+    protected void report(int created, int rejected, long elapsedNanos) {
+        System.out.printf("%d concurrent POSTs: %d created, %d conflicts, %.0f requests/sec%n",
+                requests(), created, rejected, requests() / (elapsedNanos / 1e9));
+    }
+}
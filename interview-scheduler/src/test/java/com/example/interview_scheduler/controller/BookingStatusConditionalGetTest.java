@@ -0,0 +1,120 @@
+package com.example.interview_scheduler.controller;
+
+import com.example.interview_scheduler.model.dto.BookingRequestDTO;
+import com.example.interview_scheduler.model.enums.MeetingPlatform;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class BookingStatusConditionalGetTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void shouldAnswerUnchangedPollsWithNotModified() {
+        long id = createBooking("etag");
+
+        ResponseEntity<Map> first = restTemplate.getForEntity("/bookings/status/" + id, Map.class);
+        String etag = first.getHeaders().getETag();
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(etag).isEqualTo("\"0\"");
+        assertThat(first.getHeaders().getVary()).contains(HttpHeaders.ACCEPT);
+
+        ResponseEntity<String> unchanged = getStatus(id, HttpHeaders.IF_NONE_MATCH, etag, String.class);
+        assertThat(unchanged.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(unchanged.getBody()).isNull();
+        assertThat(unchanged.getHeaders().getETag()).isEqualTo(etag);
+        assertThat(unchanged.getHeaders().getVary()).contains(HttpHeaders.ACCEPT);
+
+        ResponseEntity<Map> stale = getStatus(id, HttpHeaders.IF_NONE_MATCH, "W/\"7\"", Map.class);
+        assertThat(stale.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(stale.getHeaders().getETag()).isEqualTo(etag);
+    }
+
+    @Test
+    void shouldServeCborWhenAccepted() throws Exception {
+        long id = createBooking("cbor");
+
+        ResponseEntity<byte[]> response = getStatus(id, HttpHeaders.ACCEPT, "application/cbor", byte[].class);
+
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.parseMediaType("application/cbor"));
+        JsonNode body = new CBORMapper().readTree(response.getBody());
+        assertThat(body.path("data").path("id").asLong()).isEqualTo(id);
+        assertThat(body.path("data").path("candidateName").asText()).isEqualTo("cbor-candidate");
+    }
+
+    @Test
+    void shouldServeInterviewerCalendarWithConditionalAndIncrementalPolls() {
+        long id = createBooking("calendar");
+
+        ResponseEntity<String> full = restTemplate.getForEntity(
+                "/bookings/calendar?interviewer=calendar-interviewer", String.class);
+        String etag = full.getHeaders().getETag();
+        assertThat(full.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(full.getHeaders().getContentType().isCompatibleWith(MediaType.parseMediaType("text/calendar"))).isTrue();
+        assertThat(full.getBody()).contains("UID:booking-" + id + "@interview-scheduler", "STATUS:TENTATIVE");
+        // Changes younger than the settle time are sent again, so the token has not moved yet.
+        assertThat(full.getHeaders().getFirst("X-Sync-Token")).isEqualTo("0");
+
+        String latest = etag.substring(etag.indexOf('-') + 1, etag.length() - 1);
+        assertThat(etag).isEqualTo("\"0-" + latest + "\"");
+
+        // The tag was issued before the change settled, so it must not turn into a 304.
+        assertThat(getCalendar("", etag).getStatusCode()).isEqualTo(HttpStatus.OK);
+        ResponseEntity<String> settled = getCalendar("", "\"" + latest + "-" + latest + "\"");
+        assertThat(settled.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+
+        ResponseEntity<String> incremental = getCalendar("&syncToken=" + latest, null);
+        assertThat(incremental.getBody()).contains("BEGIN:VCALENDAR").doesNotContain("BEGIN:VEVENT");
+        assertThat(incremental.getHeaders().getFirst("X-Sync-Token")).isEqualTo(latest);
+        assertThat(incremental.getHeaders().getETag()).isEqualTo("\"" + latest + "-" + latest + "\"");
+    }
+
+    private ResponseEntity<String> getCalendar(String query, String ifNoneMatch) {
+        HttpHeaders headers = new HttpHeaders();
+        if (ifNoneMatch != null) {
+            headers.setIfNoneMatch(ifNoneMatch);
+        }
+        return restTemplate.exchange("/bookings/calendar?interviewer=calendar-interviewer" + query,
+                HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+
+    private long createBooking(String name) {
+        BookingRequestDTO request = new BookingRequestDTO(
+                name + "-candidate",
+                name + "-interviewer",
+                LocalDateTime.now().plusDays(3).truncatedTo(ChronoUnit.HOURS),
+                60,
+                MeetingPlatform.GOOGLE,
+                name + "@example.com");
+        ResponseEntity<Map> created = restTemplate.postForEntity("/bookings", request, Map.class);
+        assertThat(created.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return ((Number) ((Map<?, ?>) created.getBody().get("data")).get("id")).longValue();
+    }
+
+    private <T> ResponseEntity<T> getStatus(long id, String header, String value, Class<T> type) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.put(header, List.of(value));
+        return restTemplate.exchange("/bookings/status/" + id, HttpMethod.GET, new HttpEntity<>(headers), type);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.interview_scheduler.controller;
+
+import com.example.interview_scheduler.model.dto.BookingRequestDTO;
+import com.example.interview_scheduler.model.enums.MeetingPlatform;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "admission.enabled=true",
+        "rate-limit.client.per-second=0.001",
+        "rate-limit.client.burst=2",
+        "rate-limit.recipient.burst=100"
+})
+@ActiveProfiles("test")
+class ClientRateLimitTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @Test
+    void shouldLimitClientsByForwardedAddressWhateverClientIdTheySend() {
+        // The test client connects from loopback, a trusted proxy, so X-Forwarded-For names the client.
+        assertThat(createBooking("203.0.113.7", "client-1").getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(createBooking("203.0.113.7", "client-2").getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        ResponseEntity<String> limited = createBooking("203.0.113.7", "client-3");
+        assertThat(limited.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(limited.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isNotNull();
+        assertThat(createBooking("203.0.113.7", null).getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+
+        assertThat(createBooking("203.0.113.8", "client-3").getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    private ResponseEntity<String> createBooking(String forwardedFor, String clientId) {
+        int n = requests.incrementAndGet();
+        BookingRequestDTO request = new BookingRequestDTO(
+                "limit-candidate-" + n,
+                "limit-interviewer-" + n,
+                LocalDateTime.now().plusDays(3).truncatedTo(ChronoUnit.HOURS),
+                60,
+                MeetingPlatform.GOOGLE,
+                "limit-" + n + "@example.com");
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Forwarded-For", forwardedFor);
+        if (clientId != null) {
+            headers.set("X-Client-Id", clientId);
+        }
+        return restTemplate.postForEntity("/bookings", new HttpEntity<>(request, headers), String.class);
+    }
+}
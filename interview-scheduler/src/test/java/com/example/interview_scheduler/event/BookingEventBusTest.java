@@ -0,0 +1,151 @@
+package com.example.interview_scheduler.event;
+
+import com.example.interview_scheduler.exception.BookingException;
+import com.example.interview_scheduler.model.dto.BookingResponseDTO;
+import com.example.interview_scheduler.model.enums.BookingStatus;
+import com.example.interview_scheduler.model.enums.MeetingPlatform;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BookingEventBusTest {
+
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor();
+    private final ExecutorService writer = Executors.newCachedThreadPool();
+    private final BookingEventBus bus = new BookingEventBus(2, 3, 60_000, 200, dispatcher, writer);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdownNow();
+        writer.shutdownNow();
+    }
+
+    @Test
+    void shouldDeliverOnlyTheNewestStateOfEachBooking() throws Exception {
+        RecordingEmitter watcher = new RecordingEmitter();
+        RecordingEmitter other = new RecordingEmitter();
+        bus.subscribe(List.of(1L, 2L), watcher);
+        bus.subscribe(List.of(3L), other);
+        holdDispatcher();
+
+        bus.publish(booking(1L, 1L, BookingStatus.PENDING));
+        bus.publish(booking(1L, 3L, BookingStatus.REJECTED));
+        bus.offer(watcher, booking(1L, 2L, BookingStatus.ACCEPTED));
+        bus.publish(booking(2L, 1L, BookingStatus.ACCEPTED));
+        drain();
+
+        assertThat(watcher.sent).extracting(BookingResponseDTO::id, BookingResponseDTO::status)
+                .containsExactly(
+                        tuple(1L, BookingStatus.REJECTED),
+                        tuple(2L, BookingStatus.ACCEPTED));
+        assertThat(other.sent).isEmpty();
+    }
+
+    @Test
+    void shouldDropSubscriberWhoseConnectionFailed() throws Exception {
+        RecordingEmitter broken = new RecordingEmitter();
+        broken.failing = true;
+        bus.subscribe(List.of(1L), broken);
+
+        bus.publish(booking(1L, 1L, BookingStatus.ACCEPTED));
+        drain();
+
+        assertThat(bus.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    void shouldDropStalledSubscriberWithoutHoldingUpOthers() throws Exception {
+        RecordingEmitter stalled = new RecordingEmitter();
+        stalled.blocking = new CountDownLatch(1);
+        RecordingEmitter healthy = new RecordingEmitter();
+        bus.subscribe(List.of(1L), stalled);
+        bus.subscribe(List.of(1L), healthy);
+        holdDispatcher();
+
+        bus.publish(booking(1L, 1L, BookingStatus.ACCEPTED));
+        // The only dispatch thread gives up on the stalled write and moves on.
+        drain();
+
+        assertThat(healthy.sent).extracting(BookingResponseDTO::id).containsExactly(1L);
+        assertThat(bus.getSubscriberCount()).isEqualTo(1);
+        stalled.blocking.countDown();
+    }
+
+    @Test
+    void shouldEnforceSubscriptionLimits() {
+        assertThrows(BookingException.class, () -> bus.subscribe(Set.of(1L, 2L, 3L, 4L), new RecordingEmitter()));
+
+        bus.subscribe(List.of(1L), new RecordingEmitter());
+        SseEmitter second = bus.subscribe(List.of(1L), new RecordingEmitter());
+        BookingException e = assertThrows(BookingException.class, () -> bus.subscribe(List.of(1L), new RecordingEmitter()));
+        assertThat(e.getReason()).isEqualTo(BookingException.Reason.UNAVAILABLE);
+
+        bus.cancel(second);
+        assertThat(bus.getSubscriberCount()).isEqualTo(1);
+    }
+
+    private void holdDispatcher() {
+        dispatcher.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+
+    private void drain() throws InterruptedException {
+        release.countDown();
+        dispatcher.shutdown();
+        assertThat(dispatcher.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static BookingResponseDTO booking(Long id, Long version, BookingStatus status) {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        return new BookingResponseDTO(id, "John", "Andy", start, start.plusHours(1),
+                MeetingPlatform.GOOGLE, status, version, List.of());
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<BookingResponseDTO> sent = new CopyOnWriteArrayList<>();
+        private boolean failing;
+        private CountDownLatch blocking;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            if (blocking != null) {
+                try {
+                    // A client that stopped reading: the write waits until the connection times out.
+                    blocking.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return;
+            }
+            builder.build().stream()
+                    .map(DataWithMediaType::getData)
+                    .filter(BookingResponseDTO.class::isInstance)
+                    .map(BookingResponseDTO.class::cast)
+                    .forEach(sent::add);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.interview_scheduler.mail;
+
+import com.example.interview_scheduler.model.entity.Booking;
+import com.example.interview_scheduler.model.enums.MeetingPlatform;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.ResourceLoader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EmailTemplateEngineTest {
+
+    private static final String PATTERN = "d MMM yyyy HH:mm";
+    private static final LocalDateTime START = LocalDateTime.of(2030, 3, 4, 9, 30);
+
+    private final ResourceLoader resourceLoader = new DefaultResourceLoader();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void shouldRenderPlatformSectionAndEscapeOnlyHtmlPart() {
+        EmailTemplateEngine engine = new EmailTemplateEngine(resourceLoader, "classpath:templates/email", PATTERN, "en");
+        EmailModel model = EmailModel.of(booking("Sean <O'Neil>", MeetingPlatform.TEAMS))
+                .set(EmailVariable.RECIPIENT_EMAIL, "sean@example.com");
+
+        RenderedEmail email = engine.render(EmailType.INVITE, model);
+
+        assertThat(email.subject()).isEqualTo("Interview Invitation");
+        assertThat(email.text())
+                .startsWith("Dear Sean <O'Neil>,\n")
+                .contains("scheduled for 4 Mar 2030 09:30 (45 minutes)")
+                .contains("takes place on Microsoft Teams")
+                .contains("booking reference 7.");
+        assertThat(email.html())
+                .contains("Dear Sean &lt;O&#39;Neil&gt;,")
+                .contains("<strong>Microsoft Teams</strong>")
+                .doesNotContain("{{");
+
+        RenderedEmail google = engine.render(EmailType.PANEL_INVITE,
+                EmailModel.of(booking("John", MeetingPlatform.GOOGLE)).set(EmailVariable.RECIPIENT_EMAIL, "panel@example.com"));
+        assertThat(google.text()).contains("takes place on Google Meet").contains("your address, panel@example.com.");
+    }
+
+    @Test
+    void shouldRejectUnknownPlaceholdersAndIncludes() {
+        assertThrows(IllegalArgumentException.class,
+                () -> CompiledTemplate.compile("test", "Hello {{candidate}}", name -> null));
+        assertThrows(IllegalArgumentException.class,
+                () -> CompiledTemplate.compile("test", "Hello {{candidateName", name -> null));
+        assertThrows(IllegalArgumentException.class,
+                () -> CompiledTemplate.compile("test", "{{> footer}}", name -> null));
+        assertThrows(IllegalArgumentException.class,
+                () -> CompiledTemplate.compile("test", "{{> meeting}}", name -> "{{> meeting}}"));
+    }
+
+    @Test
+    void shouldReloadChangedTemplatesAndKeepPreviousOnError() throws IOException {
+        copyTemplates();
+        EmailTemplateEngine engine = new EmailTemplateEngine(resourceLoader, directory.toUri().toString(), PATTERN, "en");
+        EmailModel model = EmailModel.of(booking("John", MeetingPlatform.GOOGLE));
+
+        Path reminder = directory.resolve("reminder.txt");
+        Files.writeString(reminder, "Subject: See you soon, {{candidateName}}\n\nStarts {{start}}.");
+        touch(reminder, 1);
+        engine.reloadIfChanged();
+
+        RenderedEmail reloaded = engine.render(EmailType.REMINDER, model);
+        assertThat(reloaded.subject()).isEqualTo("See you soon, John");
+        assertThat(reloaded.text()).isEqualTo("Starts 4 Mar 2030 09:30.");
+
+        Files.writeString(reminder, "Subject: Broken {{nope}}\n");
+        touch(reminder, 2);
+        engine.reloadIfChanged();
+
+        assertThat(engine.render(EmailType.REMINDER, model).subject()).isEqualTo("See you soon, John");
+    }
+
+    private void copyTemplates() throws IOException {
+        Files.createDirectories(directory.resolve("meeting"));
+        for (EmailType type : EmailType.values()) {
+            copy(type.getFileName() + ".txt");
+            copy(type.getFileName() + ".html");
+        }
+        for (MeetingPlatform platform : MeetingPlatform.values()) {
+            copy("meeting/" + platform.name().toLowerCase() + ".txt");
+            copy("meeting/" + platform.name().toLowerCase() + ".html");
+        }
+    }
+
+    private void copy(String name) throws IOException {
+        try (InputStream in = resourceLoader.getResource("classpath:templates/email/" + name).getInputStream()) {
+            Files.write(directory.resolve(name), in.readAllBytes());
+        }
+    }
+
+    /**
+     * Moves the modification time forward explicitly, since file systems may only
+     * record it to the second.
+     */
+    private static void touch(Path file, int minutes) throws IOException {
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + minutes * 60_000L));
+    }
+
+    private static Booking booking(String candidate, MeetingPlatform platform) {
+        return Booking.builder()
+                .id(7L)
+                .candidateName(candidate)
+                .interviewerName("Andy")
+                .proposedDateTime(START)
+                .durationMinutes(45)
+                .endDateTime(START.plusMinutes(45))
+                .platform(platform)
+                .build();
+    }
+}
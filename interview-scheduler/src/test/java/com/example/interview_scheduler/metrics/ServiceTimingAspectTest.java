@@ -0,0 +1,59 @@
+package com.example.interview_scheduler.metrics;
+
+import com.example.interview_scheduler.exception.BookingException;
+import com.example.interview_scheduler.model.dto.BookingResponseDTO;
+import com.example.interview_scheduler.service.BookingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ServiceTimingAspectTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final BookingService target = mock(BookingService.class);
+    private final BookingService proxy = proxy(target);
+
+    @Test
+    void shouldTagServiceCallsByOutcome() {
+        when(target.getBookingStatus(1L)).thenReturn(null);
+        when(target.getBookingStatus(2L)).thenThrow(new BookingException(BookingException.Reason.NOT_FOUND, "Booking not found"));
+        when(target.getBookingStatus(3L)).thenThrow(new IllegalStateException("boom"));
+
+        BookingResponseDTO found = proxy.getBookingStatus(1L);
+        assertThrows(BookingException.class, () -> proxy.getBookingStatus(2L));
+        assertThrows(IllegalStateException.class, () -> proxy.getBookingStatus(3L));
+
+        assertThat(found).isNull();
+        assertThat(count("success")).isEqualTo(1);
+        assertThat(count("not_found")).isEqualTo(1);
+        assertThat(count("error")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldClassifyBookingExceptionsByReason() {
+        assertThat(BookingMetrics.outcomeOf(new BookingException(BookingException.Reason.CONFLICT, "taken")))
+                .isEqualTo(BookingMetrics.OUTCOME_CONFLICT);
+        assertThat(BookingMetrics.outcomeOf(new BookingException("Invalid cursor")))
+                .isEqualTo(BookingMetrics.OUTCOME_INVALID);
+    }
+
+    private long count(String outcome) {
+        return registry.get("booking.service")
+                .tag("operation", "getBookingStatus")
+                .tag("outcome", outcome)
+                .timer()
+                .count();
+    }
+
+    private BookingService proxy(BookingService service) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(service);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ServiceTimingAspect(new BookingMetrics(registry)));
+        return factory.getProxy();
+    }
+}
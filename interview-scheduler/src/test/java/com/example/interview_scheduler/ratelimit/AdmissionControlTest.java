@@ -0,0 +1,88 @@
+package com.example.interview_scheduler.ratelimit;
+
+import com.example.interview_scheduler.exception.AdmissionRejectedException;
+import com.example.interview_scheduler.exception.BookingException;
+import com.example.interview_scheduler.metrics.BookingMetrics;
+import com.example.interview_scheduler.model.enums.OutboxStatus;
+import com.example.interview_scheduler.repository.EmailOutboxRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AdmissionControlTest {
+
+    @Mock
+    private ObjectProvider<HikariDataSource> dataSources;
+
+    @Mock
+    private EmailOutboxRepository emailOutboxRepository;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong();
+    private AdmissionControl admissionControl;
+
+    @BeforeEach
+    void setUp() {
+        when(dataSources.orderedStream()).thenAnswer(invocation -> Stream.empty());
+        admissionControl = new AdmissionControl(new LocalRateLimitStore(1000, 600, clock::get), dataSources,
+                emailOutboxRepository, new BookingMetrics(registry), true, 10, 2, 1, 1, 1, 10, 100, 1);
+    }
+
+    @Test
+    void shouldReleaseWriteSlotWhenPermitCloses() {
+        try (AdmissionControl.Permit permit = admissionControl.admit("createBooking", "a", List.of())) {
+            AdmissionRejectedException e = assertThrows(AdmissionRejectedException.class,
+                    () -> admissionControl.admit("createBooking", "b", List.of()));
+            assertThat(e.getReason()).isEqualTo(BookingException.Reason.UNAVAILABLE);
+        }
+
+        admissionControl.admit("createBooking", "b", List.of()).close();
+    }
+
+    @Test
+    void shouldLimitPerClientAndPerRecipient() {
+        admissionControl.admit("createBooking", "a", List.of("Jane@example.com")).close();
+
+        AdmissionRejectedException recipient = assertThrows(AdmissionRejectedException.class,
+                () -> admissionControl.admit("createBooking", "b", List.of("jane@example.com")));
+        assertThat(recipient.getReason()).isEqualTo(BookingException.Reason.RATE_LIMITED);
+        assertThat(recipient.getRetryAfterSeconds()).isEqualTo(60);
+
+        admissionControl.admit("createBooking", "a", List.of()).close();
+        AdmissionRejectedException client = assertThrows(AdmissionRejectedException.class,
+                () -> admissionControl.admit("createBooking", "a", List.of()));
+        assertThat(client.getReason()).isEqualTo(BookingException.Reason.RATE_LIMITED);
+
+        // Rejections must not keep holding a write slot.
+        admissionControl.admit("createBooking", "c", List.of()).close();
+        assertThat(registry.get("booking.admission.rejected").tag("cause", "recipient").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldShedWritesWhileOutboxIsBackedUp() {
+        when(emailOutboxRepository.countByStatus(OutboxStatus.PENDING)).thenReturn(101L);
+        admissionControl.refreshOutboxBacklog();
+
+        AdmissionRejectedException e = assertThrows(AdmissionRejectedException.class,
+                () -> admissionControl.admit("respondToInvite", "a", List.of()));
+
+        assertThat(e.getReason()).isEqualTo(BookingException.Reason.UNAVAILABLE);
+        assertThat(registry.get("booking.admission.rejected").tag("cause", "email").counter().count())
+                .isEqualTo(1);
+    }
+}
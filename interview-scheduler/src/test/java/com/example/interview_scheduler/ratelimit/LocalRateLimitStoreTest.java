@@ -0,0 +1,67 @@
+package com.example.interview_scheduler.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalRateLimitStoreTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final LocalRateLimitStore store = new LocalRateLimitStore(1000, 600, clock::get);
+
+    @Test
+    void shouldAllowBurstThenRefillAtRate() {
+        RateLimit limit = RateLimit.perSecond(2, 3);
+
+        assertThat(store.tryAcquire("client:a", limit, 1)).isTrue();
+        assertThat(store.tryAcquire("client:a", limit, 1)).isTrue();
+        assertThat(store.tryAcquire("client:a", limit, 1)).isTrue();
+        assertThat(store.tryAcquire("client:a", limit, 1)).isFalse();
+        assertThat(store.tryAcquire("client:b", limit, 1)).isTrue();
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(499));
+        assertThat(store.tryAcquire("client:a", limit, 1)).isFalse();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(store.tryAcquire("client:a", limit, 1)).isTrue();
+        assertThat(store.tryAcquire("client:a", limit, 1)).isFalse();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(60));
+        assertThat(store.tryAcquire("client:a", limit, 3)).isTrue();
+        assertThat(store.tryAcquire("client:a", limit, 4)).isFalse();
+    }
+
+    @Test
+    void shouldNeverGrantMoreThanBurstUnderContention() throws Exception {
+        RateLimit limit = RateLimit.perMinute(1, 50);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                results.add(executor.submit(() -> {
+                    int granted = 0;
+                    for (int i = 0; i < 100; i++) {
+                        if (store.tryAcquire("recipient:shared@example.com", limit, 1)) {
+                            granted++;
+                        }
+                    }
+                    return granted;
+                }));
+            }
+            int total = 0;
+            for (Future<Integer> result : results) {
+                total += result.get(10, TimeUnit.SECONDS);
+            }
+            assertThat(total).isEqualTo(50);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.interview_scheduler.repository;
+
+import com.example.interview_scheduler.model.dto.BookingFilterDTO;
+import com.example.interview_scheduler.model.dto.BookingSummaryDTO;
+import com.example.interview_scheduler.model.dto.CalendarEventDTO;
+import com.example.interview_scheduler.model.entity.Booking;
+import com.example.interview_scheduler.model.enums.BookingStatus;
+import com.example.interview_scheduler.model.enums.MeetingPlatform;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.interview_scheduler.repository.BookingRepositoryTest$RecordingStatementInspector")
+@ActiveProfiles("test")
+class BookingRepositoryTest {
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        base = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+        List<Booking> bookings = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            // Pairs share a start time so the id tie-breaker is exercised.
+            bookings.add(booking("Andy", "candidate-" + i, base.plusHours(i / 2),
+                    i % 3 == 0 ? BookingStatus.ACCEPTED : BookingStatus.PENDING));
+        }
+        bookings.add(booking("Bob", "candidate-x", base, BookingStatus.PENDING));
+        bookingRepository.saveAll(bookings);
+    }
+
+    @Test
+    void shouldWalkAllPagesInKeysetOrderWithoutGapsOrDuplicates() {
+        BookingFilterDTO filter = new BookingFilterDTO("Andy", null, null, null, null, null);
+        List<BookingSummaryDTO> seen = new ArrayList<>();
+        LocalDateTime afterDateTime = null;
+        Long afterId = null;
+
+        List<BookingSummaryDTO> page;
+        do {
+            page = bookingRepository.findSummaries(filter, afterDateTime, afterId, 3);
+            seen.addAll(page);
+            if (!page.isEmpty()) {
+                BookingSummaryDTO last = page.get(page.size() - 1);
+                afterDateTime = last.proposedDateTime();
+                afterId = last.id();
+            }
+        } while (page.size() == 3);
+
+        assertThat(seen).hasSize(7);
+        assertThat(seen).extracting(BookingSummaryDTO::interviewerName).containsOnly("Andy");
+        assertThat(seen).extracting(BookingSummaryDTO::id).doesNotHaveDuplicates();
+        for (int i = 1; i < seen.size(); i++) {
+            BookingSummaryDTO previous = seen.get(i - 1);
+            BookingSummaryDTO current = seen.get(i);
+            assertThat(current.proposedDateTime().isAfter(previous.proposedDateTime())
+                    || (current.proposedDateTime().isEqual(previous.proposedDateTime()) && current.id() > previous.id()))
+                    .isTrue();
+        }
+    }
+
+    @Test
+    void shouldBoundLaterPagesByStartTimeSoTheIndexCanSeek() {
+        RecordingStatementInspector.STATEMENTS.clear();
+
+        bookingRepository.findSummaries(new BookingFilterDTO(null, null, null, null, null, null), base, 1L, 3);
+
+        assertThat(RecordingStatementInspector.STATEMENTS)
+                .filteredOn(sql -> sql.contains("order by"))
+                .singleElement()
+                .satisfies(sql -> assertThat(sql).containsPattern("\\.proposed_date_time>=\\?"));
+    }
+
+    @Test
+    void shouldApplyStatusAndTimeRangeFilters() {
+        BookingFilterDTO filter = new BookingFilterDTO(null, null, BookingStatus.ACCEPTED, MeetingPlatform.GOOGLE,
+                base, base.plusHours(2));
+
+        List<BookingSummaryDTO> rows = bookingRepository.findSummaries(filter, null, null, 10);
+
+        assertThat(rows).extracting(BookingSummaryDTO::candidateName).containsExactly("candidate-0", "candidate-3");
+    }
+
+    @Test
+    void shouldFindInterviewerChangesAfterSequenceNumber() {
+        List<Booking> andy = bookingRepository.findAll().stream()
+                .filter(booking -> booking.getInterviewerName().equals("Andy"))
+                .toList();
+        long first = bookingRepository.nextChangeSeq();
+        long second = bookingRepository.nextChangeSeq();
+        assertThat(second).isGreaterThan(first);
+        andy.get(0).setChangeSeq(second);
+        andy.get(1).setChangeSeq(first);
+        bookingRepository.flush();
+
+        List<CalendarEventDTO> changes = bookingRepository.findChangedSince("Andy", first - 1, base.minusDays(1));
+
+        assertThat(changes).extracting(CalendarEventDTO::id).containsExactly(andy.get(1).getId(), andy.get(0).getId());
+        assertThat(bookingRepository.findChangedSince("Andy", first, base.minusDays(1))).hasSize(1);
+        assertThat(bookingRepository.findLatestChangeSeq("Andy", base.minusDays(1))).isEqualTo(second);
+        assertThat(bookingRepository.findLatestChangeSeq("Andy", base.plusDays(1))).isZero();
+        assertThat(bookingRepository.findLatestChangeSeq("Bob", base.minusDays(1))).isZero();
+    }
+
+    private static Booking booking(String interviewer, String candidate, LocalDateTime start, BookingStatus status) {
+        return Booking.builder()
+                .interviewerName(interviewer)
+                .candidateName(candidate)
+                .proposedDateTime(start)
+                .durationMinutes(30)
+                .endDateTime(start.plusMinutes(30))
+                .platform(MeetingPlatform.GOOGLE)
+                .status(status)
+                .build();
+    }
+
+    /**
+     * Keeps the SQL Hibernate sends, so tests can check the shape of a query.
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
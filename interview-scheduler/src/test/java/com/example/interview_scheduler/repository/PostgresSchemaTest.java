@@ -0,0 +1,222 @@
+package com.example.interview_scheduler.repository;
+
+import com.example.interview_scheduler.InterviewSchedulerApplication;
+import com.example.interview_scheduler.model.entity.Booking;
+import com.example.interview_scheduler.model.entity.InviteResponse;
+import com.example.interview_scheduler.model.enums.BookingStatus;
+import com.example.interview_scheduler.model.enums.MeetingPlatform;
+import com.example.interview_scheduler.model.enums.ResponseStatus;
+import com.example.interview_scheduler.service.BookingPartitionService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs {@code schema-postgresql.sql} against a real PostgreSQL: in a container
+ * when Docker is available, or on the server named by the
+ * {@code postgres.test.url} system property (with {@code postgres.test.username}
+ * and {@code postgres.test.password}). Skipped when neither is available. Each
+ * test gets its own database and starts the application on it as often as it
+ * needs.
+ */
+@EnabledIf("postgresAvailable")
+@ExtendWith(OutputCaptureExtension.class)
+class PostgresSchemaTest {
+
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+
+    private static PostgreSQLContainer<?> container;
+    private static String serverUrl;
+    private static String username;
+    private static String password;
+
+    @TempDir
+    private Path archiveDir;
+
+    private String url;
+
+    static boolean postgresAvailable() {
+        return System.getProperty("postgres.test.url") != null || DockerClientFactory.instance().isDockerAvailable();
+    }
+
+    @BeforeAll
+    static void startServer() {
+        serverUrl = System.getProperty("postgres.test.url");
+        if (serverUrl != null) {
+            username = System.getProperty("postgres.test.username", "postgres");
+            password = System.getProperty("postgres.test.password", "");
+            return;
+        }
+        container = new PostgreSQLContainer<>("postgres:16-alpine");
+        container.start();
+        serverUrl = container.getJdbcUrl();
+        username = container.getUsername();
+        password = container.getPassword();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        if (container != null) {
+            container.stop();
+        }
+    }
+
+    @BeforeEach
+    void createDatabase() {
+        String name = "schema_test_" + ProcessHandle.current().pid() + "_" + DATABASES.incrementAndGet();
+        new JdbcTemplate(new DriverManagerDataSource(serverUrl, username, password)).execute("CREATE DATABASE " + name);
+        url = serverUrl.replaceFirst("/[^/?]*(\\?|$)", "/" + name + "$1");
+    }
+
+    @Test
+    void shouldConvertPopulatedTablesAndStartAgainOnThem(CapturedOutput output) {
+        YearMonth next = YearMonth.now().plusMonths(1);
+        try (ConfigurableApplicationContext context = start(false)) {
+            // Hibernate alone creates the plain tables, as on an install that predates partitioning.
+            context.getBean(BookingRepository.class).saveAllAndFlush(List.of(
+                    booking("Andy", "John", next.atDay(3).atTime(10, 0), 60),
+                    booking("Andy", "Mary", next.atDay(3).atTime(11, 0), 60),
+                    booking("Bob", "Paul", next.plusMonths(1).atDay(5).atTime(9, 0), 60)));
+        }
+
+        try (ConfigurableApplicationContext context = start(true)) {
+            JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+            assertThat(jdbc.queryForObject("select relkind::text from pg_class where oid = to_regclass('bookings')", String.class))
+                    .isEqualTo("p");
+            assertThat(count(jdbc, "bookings")).isEqualTo(3);
+            assertThat(count(jdbc, "invite_responses")).isEqualTo(3);
+            assertThat(count(jdbc, partition("bookings", next))).isEqualTo(2);
+            assertThat(count(jdbc, partition("invite_responses", next.plusMonths(1)))).isEqualTo(1);
+            assertThat(jdbc.queryForList("select conname from pg_constraint where conrelid = to_regclass('bookings_default')",
+                    String.class))
+                    .contains("bookings_default_interviewer_no_overlap", "bookings_default_candidate_no_overlap");
+        }
+
+        // Later starts run ddl-auto=update and the whole script again on the partitioned tables.
+        try (ConfigurableApplicationContext context = start(true)) {
+            JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+            assertThat(count(jdbc, "bookings")).isEqualTo(3);
+            context.getBean(BookingRepository.class).saveAndFlush(booking("Carl", "Lisa", next.atDay(4).atTime(9, 0), 60));
+            assertThat(count(jdbc, partition("bookings", next))).isEqualTo(3);
+            assertThat(jdbc.queryForList("select indexname from pg_indexes where tablename in ('bookings', 'invite_responses')",
+                    String.class))
+                    .contains("idx_bookings_interviewer_slot", "idx_bookings_candidate_slot",
+                            "idx_bookings_interviewer_changes", "idx_invite_responses_booking");
+        }
+        assertThat(output).doesNotContain("Error executing DDL");
+    }
+
+    @Test
+    void shouldCreateAndArchiveMonths() {
+        YearMonth old = YearMonth.now().minusMonths(14);
+        try (ConfigurableApplicationContext context = start(true)) {
+            JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+            BookingPartitionService partitions = context.getBean(BookingPartitionService.class);
+            context.getBean(BookingRepository.class).saveAndFlush(booking("Andy", "John", old.atDay(2).atTime(10, 0), 60));
+            assertThat(count(jdbc, "bookings_default")).isEqualTo(1);
+
+            partitions.createUpcomingPartitions(YearMonth.now());
+
+            assertThat(count(jdbc, "bookings_default")).isZero();
+            assertThat(count(jdbc, partition("bookings", old))).isEqualTo(1);
+            assertThat(jdbc.queryForObject("select to_regclass(?)::text", String.class,
+                    partition("bookings", YearMonth.now().plusMonths(3)))).isNotNull();
+
+            assertThat(partitions.archiveExpiredPartitions(YearMonth.now())).isEqualTo(1);
+
+            assertThat(jdbc.queryForObject("select to_regclass(?)::text", String.class, partition("bookings", old))).isNull();
+            assertThat(count(jdbc, "bookings")).isZero();
+            assertThat(archiveDir.resolve(partition("bookings", old) + ".csv.gz")).exists();
+            assertThat(archiveDir.resolve(partition("invite_responses", old) + ".csv.gz")).exists();
+        }
+    }
+
+    @Test
+    void shouldRejectOverlapAcrossMonthBoundary() {
+        YearMonth month = YearMonth.now().plusMonths(1);
+        LocalDateTime boundary = month.plusMonths(1).atDay(1).atStartOfDay();
+        try (ConfigurableApplicationContext context = start(true)) {
+            context.getBean(BookingPartitionService.class).createUpcomingPartitions(YearMonth.now());
+            BookingRepository bookingRepository = context.getBean(BookingRepository.class);
+            bookingRepository.saveAndFlush(booking("Andy", "John", boundary.minusHours(2), 180));
+
+            assertThatThrownBy(() -> bookingRepository.saveAndFlush(booking("Andy", "Mary", boundary, 60)))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+            assertThatThrownBy(() -> bookingRepository.saveAndFlush(booking("Bob", "John", boundary.plusMinutes(30), 60)))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+
+            bookingRepository.saveAndFlush(booking("Andy", "Mary", boundary.plusHours(1), 60));
+            Booking rejected = booking("Andy", "Paul", boundary, 60);
+            rejected.setStatus(BookingStatus.REJECTED);
+            bookingRepository.saveAndFlush(rejected);
+            assertThat(count(context.getBean(JdbcTemplate.class), partition("bookings", month.plusMonths(1)))).isEqualTo(2);
+        }
+    }
+
+    private ConfigurableApplicationContext start(boolean runScript) {
+        // Arguments, as plain builder properties would lose to application.properties.
+        return new SpringApplicationBuilder(InterviewSchedulerApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=" + url,
+                        "--spring.datasource.username=" + username,
+                        "--spring.datasource.password=" + password,
+                        "--spring.sql.init.mode=" + (runScript ? "always" : "never"),
+                        "--booking.partitions.archive.path=" + archiveDir,
+                        "--booking.partitions.maintenance.enabled=false",
+                        "--outbox.dispatcher.enabled=false",
+                        "--deadlines.dispatcher.enabled=false",
+                        "--admission.enabled=false");
+    }
+
+    private static long count(JdbcTemplate jdbc, String table) {
+        return jdbc.queryForObject("select count(*) from " + table, Long.class);
+    }
+
+    private static String partition(String table, YearMonth month) {
+        return String.format("%s_p%04d_%02d", table, month.getYear(), month.getMonthValue());
+    }
+
+    private static Booking booking(String interviewer, String candidate, LocalDateTime start, int minutes) {
+        Booking booking = Booking.builder()
+                .interviewerName(interviewer)
+                .candidateName(candidate)
+                .proposedDateTime(start)
+                .durationMinutes(minutes)
+                .endDateTime(start.plusMinutes(minutes))
+                .platform(MeetingPlatform.GOOGLE)
+                .status(BookingStatus.PENDING)
+                .inviteCount(1)
+                .build();
+        booking.getResponses().add(InviteResponse.builder()
+                .recipientEmail(candidate.toLowerCase() + "@example.com")
+                .responseStatus(ResponseStatus.PENDING)
+                .bookingStart(start)
+                .booking(booking)
+                .build());
+        return booking;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.interview_scheduler.service;
+
+import com.example.interview_scheduler.model.dto.BatchBookingResultDTO;
+import com.example.interview_scheduler.model.dto.BookingRequestDTO;
+import com.example.interview_scheduler.model.enums.MeetingPlatform;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag("benchmark")
+class BookingBatchBenchmarkTest {
+
+    private static final int BOOKINGS = 500;
+    private static final int ROUNDS = 5;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Test
+    void measureBatchVersusSingleCreation() {
+        LocalDateTime base = LocalDateTime.now().plusDays(30).truncatedTo(ChronoUnit.HOURS);
+
+        // Warm-up round for each path so the JIT and connection pool are settled.
+        createSingly(requests("warm-single", base));
+        bookingService.createBookings(requests("warm-batch", base));
+
+        long singleNanos = 0;
+        long batchNanos = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            List<BookingRequestDTO> single = requests("single-" + round, base);
+            long start = System.nanoTime();
+            createSingly(single);
+            singleNanos += System.nanoTime() - start;
+
+            List<BookingRequestDTO> batch = requests("batch-" + round, base);
+            start = System.nanoTime();
+            List<BatchBookingResultDTO> results = bookingService.createBookings(batch);
+            batchNanos += System.nanoTime() - start;
+            assertThat(results).allMatch(BatchBookingResultDTO::success);
+        }
+
+        double total = (double) BOOKINGS * ROUNDS;
+        System.out.printf("single createBooking: %.0f bookings/sec%n", total / (singleNanos / 1e9));
+        System.out.printf("batch createBookings: %.0f bookings/sec%n", total / (batchNanos / 1e9));
+    }
+
+    private void createSingly(List<BookingRequestDTO> requests) {
+        for (BookingRequestDTO request : requests) {
+            bookingService.createBooking(request);
+        }
+    }
+
+    private static List<BookingRequestDTO> requests(String prefix, LocalDateTime base) {
+        List<BookingRequestDTO> requests = new ArrayList<>(BOOKINGS);
+        for (int i = 0; i < BOOKINGS; i++) {
+            requests.add(new BookingRequestDTO(
+                    prefix + "-candidate-" + i,
+                    prefix + "-interviewer-" + (i % 50),
+                    base.plusHours(i / 50),
+                    60,
+                    MeetingPlatform.GOOGLE,
+                    "candidate" + i + "@example.com"
+            ));
+        }
+        return requests;
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.interview_scheduler.service;
+
+import com.example.interview_scheduler.exception.BookingException;
+import com.example.interview_scheduler.model.dto.BookingFilterDTO;
+import com.example.interview_scheduler.model.entity.Booking;
+import com.example.interview_scheduler.model.entity.InviteResponse;
+import com.example.interview_scheduler.model.enums.BookingStatus;
+import com.example.interview_scheduler.model.enums.ExportFormat;
+import com.example.interview_scheduler.model.enums.MeetingPlatform;
+import com.example.interview_scheduler.model.enums.ResponseStatus;
+import com.example.interview_scheduler.repository.BookingRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(BookingExportService.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class BookingExportServiceTest {
+
+    @Autowired
+    private BookingExportService bookingExportService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        base = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+        Booking accepted = booking("Smith, Jane", base, BookingStatus.ACCEPTED);
+        invite(accepted, "jane@example.com", ResponseStatus.ACCEPTED);
+        invite(accepted, "panel@example.com", ResponseStatus.PENDING);
+        Booking pending = booking("Bob", base.plusHours(1), BookingStatus.PENDING);
+        invite(pending, "bob@example.com", ResponseStatus.PENDING);
+        Booking later = booking("Carl", base.plusDays(2), BookingStatus.PENDING);
+        bookingRepository.saveAllAndFlush(List.of(accepted, pending, later));
+    }
+
+    @Test
+    void shouldExportOneCsvRowPerResponseWithQuoting() throws IOException {
+        String csv = export(new BookingFilterDTO(null, null, null, null, null, null), ExportFormat.CSV);
+
+        List<String> lines = csv.lines().toList();
+        assertThat(lines).hasSize(5);
+        assertThat(lines.get(0)).startsWith("booking_id,candidate_name,");
+        assertThat(lines.get(1)).contains(",\"Smith, Jane\",Andy,").contains("jane@example.com,ACCEPTED");
+        assertThat(lines.get(2)).contains("panel@example.com,PENDING");
+        assertThat(lines.get(4)).contains(",Carl,").endsWith(",,,");
+    }
+
+    @Test
+    void shouldExportFilteredRowsAsNdjson() throws IOException {
+        String ndjson = export(new BookingFilterDTO(null, null, BookingStatus.PENDING, null, base, base.plusDays(1)),
+                ExportFormat.NDJSON);
+
+        List<String> lines = ndjson.lines().toList();
+        assertThat(lines).hasSize(1);
+        JsonNode row = objectMapper.readTree(lines.get(0));
+        assertThat(row.get("candidateName").asText()).isEqualTo("Bob");
+        assertThat(row.get("recipientEmail").asText()).isEqualTo("bob@example.com");
+        assertThat(row.get("proposedDateTime").asText()).isEqualTo(base.plusHours(1).toString() + ":00");
+    }
+
+    @Test
+    void shouldQuoteFieldsContainingQuotesAndLineBreaks() throws IOException {
+        StringWriter writer = new StringWriter();
+        BookingExportService.writeCsvField(writer, "say \"hi\"\nthere");
+
+        assertThat(writer.toString()).isEqualTo("\"say \"\"hi\"\"\nthere\"");
+    }
+
+    @Test
+    void shouldFreeSlotOfExportThatNeverRan() {
+        BookingFilterDTO filter = new BookingFilterDTO(null, null, null, null, null, null);
+        BookingExportService.Export first = bookingExportService.export(filter, ExportFormat.CSV);
+        BookingExportService.Export second = bookingExportService.export(filter, ExportFormat.CSV);
+        assertThrows(BookingException.class, () -> bookingExportService.export(filter, ExportFormat.CSV));
+
+        first.release();
+        first.release();
+        second.release();
+
+        assertThrows(IOException.class, () -> first.writeTo(new ByteArrayOutputStream()));
+        // Releasing twice must not have added a slot.
+        BookingExportService.Export third = bookingExportService.export(filter, ExportFormat.CSV);
+        BookingExportService.Export fourth = bookingExportService.export(filter, ExportFormat.CSV);
+        assertThrows(BookingException.class, () -> bookingExportService.export(filter, ExportFormat.CSV));
+        third.release();
+        fourth.release();
+    }
+
+    private String export(BookingFilterDTO filter, ExportFormat format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        bookingExportService.export(filter, format).writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static Booking booking(String candidate, LocalDateTime start, BookingStatus status) {
+        return Booking.builder()
+                .candidateName(candidate)
+                .interviewerName("Andy")
+                .proposedDateTime(start)
+                .durationMinutes(60)
+                .endDateTime(start.plusMinutes(60))
+                .platform(MeetingPlatform.GOOGLE)
+                .status(status)
+                .build();
+    }
+
+    private static void invite(Booking booking, String email, ResponseStatus status) {
+        booking.getResponses().add(InviteResponse.builder()
+                .recipientEmail(email)
+                .responseStatus(status)
+                .bookingStart(booking.getProposedDateTime())
+                .booking(booking)
+                .build());
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.interview_scheduler.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BookingPartitionServiceTest {
+
+    @TempDir
+    Path archiveDir;
+
+    private JdbcTemplate jdbcTemplate;
+    private BookingPartitionService service;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:partitions_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        service = new BookingPartitionService(dataSource, new DataSourceTransactionManager(dataSource),
+                3, 12, archiveDir.toString(), 2, 5000);
+    }
+
+    @Test
+    void shouldWriteCompressedCsvArchive() throws IOException {
+        jdbcTemplate.execute("create table bookings_p2024_01 (id bigint, candidate_name varchar(50), status varchar(20))");
+        jdbcTemplate.update("insert into bookings_p2024_01 values (1, 'Ada', 'ACCEPTED')");
+        jdbcTemplate.update("insert into bookings_p2024_01 values (2, 'Smith, \"Jo\"', 'EXPIRED')");
+        jdbcTemplate.update("insert into bookings_p2024_01 values (3, null, 'REJECTED')");
+
+        long rows = service.archive("bookings_p2024_01");
+
+        assertThat(rows).isEqualTo(3);
+        assertThat(archiveDir.resolve("bookings_p2024_01.csv.gz.tmp")).doesNotExist();
+        assertThat(gunzip(archiveDir.resolve("bookings_p2024_01.csv.gz"))).isEqualTo(
+                "ID,CANDIDATE_NAME,STATUS\n"
+                        + "1,Ada,ACCEPTED\n"
+                        + "2,\"Smith, \"\"Jo\"\"\",EXPIRED\n"
+                        + "3,,REJECTED\n");
+    }
+
+    @Test
+    void shouldParseMonthlyPartitionNames() {
+        BookingPartitionService.Partition partition = BookingPartitionService.Partition.of("invite_responses_p2025_03", true);
+
+        assertThat(partition.parent()).isEqualTo("invite_responses");
+        assertThat(partition.month()).isEqualTo(YearMonth.of(2025, 3));
+        assertThat(service.isPartitioned()).isFalse();
+        assertThatThrownBy(() -> BookingPartitionService.Partition.of("bookings_default", false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String gunzip(Path file) throws IOException {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.interview_scheduler.service;
+
+import com.example.interview_scheduler.InterviewSchedulerApplication;
+import com.example.interview_scheduler.cache.BookingStatusCache;
+import com.example.interview_scheduler.model.dto.BookingRequestDTO;
+import com.example.interview_scheduler.model.dto.BookingResponseDTO;
+import com.example.interview_scheduler.model.dto.InviteResponseDTO;
+import com.example.interview_scheduler.model.entity.Booking;
+import com.example.interview_scheduler.model.entity.InviteResponse;
+import com.example.interview_scheduler.model.enums.BookingStatus;
+import com.example.interview_scheduler.model.enums.MeetingPlatform;
+import com.example.interview_scheduler.model.enums.ResponseStatus;
+import jakarta.mail.internet.MimeMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Booking hot paths measured end to end through the Spring context on the
+ * embedded H2 database of the {@code test} profile, with mail delivery replaced by
+ * a no-op sender. Reports throughput and sampled latency percentiles for both
+ * booking store engines.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingServiceBenchmark {
+
+    private static final int EXISTING_BOOKINGS = 1000;
+
+    @Param({"jpa", "memory"})
+    private String storeType;
+
+    private ConfigurableApplicationContext context;
+    private BookingService bookingService;
+    private BookingStatusCache bookingStatusCache;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private long[] bookingIds;
+    private LocalDateTime base;
+    private Booking detachedBooking;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(InterviewSchedulerApplication.class, NoOpMailSenderConfig.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                // Console logging on every call would dominate the measurements.
+                .properties(Map.of(
+                        "outbox.dispatcher.enabled", "true",
+                        "booking.store.type", storeType,
+                        "logging.level.com.example.interview_scheduler", "WARN"))
+                .run();
+        bookingService = context.getBean(BookingService.class);
+        bookingStatusCache = context.getBean(BookingStatusCache.class);
+
+        base = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+        bookingIds = new long[EXISTING_BOOKINGS];
+        for (int i = 0; i < EXISTING_BOOKINGS; i++) {
+            bookingIds[i] = bookingService.createBooking(request("seed-" + i)).id();
+        }
+
+        detachedBooking = Booking.builder()
+                .id(1L)
+                .candidateName("candidate")
+                .interviewerName("interviewer")
+                .proposedDateTime(base)
+                .durationMinutes(60)
+                .endDateTime(base.plusMinutes(60))
+                .platform(MeetingPlatform.GOOGLE)
+                .status(BookingStatus.PENDING)
+                .build();
+        detachedBooking.getResponses().add(InviteResponse.builder()
+                .recipientEmail("candidate@example.com")
+                .responseStatus(ResponseStatus.PENDING)
+                .booking(detachedBooking)
+                .build());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public BookingResponseDTO createBooking() {
+        return bookingService.createBooking(request("bench-" + sequence.incrementAndGet()));
+    }
+
+    @Benchmark
+    public BookingResponseDTO respondToInvite() {
+        long n = sequence.incrementAndGet();
+        ResponseStatus status = (n & 1) == 0 ? ResponseStatus.ACCEPTED : ResponseStatus.PROPOSED;
+        int index = (int) (n % EXISTING_BOOKINGS);
+        return bookingService.respondToInvite(bookingIds[index],
+                new InviteResponseDTO("seed-" + index + "@example.com", status, base.plusDays(1)), null);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public BookingResponseDTO getBookingStatusCached() {
+        return bookingService.getBookingStatus(nextBookingId(sequence.incrementAndGet()));
+    }
+
+    @Benchmark
+    public BookingResponseDTO getBookingStatusUncached() {
+        long id = nextBookingId(sequence.incrementAndGet());
+        bookingStatusCache.evictLocal(id);
+        return bookingService.getBookingStatus(id);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public BookingResponseDTO mapToResponseDTO() {
+        return BookingService.mapToResponseDTO(detachedBooking);
+    }
+
+    private long nextBookingId(long n) {
+        return bookingIds[(int) (n % EXISTING_BOOKINGS)];
+    }
+
+    private BookingRequestDTO request(String name) {
+        return new BookingRequestDTO(
+                name + "-candidate",
+                name + "-interviewer",
+                base,
+                60,
+                MeetingPlatform.GOOGLE,
+                name + "@example.com"
+        );
+    }
+
+    static class NoOpMailSenderConfig {
+
+        @Bean
+        @Primary
+        JavaMailSender noOpMailSender() {
+            return new JavaMailSenderImpl() {
+                @Override
+                protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) {
+                }
+            };
+        }
+    }
+}
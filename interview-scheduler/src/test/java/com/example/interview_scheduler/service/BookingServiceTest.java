@@ -1,41 +1,84 @@
 package com.example.interview_scheduler.service;
 
+import com.example.interview_scheduler.cache.BookingStatusCache;
+import com.example.interview_scheduler.config.ReplicaDataSource;
+import com.example.interview_scheduler.event.BookingEventBus;
 import com.example.interview_scheduler.exception.BookingException;
+import com.example.interview_scheduler.mail.EmailTemplateEngine;
+import com.example.interview_scheduler.mail.RenderedEmail;
+import com.example.interview_scheduler.metrics.BookingMetrics;
+import com.example.interview_scheduler.model.dto.BatchBookingResultDTO;
+import com.example.interview_scheduler.model.dto.BookingFilterDTO;
+import com.example.interview_scheduler.model.dto.BookingPageDTO;
 import com.example.interview_scheduler.model.dto.BookingRequestDTO;
 import com.example.interview_scheduler.model.dto.BookingResponseDTO;
+import com.example.interview_scheduler.model.dto.BookingSlotDTO;
+import com.example.interview_scheduler.model.dto.BookingSummaryDTO;
 import com.example.interview_scheduler.model.dto.InviteResponseDTO;
 import com.example.interview_scheduler.model.entity.Booking;
 import com.example.interview_scheduler.model.entity.InviteResponse;
 import com.example.interview_scheduler.model.enums.BookingStatus;
 import com.example.interview_scheduler.model.enums.MeetingPlatform;
 import com.example.interview_scheduler.model.enums.ResponseStatus;
-import com.example.interview_scheduler.repository.BookingRepository;
-import com.example.interview_scheduler.repository.InviteResponseRepository;
+import com.example.interview_scheduler.store.BookingStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class BookingServiceTest {
 
     @Mock
-    private BookingRepository bookingRepository;
+    private BookingStore bookingStore;
 
     @Mock
-    private InviteResponseRepository inviteResponseRepository;
+    private EmailOutboxService emailOutboxService;
+
+    @Spy
+    private EmailTemplateEngine emailTemplates = new EmailTemplateEngine(
+            new DefaultResourceLoader(), "classpath:templates/email/", "EEEE d MMMM yyyy, HH:mm", "en");
+
+    @Mock
+    private SlotLockStripes slotLockStripes;
+
+    @Mock
+    private BookingStatusCache bookingStatusCache;
+
+    @Mock
+    private AvailabilityService availabilityService;
+
+    @Mock
+    private DeadlineService deadlineService;
 
     @Mock
-    private EmailService emailService;
+    private BookingEventBus bookingEventBus;
+
+    @Spy
+    private BookingMetrics bookingMetrics = new BookingMetrics(new SimpleMeterRegistry());
+
+    @Mock
+    private ObjectProvider<ReplicaDataSource> replicaDataSource;
 
     @InjectMocks
     private BookingService bookingService;
@@ -46,29 +89,13 @@ class BookingServiceTest {
                 "John",
                 "Andy",
                 LocalDateTime.now().plusDays(1),
+                60,
                 MeetingPlatform.GOOGLE,
                 "John@gmail.com"
         );
 
-        Booking booking = Booking.builder()
-                .id(1L)
-                .candidateName(request.candidateName())
-                .interviewerName(request.interviewerName())
-                .proposedDateTime(request.proposedDateTime())
-                .platform(request.platform())
-                .status(BookingStatus.PENDING)
-                .build();
-
-        InviteResponse invite = InviteResponse.builder()
-                .id(1L)
-                .recipientEmail(request.recipientEmail())
-                .responseStatus(ResponseStatus.PENDING)
-                .booking(booking)
-                .build();
-
-        when(bookingRepository.existsByProposedDateTime(any())).thenReturn(false);
-        when(bookingRepository.save(any())).thenReturn(booking);
-        when(inviteResponseRepository.save(any())).thenReturn(invite);
+        when(bookingStore.existsOverlappingForInterviewer(any(), any(), any())).thenReturn(false);
+        when(bookingStore.existsOverlappingForCandidate(any(), any(), any())).thenReturn(false);
 
         BookingResponseDTO response = bookingService.createBooking(request);
 
@@ -76,7 +103,13 @@ class BookingServiceTest {
         assertThat(response.candidateName()).isEqualTo("John");
         assertThat(response.status()).isEqualTo(BookingStatus.PENDING);
         assertThat(response.platform()).isEqualTo(MeetingPlatform.GOOGLE);
-        verify(emailService, times(1)).sendInvite(any(), any(), any());
+        assertThat(response.endDateTime()).isEqualTo(request.proposedDateTime().plusMinutes(60));
+        verify(slotLockStripes).lockForTransaction(eq("Andy"), eq("John"), any(), any());
+        verify(bookingStatusCache).putAfterCommit(response);
+        verify(availabilityService).recordBooked(any(Booking.class));
+        verify(deadlineService).schedule(any(Booking.class));
+        verify(bookingStore).insert(argThat(bookings -> bookings.size() == 1 && bookings.get(0).getResponses().size() == 1));
+        verify(emailOutboxService, times(1)).enqueue(any(), any());
     }
 
     @Test
@@ -85,16 +118,57 @@ class BookingServiceTest {
                 "John",
                 "Andy",
                 LocalDateTime.now().plusDays(1),
+                60,
+                MeetingPlatform.TEAMS,
+                "John@gmail.com"
+        );
+
+        when(bookingStore.existsOverlappingForInterviewer(any(), any(), any())).thenReturn(true);
+
+        BookingException e = assertThrows(BookingException.class, () -> bookingService.createBooking(request));
+        assertThat(e.getReason()).isEqualTo(BookingException.Reason.CONFLICT);
+        verify(bookingMetrics).recordConflictCheck(any(), eq("single"), eq(true));
+        verify(bookingStore, never()).insert(any());
+        verify(emailOutboxService, never()).enqueue(any(), any());
+    }
+
+    @Test
+    void shouldThrowExceptionIfCandidateAlreadyBookedInOverlappingSlot() {
+        BookingRequestDTO request = new BookingRequestDTO(
+                "John",
+                "Andy",
+                LocalDateTime.now().plusDays(1),
+                30,
                 MeetingPlatform.TEAMS,
                 "John@gmail.com"
         );
 
-        when(bookingRepository.existsByProposedDateTime(any())).thenReturn(true);
+        when(bookingStore.existsOverlappingForInterviewer(any(), any(), any())).thenReturn(false);
+        when(bookingStore.existsOverlappingForCandidate("John", request.proposedDateTime(),
+                request.proposedDateTime().plusMinutes(30))).thenReturn(true);
 
         assertThrows(BookingException.class, () -> bookingService.createBooking(request));
-        verify(bookingRepository, never()).save(any());
-        verify(inviteResponseRepository, never()).save(any());
-        verify(emailService, never()).sendInvite(any(), any(), any());
+        verify(bookingStore, never()).insert(any());
+    }
+
+    @Test
+    void shouldTranslateOverlapConstraintViolationToBookingException() {
+        BookingRequestDTO request = new BookingRequestDTO(
+                "John",
+                "Andy",
+                LocalDateTime.now().plusDays(1),
+                60,
+                MeetingPlatform.GOOGLE,
+                "John@gmail.com"
+        );
+
+        when(bookingStore.existsOverlappingForInterviewer(any(), any(), any())).thenReturn(false);
+        when(bookingStore.existsOverlappingForCandidate(any(), any(), any())).thenReturn(false);
+        doThrow(new DataIntegrityViolationException("bookings_interviewer_no_overlap")).when(bookingStore).insert(any());
+
+        assertThrows(BookingException.class, () -> bookingService.createBooking(request));
+        verify(emailOutboxService, never()).enqueue(any(), any());
+        verify(deadlineService, never()).schedule(any(Booking.class));
     }
 
     @Test
@@ -123,16 +197,47 @@ class BookingServiceTest {
                 null
         );
 
-        when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
-        when(inviteResponseRepository.findByBookingId(bookingId)).thenReturn(invite);
-        when(inviteResponseRepository.save(any())).thenReturn(invite);
-        when(bookingRepository.save(any())).thenReturn(booking);
+        booking.getResponses().add(invite);
+        when(bookingStore.find(bookingId)).thenReturn(Optional.of(booking));
+        when(bookingStore.findInvite(booking, "John@gmail.com")).thenReturn(Optional.of(invite));
 
-        BookingResponseDTO response = bookingService.respondToInvite(bookingId, dto);
+        BookingResponseDTO response = bookingService.respondToInvite(bookingId, dto, null);
 
         assertThat(response).isNotNull();
         assertThat(response.status()).isEqualTo(BookingStatus.ACCEPTED);
         assertThat(response.responses().get(0).responseStatus()).isEqualTo(ResponseStatus.ACCEPTED);
+        verify(bookingStatusCache).putAfterCommit(response);
+        verify(bookingEventBus).publishAfterCommit(response);
+        verify(availabilityService).recordBooked(booking);
+        verify(bookingStore).update(booking);
+    }
+
+    @Test
+    void shouldReleaseAvailabilityWhenInviteRejected() {
+        Booking booking = Booking.builder()
+                .id(1L)
+                .candidateName("John")
+                .interviewerName("Andy")
+                .proposedDateTime(LocalDateTime.now().plusDays(1))
+                .platform(MeetingPlatform.GOOGLE)
+                .status(BookingStatus.PENDING)
+                .build();
+        booking.getResponses().add(InviteResponse.builder()
+                .recipientEmail("John@gmail.com")
+                .responseStatus(ResponseStatus.PENDING)
+                .booking(booking)
+                .build());
+        when(bookingStore.find(1L)).thenReturn(Optional.of(booking));
+        when(bookingStore.findInvite(booking, "John@gmail.com")).thenReturn(Optional.of(booking.getResponses().get(0)));
+
+        BookingResponseDTO response = bookingService.respondToInvite(1L,
+                new InviteResponseDTO("John@gmail.com", ResponseStatus.REJECTED, null), null);
+
+        assertThat(response.status()).isEqualTo(BookingStatus.REJECTED);
+        verify(availabilityService).recordReleased(booking);
+        verify(availabilityService, never()).recordBooked(any());
+        verify(emailOutboxService).enqueue(eq("John@gmail.com"),
+                argThat((RenderedEmail email) -> email.subject().equals("Interview Cancelled")));
     }
 
     @Test
@@ -144,9 +249,104 @@ class BookingServiceTest {
                 null
         );
 
-        when(bookingRepository.findById(bookingId)).thenReturn(Optional.empty());
+        when(bookingStore.find(bookingId)).thenReturn(Optional.empty());
 
-        assertThrows(BookingException.class, () -> bookingService.respondToInvite(bookingId, dto));
+        assertThrows(BookingException.class, () -> bookingService.respondToInvite(bookingId, dto, null));
+    }
+
+    @Test
+    void shouldRejectResponseForStaleVersion() {
+        Booking booking = bookingWithInvite();
+        booking.setVersion(3L);
+        when(bookingStore.find(1L)).thenReturn(Optional.of(booking));
+
+        BookingException e = assertThrows(BookingException.class, () -> bookingService.respondToInvite(1L,
+                new InviteResponseDTO("John@gmail.com", ResponseStatus.ACCEPTED, null), 2L));
+
+        assertThat(e.getReason()).isEqualTo(BookingException.Reason.CONFLICT);
+        assertThat(booking.getStatus()).isEqualTo(BookingStatus.PENDING);
+        verifyNoInteractions(bookingStatusCache);
+    }
+
+    @Test
+    void shouldLeaveConcurrentResponseToRetry() {
+        Booking booking = bookingWithInvite();
+        when(bookingStore.find(1L)).thenReturn(Optional.of(booking));
+        when(bookingStore.findInvite(booking, "John@gmail.com")).thenReturn(Optional.of(booking.getResponses().get(0)));
+        doThrow(new ObjectOptimisticLockingFailureException(Booking.class, 1L)).when(bookingStore).update(booking);
+
+        assertThrows(OptimisticLockingFailureException.class, () -> bookingService.respondToInvite(1L,
+                new InviteResponseDTO("John@gmail.com", ResponseStatus.REJECTED, null), null));
+
+        verifyNoInteractions(bookingStatusCache, availabilityService, bookingEventBus);
+    }
+
+    @Test
+    void shouldRejectResponseToExpiredInvite() {
+        Booking booking = bookingWithInvite();
+        booking.setStatus(BookingStatus.EXPIRED);
+        when(bookingStore.find(1L)).thenReturn(Optional.of(booking));
+
+        BookingException e = assertThrows(BookingException.class, () -> bookingService.respondToInvite(1L,
+                new InviteResponseDTO("John@gmail.com", ResponseStatus.ACCEPTED, null), null));
+
+        assertThat(e.getReason()).isEqualTo(BookingException.Reason.CONFLICT);
+        assertThat(booking.getStatus()).isEqualTo(BookingStatus.EXPIRED);
+        verifyNoInteractions(bookingStatusCache, availabilityService);
+    }
+
+    @Test
+    void shouldInviteEveryPanelMemberOnce() {
+        BookingRequestDTO request = new BookingRequestDTO("John", "Andy", LocalDateTime.now().plusDays(1), 60,
+                MeetingPlatform.GOOGLE, "John@gmail.com", List.of("panel1@example.com", "john@GMAIL.com", "panel2@example.com"));
+        BookingResponseDTO response = bookingService.createBooking(request);
+
+        assertThat(response.responses()).extracting(InviteResponseDTO::recipientEmail)
+                .containsExactly("John@gmail.com", "panel1@example.com", "panel2@example.com");
+        verify(bookingStore).insert(argThat(bookings -> bookings.get(0).getResponses().size() == 3));
+        verify(emailOutboxService, times(3)).enqueue(any(), argThat((RenderedEmail email) -> email.subject().equals("Interview Invitation")));
+    }
+
+    @Test
+    void shouldAcceptPanelBookingOnlyOnceEveryInviteeAccepted() {
+        Booking booking = bookingWithInvite();
+        booking.setInviteCount(2);
+        InviteResponse panelist = InviteResponse.builder()
+                .recipientEmail("panel@example.com")
+                .responseStatus(ResponseStatus.PENDING)
+                .booking(booking)
+                .build();
+        booking.getResponses().add(panelist);
+        when(bookingStore.find(1L)).thenReturn(Optional.of(booking));
+        when(bookingStore.findInvite(booking, "panel@example.com")).thenReturn(Optional.of(panelist));
+        when(bookingStore.findInvite(booking, "John@gmail.com")).thenReturn(Optional.of(booking.getResponses().get(0)));
+
+        BookingResponseDTO first = bookingService.respondToInvite(1L,
+                new InviteResponseDTO("panel@example.com", ResponseStatus.ACCEPTED, null), null);
+        assertThat(first.status()).isEqualTo(BookingStatus.PENDING);
+
+        BookingResponseDTO second = bookingService.respondToInvite(1L,
+                new InviteResponseDTO("John@gmail.com", ResponseStatus.ACCEPTED, null), null);
+        assertThat(second.status()).isEqualTo(BookingStatus.ACCEPTED);
+        assertThat(booking.getAcceptedCount()).isEqualTo(2);
+
+        BookingResponseDTO third = bookingService.respondToInvite(1L,
+                new InviteResponseDTO("panel@example.com", ResponseStatus.REJECTED, null), null);
+        assertThat(third.status()).isEqualTo(BookingStatus.REJECTED);
+        assertThat(booking.getAcceptedCount()).isEqualTo(1);
+        assertThat(booking.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRequireRecipientEmailWhenBookingHasSeveralInvitees() {
+        Booking booking = bookingWithInvite();
+        booking.setInviteCount(2);
+        when(bookingStore.find(1L)).thenReturn(Optional.of(booking));
+
+        BookingException e = assertThrows(BookingException.class, () -> bookingService.respondToInvite(1L,
+                new InviteResponseDTO(null, ResponseStatus.ACCEPTED, null), null));
+
+        assertThat(e.getReason()).isEqualTo(BookingException.Reason.INVALID);
     }
 
     @Test
@@ -169,8 +369,8 @@ class BookingServiceTest {
                 .booking(booking)
                 .build();
 
-        when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
-        when(inviteResponseRepository.findByBookingId(bookingId)).thenReturn(invite);
+        booking.getResponses().add(invite);
+        when(bookingStore.findWithResponses(bookingId)).thenReturn(Optional.of(booking));
 
         BookingResponseDTO response = bookingService.getBookingStatus(bookingId);
 
@@ -178,13 +378,136 @@ class BookingServiceTest {
         assertThat(response.status()).isEqualTo(BookingStatus.PENDING);
         assertThat(response.platform()).isEqualTo(MeetingPlatform.TEAMS);
         assertThat(response.responses().get(0).recipientEmail()).isEqualTo("John@gmail.com");
+        verify(bookingStore, never()).findInvite(any(), any());
+        verify(bookingStatusCache).putIfAbsent(response);
+    }
+
+    @Test
+    void shouldServeBookingStatusFromCache() {
+        BookingResponseDTO cached = new BookingResponseDTO(
+                1L, "John", "Andy", LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(1).plusHours(1),
+                MeetingPlatform.TEAMS, BookingStatus.ACCEPTED, 0L, List.of());
+        when(bookingStatusCache.get(1L)).thenReturn(cached);
+
+        BookingResponseDTO response = bookingService.getBookingStatus(1L);
+
+        assertThat(response).isSameAs(cached);
+        verifyNoInteractions(bookingStore);
+    }
+
+    @Test
+    void shouldNotCacheBookingStatusReadFromReplica() {
+        Booking booking = bookingWithInvite();
+        when(bookingStore.findWithResponses(1L)).thenReturn(Optional.of(booking));
+        when(replicaDataSource.getIfAvailable()).thenReturn(mock(ReplicaDataSource.class));
+
+        BookingResponseDTO response = bookingService.getBookingStatus(1L);
+
+        assertThat(response.id()).isEqualTo(1L);
+        verify(bookingStatusCache, never()).putIfAbsent(any());
+    }
+
+    @Test
+    void shouldBypassCacheWhilePinnedToPrimary() {
+        Booking booking = bookingWithInvite();
+        when(bookingStore.findWithResponses(1L)).thenReturn(Optional.of(booking));
+
+        ReplicaDataSource.pinToPrimary();
+        try {
+            BookingResponseDTO response = bookingService.getBookingStatus(1L);
+
+            verify(bookingStatusCache, never()).get(any());
+            verify(bookingStatusCache).putIfAbsent(response);
+        } finally {
+            ReplicaDataSource.unpin();
+        }
+    }
+
+    @Test
+    void shouldReadBookingVersionWithoutLoadingBooking() {
+        when(bookingStore.findVersion(1L)).thenReturn(Optional.of(3L));
+        when(bookingStore.findVersion(2L)).thenReturn(Optional.empty());
+
+        assertThat(bookingService.getBookingVersion(1L)).isEqualTo(3L);
+        assertThat(bookingService.getBookingVersion(2L)).isNull();
+        verify(bookingStore, never()).findWithResponses(any(Long.class));
     }
 
     @Test
     void shouldThrowExceptionWhenBookingNotFoundOnGetStatus() {
         Long bookingId = 1L;
-        when(bookingRepository.findById(bookingId)).thenReturn(Optional.empty());
+        when(bookingStore.findWithResponses(bookingId)).thenReturn(Optional.empty());
 
         assertThrows(BookingException.class, () -> bookingService.getBookingStatus(bookingId));
     }
+
+    @Test
+    void shouldCreateBatchAndReportConflictsPerItem() {
+        LocalDateTime start = LocalDateTime.now().plusDays(2);
+        List<BookingRequestDTO> requests = List.of(
+                new BookingRequestDTO("John", "Andy", start, 60, MeetingPlatform.GOOGLE, "John@gmail.com"),
+                new BookingRequestDTO("Mary", "Andy", start.plusMinutes(30), 60, MeetingPlatform.GOOGLE, "Mary@gmail.com"),
+                new BookingRequestDTO("Paul", "Andy", start.plusHours(1), 60, MeetingPlatform.TEAMS, "Paul@gmail.com"),
+                new BookingRequestDTO("Lisa", "Bob", start, 60, MeetingPlatform.TEAMS, "Lisa@gmail.com")
+        );
+
+        when(bookingStore.findActiveSlots(anyCollection(), anyCollection(), any(), any()))
+                .thenReturn(List.of(new BookingSlotDTO("Bob", "Someone", start.minusMinutes(30), start.plusMinutes(30))));
+
+        List<BatchBookingResultDTO> results = bookingService.createBookings(requests);
+
+        assertThat(results).extracting(BatchBookingResultDTO::success).containsExactly(true, false, true, false);
+        assertThat(results.get(1).error()).contains("Interviewer");
+        assertThat(results.get(3).error()).contains("Interviewer");
+        verify(slotLockStripes).lockForTransaction(anyCollection());
+        verify(bookingStore).insert(argThat(bookings -> bookings.size() == 2));
+        verify(deadlineService).schedule(argThat((List<Booking> bookings) -> bookings.size() == 2));
+        verify(emailOutboxService, times(2)).enqueue(any(), any());
+    }
+
+    @Test
+    void shouldReturnCursorThatResumesAfterLastRow() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        BookingFilterDTO filter = new BookingFilterDTO("Andy", null, null, null, null, null);
+        List<BookingSummaryDTO> rows = List.of(
+                new BookingSummaryDTO(1L, "John", "Andy", start, start.plusHours(1), MeetingPlatform.GOOGLE, BookingStatus.PENDING),
+                new BookingSummaryDTO(2L, "Mary", "Andy", start, start.plusHours(1), MeetingPlatform.GOOGLE, BookingStatus.PENDING),
+                new BookingSummaryDTO(3L, "Paul", "Andy", start.plusHours(1), start.plusHours(2), MeetingPlatform.TEAMS, BookingStatus.PENDING)
+        );
+        when(bookingStore.findSummaries(filter, null, null, 3)).thenReturn(rows);
+
+        BookingPageDTO page = bookingService.listBookings(filter, null, 2);
+
+        assertThat(page.items()).hasSize(2);
+        assertThat(page.nextCursor()).isNotNull();
+
+        bookingService.listBookings(filter, page.nextCursor(), 2);
+        verify(bookingStore).findSummaries(filter, start, 2L, 3);
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        BookingFilterDTO filter = new BookingFilterDTO(null, null, null, null, null, null);
+
+        assertThrows(BookingException.class, () -> bookingService.listBookings(filter, "not-a-cursor", 10));
+    }
+
+    private static Booking bookingWithInvite() {
+        Booking booking = Booking.builder()
+                .id(1L)
+                .candidateName("John")
+                .interviewerName("Andy")
+                .proposedDateTime(LocalDateTime.now().plusDays(1))
+                .platform(MeetingPlatform.GOOGLE)
+                .status(BookingStatus.PENDING)
+                .version(0L)
+                .inviteCount(1)
+                .build();
+        booking.getResponses().add(InviteResponse.builder()
+                .recipientEmail("John@gmail.com")
+                .responseStatus(ResponseStatus.PENDING)
+                .booking(booking)
+                .build());
+        return booking;
+    }
 }
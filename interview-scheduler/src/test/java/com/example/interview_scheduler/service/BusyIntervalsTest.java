@@ -0,0 +1,79 @@
+package com.example.interview_scheduler.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BusyIntervalsTest {
+
+    private static final long HOUR = 3600;
+
+    @Test
+    void shouldReturnGapsLongEnoughForTheDuration() {
+        BusyIntervals intervals = BusyIntervals.EMPTY
+                .with(1, 10 * HOUR, 11 * HOUR)
+                .with(2, 13 * HOUR, 15 * HOUR)
+                .with(3, 15 * HOUR + 1800, 16 * HOUR);
+
+        long[] free = intervals.freeSlots(9 * HOUR, 18 * HOUR, HOUR);
+
+        // The 30 minute gap at 15:00 is too short for a one hour slot.
+        assertThat(free).containsExactly(9 * HOUR, 10 * HOUR, 11 * HOUR, 13 * HOUR, 16 * HOUR, 18 * HOUR);
+    }
+
+    @Test
+    void shouldHonourBookingThatStartedBeforeTheWindow() {
+        BusyIntervals intervals = BusyIntervals.EMPTY.with(1, 8 * HOUR, 10 * HOUR);
+
+        assertThat(intervals.freeSlots(9 * HOUR, 12 * HOUR, HOUR)).containsExactly(10 * HOUR, 12 * HOUR);
+    }
+
+    @Test
+    void shouldReplaceAndRemoveById() {
+        BusyIntervals intervals = BusyIntervals.EMPTY
+                .with(1, 10 * HOUR, 11 * HOUR)
+                .with(1, 14 * HOUR, 15 * HOUR);
+
+        assertThat(intervals.size()).isEqualTo(1);
+        assertThat(intervals.freeSlots(9 * HOUR, 16 * HOUR, HOUR))
+                .containsExactly(9 * HOUR, 14 * HOUR, 15 * HOUR, 16 * HOUR);
+        assertThat(intervals.without(1).freeSlots(9 * HOUR, 16 * HOUR, HOUR))
+                .containsExactly(9 * HOUR, 16 * HOUR);
+    }
+
+    @Test
+    void shouldFindSlotsCommonToAllSchedules() {
+        BusyIntervals first = BusyIntervals.EMPTY.with(1, 9 * HOUR, 11 * HOUR);
+        BusyIntervals second = BusyIntervals.EMPTY
+                .with(2, 10 * HOUR, 12 * HOUR)
+                .with(3, 14 * HOUR, 15 * HOUR);
+
+        long[] common = BusyIntervals.commonFreeSlots(List.of(first, second), 9 * HOUR, 17 * HOUR, HOUR);
+
+        assertThat(common).containsExactly(12 * HOUR, 14 * HOUR, 15 * HOUR, 17 * HOUR);
+    }
+
+    @Test
+    void shouldBuildFromUnorderedRowsTheSameScheduleAsSingleUpdates() {
+        Random random = new Random(42);
+        BusyIntervals.Builder builder = BusyIntervals.builder();
+        BusyIntervals incremental = BusyIntervals.EMPTY;
+        for (int id = 1; id <= 500; id++) {
+            long start = random.nextInt(24 * 30) * HOUR / 2;
+            long end = start + (1 + random.nextInt(4)) * HOUR / 2;
+            builder.add(id, start, end);
+            incremental = incremental.with(id, start, end);
+        }
+
+        BusyIntervals bulk = builder.build();
+
+        assertThat(bulk.size()).isEqualTo(500);
+        assertThat(bulk.freeSlots(0, 15 * 24 * HOUR, HOUR / 2))
+                .containsExactly(incremental.freeSlots(0, 15 * 24 * HOUR, HOUR / 2));
+        assertThat(bulk.with(501, 0, HOUR).without(1).size()).isEqualTo(500);
+        assertThat(BusyIntervals.of(new long[0], new long[0], new long[0])).isSameAs(BusyIntervals.EMPTY);
+    }
+}
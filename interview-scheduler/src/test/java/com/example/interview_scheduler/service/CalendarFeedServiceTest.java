@@ -0,0 +1,92 @@
+package com.example.interview_scheduler.service;
+
+import com.example.interview_scheduler.exception.BookingException;
+import com.example.interview_scheduler.model.dto.CalendarEventDTO;
+import com.example.interview_scheduler.model.enums.BookingStatus;
+import com.example.interview_scheduler.model.enums.MeetingPlatform;
+import com.example.interview_scheduler.store.BookingStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CalendarFeedServiceTest {
+
+    @Mock
+    private BookingStore bookingStore;
+
+    private CalendarFeedService calendarFeedService;
+
+    private final LocalDateTime start = LocalDateTime.of(2030, 3, 4, 10, 0);
+
+    @BeforeEach
+    void setUp() {
+        calendarFeedService = new CalendarFeedService(bookingStore, 30, 30, "Europe/London");
+    }
+
+    @Test
+    void shouldOnlyAdvanceSyncTokenPastSettledChanges() {
+        LocalDateTime now = LocalDateTime.now();
+        when(bookingStore.findLatestChangeSeq(eq("Andy"), any())).thenReturn(12L);
+        when(bookingStore.findChangedSince(eq("Andy"), eq(5L), any())).thenReturn(List.of(
+                event(1L, BookingStatus.ACCEPTED, now.minusMinutes(5), 8L),
+                event(2L, BookingStatus.EXPIRED, now.minusMinutes(2), 10L),
+                event(3L, BookingStatus.PENDING, now, 12L)));
+
+        CalendarFeedService.CalendarFeed feed = calendarFeedService.getChangesSince(" Andy ", 5);
+
+        assertThat(feed.syncToken()).isEqualTo(10);
+        assertThat(feed.latestChange()).isEqualTo(12);
+        assertThat(feed.calendar()).contains(
+                "UID:booking-1@interview-scheduler\r\n", "STATUS:CONFIRMED\r\n",
+                "UID:booking-2@interview-scheduler\r\n", "STATUS:CANCELLED\r\n",
+                "UID:booking-3@interview-scheduler\r\n", "STATUS:TENTATIVE\r\n",
+                "DTSTART:20300304T100000Z\r\n", "DTEND:20300304T110000Z\r\n", "SEQUENCE:3\r\n");
+    }
+
+    @Test
+    void shouldSkipQueryingChangesWhenNothingIsNewer() {
+        when(bookingStore.findLatestChangeSeq(eq("Andy"), any())).thenReturn(7L);
+
+        CalendarFeedService.CalendarFeed feed = calendarFeedService.getChangesSince("Andy", 7);
+
+        assertThat(feed.syncToken()).isEqualTo(7);
+        assertThat(feed.calendar()).startsWith("BEGIN:VCALENDAR\r\n").endsWith("END:VCALENDAR\r\n")
+                .doesNotContain("BEGIN:VEVENT");
+        verify(bookingStore, never()).findChangedSince(any(), anyLong(), any());
+        assertThrows(BookingException.class, () -> calendarFeedService.getChangesSince("Andy", -1));
+    }
+
+    @Test
+    void shouldEscapeTextAndFoldLongLinesOnCharacterBoundaries() {
+        CalendarEventDTO event = new CalendarEventDTO(4L, "Zoë Smith, Jr; \"ops\"\\platform ".repeat(4), "Andy",
+                start, start.plusHours(1), MeetingPlatform.TEAMS, BookingStatus.PENDING, 0L, start, 1L);
+
+        String calendar = calendarFeedService.render("Andy", List.of(event));
+
+        assertThat(calendar).contains("SUMMARY:Interview with Zoë Smith\\, Jr\\; \"ops\"\\\\platform");
+        for (String line : calendar.split("\r\n")) {
+            assertThat(line.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(75);
+        }
+        assertThat(calendar.replace("\r\n ", "")).contains(
+                "DESCRIPTION:Microsoft Teams interview of " + "Zoë Smith\\, Jr\\; \"ops\"\\\\platform ".repeat(4));
+    }
+
+    private CalendarEventDTO event(long id, BookingStatus status, LocalDateTime updatedAt, long changeSeq) {
+        return new CalendarEventDTO(id, "candidate-" + id, "Andy", start, start.plusHours(1), MeetingPlatform.GOOGLE,
+                status, 3L, updatedAt, changeSeq);
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.interview_scheduler.service;
+
+import com.example.interview_scheduler.cache.BookingStatusCache;
+import com.example.interview_scheduler.event.BookingEventBus;
+import com.example.interview_scheduler.mail.EmailTemplateEngine;
+import com.example.interview_scheduler.mail.RenderedEmail;
+import com.example.interview_scheduler.model.dto.BookingResponseDTO;
+import com.example.interview_scheduler.model.entity.Booking;
+import com.example.interview_scheduler.model.entity.BookingDeadline;
+import com.example.interview_scheduler.model.entity.InviteResponse;
+import com.example.interview_scheduler.model.enums.BookingStatus;
+import com.example.interview_scheduler.model.enums.DeadlineType;
+import com.example.interview_scheduler.model.enums.MeetingPlatform;
+import com.example.interview_scheduler.model.enums.ResponseStatus;
+import com.example.interview_scheduler.repository.BookingDeadlineRepository;
+import com.example.interview_scheduler.store.BookingStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeadlineServiceTest {
+
+    @Mock
+    private BookingDeadlineRepository bookingDeadlineRepository;
+
+    @Mock
+    private BookingStore bookingStore;
+
+    @Mock
+    private EmailOutboxService emailOutboxService;
+
+    @Spy
+    private EmailTemplateEngine emailTemplates = new EmailTemplateEngine(
+            new DefaultResourceLoader(), "classpath:templates/email/", "EEEE d MMMM yyyy, HH:mm", "en");
+
+    @Mock
+    private AvailabilityService availabilityService;
+
+    @Mock
+    private BookingStatusCache bookingStatusCache;
+
+    @Mock
+    private BookingEventBus bookingEventBus;
+
+    @InjectMocks
+    private DeadlineService deadlineService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(deadlineService, "batchSize", 100);
+        ReflectionTestUtils.setField(deadlineService, "reminderLeadHours", 24L);
+        ReflectionTestUtils.setField(deadlineService, "expiryLeadHours", 2L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldScheduleReminderAndExpiryAheadOfStart() {
+        LocalDateTime start = LocalDateTime.now().plusDays(3);
+
+        deadlineService.schedule(booking(start, BookingStatus.PENDING));
+
+        ArgumentCaptor<List<BookingDeadline>> captor = ArgumentCaptor.forClass(List.class);
+        verify(bookingDeadlineRepository).saveAll(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(BookingDeadline::getType, BookingDeadline::getDueAt)
+                .containsExactly(
+                        tuple(DeadlineType.REMINDER, start.minusHours(24)),
+                        tuple(DeadlineType.EXPIRY, start.minusHours(2)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldSkipReminderAndExpireAtStartWhenBookedAtShortNotice() {
+        LocalDateTime start = LocalDateTime.now().plusHours(1);
+
+        deadlineService.schedule(booking(start, BookingStatus.PENDING));
+
+        ArgumentCaptor<List<BookingDeadline>> captor = ArgumentCaptor.forClass(List.class);
+        verify(bookingDeadlineRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).singleElement().satisfies(deadline -> {
+            assertThat(deadline.getType()).isEqualTo(DeadlineType.EXPIRY);
+            assertThat(deadline.getDueAt()).isEqualTo(start);
+        });
+    }
+
+    @Test
+    void shouldExpireUnansweredInvite() {
+        Booking booking = booking(LocalDateTime.now().plusHours(1), BookingStatus.PENDING);
+        BookingDeadline deadline = deadline(DeadlineType.EXPIRY);
+        when(bookingDeadlineRepository.findByProcessedAtIsNullAndDueAtLessThanEqualOrderByDueAt(any(), any()))
+                .thenReturn(List.of(deadline));
+        when(bookingStore.findWithResponses(anyCollection(), any())).thenReturn(List.of(booking));
+
+        int processed = deadlineService.processDueBatch();
+
+        assertThat(processed).isEqualTo(1);
+        assertThat(deadline.getProcessedAt()).isNotNull();
+        assertThat(booking.getStatus()).isEqualTo(BookingStatus.EXPIRED);
+        assertThat(booking.getResponses().get(0).getResponseStatus()).isEqualTo(ResponseStatus.EXPIRED);
+        verify(bookingStore).update(booking);
+        verify(availabilityService).recordReleased(booking);
+        verify(bookingStatusCache).putAfterCommit(any(BookingResponseDTO.class));
+        verify(bookingEventBus).publishAfterCommit(any(BookingResponseDTO.class));
+    }
+
+    @Test
+    void shouldLeaveAnsweredInviteAlone() {
+        Booking booking = booking(LocalDateTime.now().plusHours(1), BookingStatus.ACCEPTED);
+        BookingDeadline deadline = deadline(DeadlineType.EXPIRY);
+        when(bookingDeadlineRepository.findByProcessedAtIsNullAndDueAtLessThanEqualOrderByDueAt(any(), any()))
+                .thenReturn(List.of(deadline));
+        when(bookingStore.findWithResponses(anyCollection(), any())).thenReturn(List.of(booking));
+
+        deadlineService.processDueBatch();
+
+        assertThat(deadline.getProcessedAt()).isNotNull();
+        assertThat(booking.getStatus()).isEqualTo(BookingStatus.ACCEPTED);
+        verifyNoInteractions(availabilityService, bookingStatusCache, bookingEventBus);
+    }
+
+    @Test
+    void shouldQueueReminderOnlyForActiveBookings() {
+        Booking active = booking(LocalDateTime.now().plusDays(1), BookingStatus.ACCEPTED);
+        Booking rejected = booking(LocalDateTime.now().plusDays(1), BookingStatus.REJECTED);
+        rejected.setId(2L);
+        BookingDeadline first = deadline(DeadlineType.REMINDER);
+        BookingDeadline second = deadline(DeadlineType.REMINDER);
+        second.setBookingId(2L);
+        when(bookingDeadlineRepository.findByProcessedAtIsNullAndDueAtLessThanEqualOrderByDueAt(any(), any()))
+                .thenReturn(List.of(first, second));
+        when(bookingStore.findWithResponses(anyCollection(), any())).thenReturn(List.of(active, rejected));
+
+        int processed = deadlineService.processDueBatch();
+
+        assertThat(processed).isEqualTo(2);
+        assertThat(second.getProcessedAt()).isNotNull();
+        verify(emailOutboxService, times(1)).enqueue(eq("John@gmail.com"), argThat((RenderedEmail email) -> email.subject().equals("Interview Reminder")));
+    }
+
+    private static Booking booking(LocalDateTime start, BookingStatus status) {
+        Booking booking = Booking.builder()
+                .id(1L)
+                .candidateName("John")
+                .interviewerName("Andy")
+                .proposedDateTime(start)
+                .durationMinutes(60)
+                .endDateTime(start.plusMinutes(60))
+                .platform(MeetingPlatform.GOOGLE)
+                .status(status)
+                .build();
+        booking.getResponses().add(InviteResponse.builder()
+                .recipientEmail("John@gmail.com")
+                .responseStatus(status == BookingStatus.PENDING ? ResponseStatus.PENDING : ResponseStatus.ACCEPTED)
+                .booking(booking)
+                .build());
+        return booking;
+    }
+
+    private static BookingDeadline deadline(DeadlineType type) {
+        return BookingDeadline.builder()
+                .id(1L)
+                .bookingId(1L)
+                .type(type)
+                .dueAt(LocalDateTime.now().minusMinutes(1))
+                .build();
+    }
+}
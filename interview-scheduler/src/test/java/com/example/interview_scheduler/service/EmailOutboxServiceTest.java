@@ -0,0 +1,124 @@
+package com.example.interview_scheduler.service;
+
+import com.example.interview_scheduler.model.entity.EmailOutbox;
+import com.example.interview_scheduler.model.enums.OutboxStatus;
+import com.example.interview_scheduler.repository.EmailOutboxRepository;
+import jakarta.mail.MessagingException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.MimeMessagePreparator;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxServiceTest {
+
+    @Mock
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Mock
+    private EmailService emailService;
+
+    @InjectMocks
+    private EmailOutboxService emailOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(emailOutboxService, "batchSize", 50);
+        ReflectionTestUtils.setField(emailOutboxService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(emailOutboxService, "initialBackoffMs", 1000L);
+        ReflectionTestUtils.setField(emailOutboxService, "maxBackoffMs", 60000L);
+        lenient().when(emailService.buildMessage(any(), any(), any(), any())).thenCallRealMethod();
+    }
+
+    @Test
+    void shouldMarkEmailSentAfterDispatch() {
+        EmailOutbox email = pendingEmail(0);
+        when(emailOutboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(any(), any(), any()))
+                .thenReturn(List.of(email));
+
+        int processed = emailOutboxService.dispatchDueBatch();
+
+        assertThat(processed).isEqualTo(1);
+        assertThat(email.getStatus()).isEqualTo(OutboxStatus.SENT);
+        assertThat(email.getSentAt()).isNotNull();
+        verify(emailService, times(1)).sendBatch(anyList());
+    }
+
+    @Test
+    void shouldScheduleRetryWithBackoffWhenSendFails() {
+        EmailOutbox email = pendingEmail(1);
+        LocalDateTime before = email.getNextAttemptAt();
+        when(emailOutboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(any(), any(), any()))
+                .thenReturn(List.of(email));
+        doThrow(new MailSendException("SMTP unavailable")).when(emailService).sendBatch(anyList());
+
+        emailOutboxService.dispatchDueBatch();
+
+        assertThat(email.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(email.getAttempts()).isEqualTo(2);
+        assertThat(email.getNextAttemptAt()).isAfter(before.plusSeconds(1));
+        assertThat(email.getLastError()).isEqualTo("SMTP unavailable");
+    }
+
+    @Test
+    void shouldGiveUpAfterMaxAttempts() {
+        EmailOutbox email = pendingEmail(2);
+        when(emailOutboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(any(), any(), any()))
+                .thenReturn(List.of(email));
+        doThrow(new MailSendException("SMTP unavailable")).when(emailService).sendBatch(anyList());
+
+        emailOutboxService.dispatchDueBatch();
+
+        assertThat(email.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(email.getAttempts()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldOnlyRetryMessagesThatFailedWithinBatch() {
+        EmailOutbox delivered = pendingEmail(0);
+        EmailOutbox rejected = pendingEmail(0);
+        rejected.setId(2L);
+        rejected.setRecipientEmail("Andy@gmail.com");
+        when(emailOutboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(any(), any(), any()))
+                .thenReturn(List.of(delivered, rejected));
+        doAnswer(invocation -> {
+            List<MimeMessagePreparator> messages = invocation.getArgument(0);
+            throw new MailSendException(Map.of(messages.get(1), new MessagingException("Mailbox unavailable")));
+        }).when(emailService).sendBatch(anyList());
+
+        int processed = emailOutboxService.dispatchDueBatch();
+
+        assertThat(processed).isEqualTo(2);
+        assertThat(delivered.getStatus()).isEqualTo(OutboxStatus.SENT);
+        assertThat(rejected.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(rejected.getAttempts()).isEqualTo(1);
+        assertThat(rejected.getLastError()).isEqualTo("Mailbox unavailable");
+    }
+
+    private EmailOutbox pendingEmail(int attempts) {
+        return EmailOutbox.builder()
+                .id(1L)
+                .recipientEmail("John@gmail.com")
+                .subject("Interview Invitation")
+                .body("body")
+                .status(OutboxStatus.PENDING)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now().minusSeconds(1))
+                .createdAt(LocalDateTime.now().minusMinutes(1))
+                .build();
+    }
+}
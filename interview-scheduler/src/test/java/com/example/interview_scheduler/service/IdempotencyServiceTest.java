@@ -0,0 +1,136 @@
+package com.example.interview_scheduler.service;
+
+import com.example.interview_scheduler.exception.BookingException;
+import com.example.interview_scheduler.model.dto.BookingResponseDTO;
+import com.example.interview_scheduler.model.entity.IdempotencyRecord;
+import com.example.interview_scheduler.model.enums.BookingStatus;
+import com.example.interview_scheduler.model.enums.MeetingPlatform;
+import com.example.interview_scheduler.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private IdempotencyService idempotencyService;
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        idempotencyService = new IdempotencyService(idempotencyRecordRepository, objectMapper);
+        ReflectionTestUtils.setField(idempotencyService, "ttlHours", 24L);
+    }
+
+    @Test
+    void shouldStoreResultOfFirstExecution() {
+        when(idempotencyRecordRepository.findByClientIdAndOperationAndIdempotencyKey("client-a", "createBooking", "key-1"))
+                .thenReturn(Optional.empty());
+
+        IdempotencyService.Result<BookingResponseDTO> result = execute("key-1", "request");
+
+        assertThat(result.replayed()).isFalse();
+        assertThat(executions).hasValue(1);
+        ArgumentCaptor<IdempotencyRecord> stored = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(idempotencyRecordRepository).saveAndFlush(stored.capture());
+        assertThat(stored.getValue().getResponseBody()).contains("\"candidateName\":\"John\"");
+    }
+
+    @Test
+    void shouldReplayStoredResultWithoutExecutingAgain() {
+        when(idempotencyRecordRepository.findByClientIdAndOperationAndIdempotencyKey("client-a", "createBooking", "key-1"))
+                .thenReturn(Optional.empty());
+        execute("key-1", "request");
+        ArgumentCaptor<IdempotencyRecord> stored = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(idempotencyRecordRepository).saveAndFlush(stored.capture());
+        when(idempotencyRecordRepository.findByClientIdAndOperationAndIdempotencyKey("client-a", "createBooking", "key-1"))
+                .thenReturn(Optional.of(stored.getValue()));
+
+        IdempotencyService.Result<BookingResponseDTO> replay = execute("key-1", "request");
+
+        assertThat(replay.replayed()).isTrue();
+        assertThat(replay.value()).isEqualTo(response());
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void shouldRejectKeyReusedForDifferentRequest() {
+        when(idempotencyRecordRepository.findByClientIdAndOperationAndIdempotencyKey("client-a", "createBooking", "key-1"))
+                .thenReturn(Optional.empty());
+        execute("key-1", "request");
+        ArgumentCaptor<IdempotencyRecord> stored = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(idempotencyRecordRepository).saveAndFlush(stored.capture());
+        when(idempotencyRecordRepository.findByClientIdAndOperationAndIdempotencyKey("client-a", "createBooking", "key-1"))
+                .thenReturn(Optional.of(stored.getValue()));
+
+        assertThrows(BookingException.class, () -> execute("key-1", "another request"));
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void shouldNotReplayKeyOfAnotherClient() {
+        when(idempotencyRecordRepository.findByClientIdAndOperationAndIdempotencyKey("client-a", "createBooking", "key-1"))
+                .thenReturn(Optional.empty());
+        when(idempotencyRecordRepository.findByClientIdAndOperationAndIdempotencyKey("client-b", "createBooking", "key-1"))
+                .thenReturn(Optional.empty());
+
+        execute("client-a", "key-1", "request");
+        IdempotencyService.Result<BookingResponseDTO> other = execute("client-b", "key-1", "request");
+
+        assertThat(other.replayed()).isFalse();
+        assertThat(executions).hasValue(2);
+        ArgumentCaptor<IdempotencyRecord> stored = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(idempotencyRecordRepository, times(2)).saveAndFlush(stored.capture());
+        assertThat(stored.getAllValues()).extracting(IdempotencyRecord::getClientId).containsExactly("client-a", "client-b");
+    }
+
+    @Test
+    void shouldReportConcurrentDuplicateAsConflict() {
+        when(idempotencyRecordRepository.findByClientIdAndOperationAndIdempotencyKey("client-a", "createBooking", "key-1"))
+                .thenReturn(Optional.empty());
+        when(idempotencyRecordRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        BookingException e = assertThrows(BookingException.class, () -> execute("key-1", "request"));
+
+        assertThat(e.getReason()).isEqualTo(BookingException.Reason.CONFLICT);
+    }
+
+    private IdempotencyService.Result<BookingResponseDTO> execute(String key, Object request) {
+        return execute("client-a", key, request);
+    }
+
+    private IdempotencyService.Result<BookingResponseDTO> execute(String clientId, String key, Object request) {
+        return idempotencyService.execute("createBooking", clientId, key, request, BookingResponseDTO.class, () -> {
+            executions.incrementAndGet();
+            return response();
+        });
+    }
+
+    private static BookingResponseDTO response() {
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 10, 0);
+        return new BookingResponseDTO(1L, "John", "Andy", start, start.plusHours(1),
+                MeetingPlatform.GOOGLE, BookingStatus.PENDING, 0L, List.of());
+    }
+}
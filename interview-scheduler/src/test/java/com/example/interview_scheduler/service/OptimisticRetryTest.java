@@ -0,0 +1,50 @@
+package com.example.interview_scheduler.service;
+
+import com.example.interview_scheduler.exception.BookingException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OptimisticRetryTest {
+
+    private final OptimisticRetry optimisticRetry = new OptimisticRetry(3);
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @Test
+    void shouldRunAgainAfterConflict() {
+        String result = optimisticRetry.run(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new OptimisticLockingFailureException("conflict");
+            }
+            return "done";
+        });
+
+        assertThat(result).isEqualTo("done");
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void shouldReportConflictOnceAttemptsRunOut() {
+        BookingException e = assertThrows(BookingException.class, () -> optimisticRetry.run(() -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("conflict");
+        }));
+
+        assertThat(e.getReason()).isEqualTo(BookingException.Reason.CONFLICT);
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void shouldNotRetryOtherFailures() {
+        assertThrows(BookingException.class, () -> optimisticRetry.run(() -> {
+            attempts.incrementAndGet();
+            throw new BookingException(BookingException.Reason.NOT_FOUND, "Booking not found");
+        }));
+
+        assertThat(attempts).hasValue(1);
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.interview_scheduler.store;
+
+import com.example.interview_scheduler.model.dto.BookingFilterDTO;
+import com.example.interview_scheduler.model.dto.BookingSummaryDTO;
+import com.example.interview_scheduler.model.entity.Booking;
+import com.example.interview_scheduler.model.entity.InviteResponse;
+import com.example.interview_scheduler.model.enums.BookingStatus;
+import com.example.interview_scheduler.model.enums.MeetingPlatform;
+import com.example.interview_scheduler.model.enums.ResponseStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InMemoryBookingStoreTest {
+
+    private static final LocalDateTime START = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final TransactionTemplate transaction = new TransactionTemplate(new NoOpTransactionManager());
+    private final DataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void shouldFindOverlapsThroughSlotIndexesAndIgnoreInactiveBookings() throws IOException {
+        InMemoryBookingStore store = newStore("");
+        Booking first = booking("John", "Andy", START, 60);
+        Booking rejected = booking("Mary", "Andy", START.plusHours(2), 60);
+        rejected.setStatus(BookingStatus.REJECTED);
+        store.insert(List.of(first, rejected));
+
+        assertThat(first.getId()).isEqualTo(1L);
+        assertThat(first.getResponses().get(0).getId()).isEqualTo(1L);
+        assertThat(store.existsOverlappingForInterviewer("Andy", START.plusMinutes(30), START.plusMinutes(90))).isTrue();
+        assertThat(store.existsOverlappingForCandidate("John", START.minusMinutes(30), START.plusMinutes(1))).isTrue();
+        assertThat(store.existsOverlappingForInterviewer("Andy", START.plusHours(1), START.plusHours(2))).isFalse();
+        assertThat(store.existsOverlappingForInterviewer("Andy", START.plusHours(2), START.plusHours(3))).isFalse();
+        assertThat(store.findActiveSlots(List.of("Andy"), List.of("John"), START, START.plusHours(3)))
+                .singleElement()
+                .satisfies(slot -> assertThat(slot.candidateName()).isEqualTo("John"));
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> store.insert(List.of(booking("Paul", "Andy", START.plusMinutes(59), 30))));
+    }
+
+    @Test
+    void shouldPublishWritesOnCommitAndRejectStaleVersions() throws IOException {
+        InMemoryBookingStore store = newStore("");
+        Booking booking = booking("John", "Andy", START, 60);
+
+        transaction.executeWithoutResult(status -> {
+            store.insert(List.of(booking));
+            assertThat(store.findWithResponses(booking.getId())).isPresent();
+            assertThat(store.existsOverlappingForInterviewer("Andy", START, START.plusHours(1))).isFalse();
+        });
+        assertThat(store.existsOverlappingForInterviewer("Andy", START, START.plusHours(1))).isTrue();
+
+        Booking loaded = transaction.execute(status -> {
+            Booking locked = store.find(booking.getId()).orElseThrow();
+            store.findInvite(locked, "JOHN@example.com").orElseThrow().setResponseStatus(ResponseStatus.ACCEPTED);
+            locked.setStatus(BookingStatus.ACCEPTED);
+            store.update(locked);
+            return locked;
+        });
+        assertThat(loaded.getVersion()).isEqualTo(1L);
+        Booking stored = store.findWithResponses(booking.getId()).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(BookingStatus.ACCEPTED);
+        assertThat(stored.getResponses().get(0).getResponseStatus()).isEqualTo(ResponseStatus.ACCEPTED);
+        assertThat(stored.getResponses().get(0).getVersion()).isEqualTo(1L);
+
+        booking.setStatus(BookingStatus.REJECTED);
+        assertThrows(OptimisticLockingFailureException.class, () -> store.update(booking));
+
+        transaction.executeWithoutResult(status -> {
+            Booking locked = store.find(booking.getId()).orElseThrow();
+            locked.setStatus(BookingStatus.REJECTED);
+            store.update(locked);
+            status.setRollbackOnly();
+        });
+        assertThat(store.findWithResponses(booking.getId()).orElseThrow().getStatus()).isEqualTo(BookingStatus.ACCEPTED);
+    }
+
+    @Test
+    void shouldPageSummariesByStartTimeAndId() throws IOException {
+        InMemoryBookingStore store = newStore("");
+        store.insert(List.of(
+                booking("John", "Andy", START.plusHours(2), 60),
+                booking("Mary", "Andy", START, 60),
+                booking("Paul", "Bob", START, 60),
+                booking("Lisa", "Andy", START.plusHours(1), 60)));
+        BookingFilterDTO andy = new BookingFilterDTO("Andy", null, null, null, null, null);
+
+        List<BookingSummaryDTO> first = store.findSummaries(andy, null, null, 2);
+        assertThat(first).extracting(BookingSummaryDTO::candidateName).containsExactly("Mary", "Lisa");
+
+        BookingSummaryDTO last = first.get(1);
+        assertThat(store.findSummaries(andy, last.proposedDateTime(), last.id(), 2))
+                .extracting(BookingSummaryDTO::candidateName).containsExactly("John");
+        assertThat(store.findSummaries(new BookingFilterDTO(null, null, null, MeetingPlatform.GOOGLE, START, START.plusHours(1)),
+                null, null, 10))
+                .extracting(BookingSummaryDTO::candidateName).containsExactly("Mary", "Paul");
+    }
+
+    @Test
+    void shouldRecoverCommittedStateFromLog() throws IOException {
+        Path log = directory.resolve("bookings.wal");
+        InMemoryBookingStore store = newStore(log.toString());
+        Booking booking = booking("John", "Andy", START, 60);
+        store.insert(List.of(booking));
+        Booking loaded = store.findWithResponses(booking.getId()).orElseThrow();
+        loaded.setStatus(BookingStatus.ACCEPTED);
+        store.update(loaded);
+        store.destroy();
+        Files.writeString(log, "[{\"id\":", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        InMemoryBookingStore recovered = newStore(log.toString());
+        Booking restored = recovered.findWithResponses(booking.getId()).orElseThrow();
+        assertThat(restored.getStatus()).isEqualTo(BookingStatus.ACCEPTED);
+        assertThat(restored.getVersion()).isEqualTo(1L);
+        assertThat(restored.getResponses()).extracting(InviteResponse::getRecipientEmail).containsExactly("john@example.com");
+        assertThat(recovered.existsOverlappingForInterviewer("Andy", START, START.plusMinutes(30))).isTrue();
+
+        Booking next = booking("Mary", "Bob", START, 60);
+        recovered.insert(List.of(next));
+        // The restart skipped the rest of the first block.
+        assertThat(next.getId()).isEqualTo(SequenceIdBlocks.BLOCK_SIZE + 1L);
+        recovered.destroy();
+        assertThat(Files.readAllLines(log)).hasSize(2);
+    }
+
+    @Test
+    void shouldNotReuseIdsAfterRestartWithoutLog() throws IOException {
+        Booking before = booking("John", "Andy", START, 60);
+        newStore("").insert(List.of(before));
+
+        Booking after = booking("John", "Andy", START, 60);
+        newStore("").insert(List.of(after));
+
+        assertThat(after.getId()).isGreaterThan(before.getId());
+        assertThat(after.getResponses().get(0).getId()).isGreaterThan(before.getResponses().get(0).getId());
+    }
+
+    @Test
+    void shouldKeepIdsDenseAfterManyRestarts() throws IOException {
+        long restarts = 100_000;
+        newStore("");
+        new JdbcTemplate(dataSource).execute("ALTER SEQUENCE booking_store_booking_id_seq RESTART WITH "
+                + (restarts * SequenceIdBlocks.BLOCK_SIZE + 1));
+
+        InMemoryBookingStore store = newStore("");
+        Booking booking = booking("John", "Andy", START, 60);
+        store.insert(List.of(booking));
+
+        assertThat(booking.getId()).isEqualTo(restarts * SequenceIdBlocks.BLOCK_SIZE + 1);
+        assertThat(store.findWithResponses(booking.getId())).isPresent();
+        // One slot per 4096 ids: about 200 KB of directory after 100,000 restarts.
+        assertThat(store.bookingTableDirectoryLength()).isLessThanOrEqualTo(1 << 16);
+    }
+
+    private InMemoryBookingStore newStore(String walPath) throws IOException {
+        return new InMemoryBookingStore(objectMapper, dataSource, walPath, false, 16, 1000);
+    }
+
+    private static Booking booking(String candidate, String interviewer, LocalDateTime start, int minutes) {
+        Booking booking = Booking.builder()
+                .candidateName(candidate)
+                .interviewerName(interviewer)
+                .proposedDateTime(start)
+                .durationMinutes(minutes)
+                .endDateTime(start.plusMinutes(minutes))
+                .platform(MeetingPlatform.GOOGLE)
+                .status(BookingStatus.PENDING)
+                .inviteCount(1)
+                .build();
+        booking.getResponses().add(InviteResponse.builder()
+                .recipientEmail(candidate.toLowerCase() + "@example.com")
+                .responseStatus(ResponseStatus.PENDING)
+                .booking(booking)
+                .build());
+        return booking;
+    }
+
+    /**
+     * Drives transaction synchronisation without a resource behind it.
+     */
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1 @@
+CREATE SEQUENCE IF NOT EXISTS booking_change_seq^;
@@ -0,0 +1,72 @@
+#!/usr/bin/env bash
+# Compares time to first successful request and resident memory (RSS) of the
+# application started from the plain jar and from the fast-startup build
+# (Spring AOT plus the AppCDS archive). Build it first:
+#
+#   mvn -Pfast-startup package -DskipTests -Dcds.training.args="<same arguments as below>"
+#
+# Arguments are passed to the application, e.g. the datasource to use:
+#
+#   ./startup-benchmark.sh --spring.datasource.url=jdbc:postgresql://db:5432/interviews
+#
+# RUNS (5), URL (http://localhost:8081/bookings?size=1) and JAVA_OPTS can be set
+# in the environment; JAVA_OPTS must match cds.training.jvm-args for the archive
+# to be used.
+set -euo pipefail
+
+cd "$(dirname "$0")"
+RUNS="${RUNS:-5}"
+URL="${URL:-http://localhost:8081/bookings?size=1}"
+JAVA_OPTS="${JAVA_OPTS:-}"
+
+jar=$(ls target/interview-scheduler-*.jar | grep -v '\.original$' | head -n 1)
+extracted="target/application/$(basename "$jar")"
+archive="target/application/application.jsa"
+if [[ ! -f "$extracted" || ! -f "$archive" ]]; then
+    echo "Missing $extracted or $archive; build with -Pfast-startup first." >&2
+    exit 1
+fi
+
+# Starts the JVM with the given arguments and prints the milliseconds until URL
+# first answers 2xx, followed by the process's RSS in MB at that moment.
+measure() {
+    local log=$1
+    shift
+    local start end pid rss
+    start=$(date +%s%N)
+    # shellcheck disable=SC2086
+    java $JAVA_OPTS "$@" >"$log" 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null "$URL"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "Application exited before answering; see $log" >&2
+            return 1
+        fi
+        sleep 0.02
+    done
+    end=$(date +%s%N)
+    rss=$(awk '/^VmRSS/ {print $2}' "/proc/$pid/status")
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    echo "$(((end - start) / 1000000)) $((rss / 1024))"
+}
+
+median() {
+    printf '%s\n' "$@" | sort -n | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }'
+}
+
+run() {
+    local label=$1
+    shift
+    local times=() rss=() result
+    for ((i = 0; i < RUNS; i++)); do
+        result=$(measure "target/startup-$label.log" "$@")
+        times+=("${result% *}")
+        rss+=("${result#* }")
+    done
+    printf '%-9s first request %6s ms   RSS %5s MB   (median of %d runs)\n' \
+        "$label" "$(median "${times[@]}")" "$(median "${rss[@]}")" "$RUNS"
+}
+
+run baseline -jar "$jar" "$@"
+run fast -XX:SharedArchiveFile="$archive" -Dspring.aot.enabled=true -jar "$extracted" "$@"